@@ -0,0 +1,224 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.MockEmployeeApiConfig;
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * AIMD concurrency limit for calls to the mock employee api, shared between {@link UpstreamPriority} classes.
+ *
+ * <p>Free permits always go to the highest-priority class that is waiting, and each class may hold at most its
+ * configured share of the current limit, so background work can never occupy the slots user requests need. Callers
+ * that cannot get a permit wait in a bounded queue and are shed with {@link UpstreamOverloadedException} when the
+ * queue is full or the wait times out.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int MIN_RTT_WINDOW = 500;
+    private static final UpstreamPriority[] PRIORITIES = UpstreamPriority.values();
+
+    private final MockEmployeeApiConfig.Concurrency settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UpstreamPriority, PriorityClass> classes = new EnumMap<>(UpstreamPriority.class);
+
+    private volatile double limit;
+    private volatile int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int rttSamples;
+
+    public AdaptiveConcurrencyLimiter(MockEmployeeApiConfig properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getConcurrency();
+        this.limit = settings.getInitialLimit();
+
+        Gauge.builder("upstream.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit on concurrent upstream calls")
+                .register(meterRegistry);
+        Gauge.builder("upstream.concurrency.in_flight", this, limiter -> limiter.inFlight)
+                .register(meterRegistry);
+        for (UpstreamPriority priority : PRIORITIES) {
+            classes.put(priority, new PriorityClass(priority, share(priority), meterRegistry));
+        }
+    }
+
+    /**
+     * Blocks until a permit is available to {@code priority} under the current limit.
+     *
+     * @throws UpstreamOverloadedException if the wait queue is full or no permit frees up in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(UpstreamPriority priority) throws UpstreamOverloadedException, InterruptedException {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        PriorityClass waiter = classes.get(priority);
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (!canRun(priority)) {
+                if (queued() >= settings.getMaxQueueSize()) {
+                    throw shed(waiter, "queue is full");
+                }
+                waiter.queued++;
+                try {
+                    long remaining = settings.getMaxQueueWait().toNanos();
+                    while (!canRun(priority)) {
+                        if (remaining <= 0) {
+                            throw shed(waiter, "timed out waiting for a permit");
+                        }
+                        remaining = waiter.turn.awaitNanos(remaining);
+                    }
+                } finally {
+                    waiter.queued--;
+                }
+            }
+            inFlight++;
+            waiter.inFlight++;
+            signalWaiters();
+        } finally {
+            lock.unlock();
+        }
+        waiter.waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns a permit held by {@code priority} and adapts the limit to how the call went.
+     *
+     * @param overloaded whether upstream pushed back (429) or the call failed
+     * @param rttNanos how long the call took
+     */
+    public void release(UpstreamPriority priority, boolean overloaded, long rttNanos) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            classes.get(priority).inFlight--;
+            double previous = limit;
+            if (overloaded || isSlow(rttNanos)) {
+                limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+            } else {
+                limit = Math.min(settings.getMaxLimit(), limit + 1.0 / limit);
+            }
+            if ((int) previous != (int) limit) {
+                log.debug("Upstream concurrency limit changed from {} to {}", (int) previous, (int) limit);
+            }
+            signalWaiters();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    private boolean canRun(UpstreamPriority priority) {
+        if (!hasCapacity(priority)) {
+            return false;
+        }
+        // Strict priority: yield to any more important class that is waiting and could use the permit itself.
+        for (int higher = 0; higher < priority.ordinal(); higher++) {
+            if (classes.get(PRIORITIES[higher]).queued > 0 && hasCapacity(PRIORITIES[higher])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasCapacity(UpstreamPriority priority) {
+        PriorityClass priorityClass = classes.get(priority);
+        int classPermits = Math.max(1, (int) (permits() * priorityClass.share));
+        return inFlight < permits() && priorityClass.inFlight < classPermits;
+    }
+
+    private void signalWaiters() {
+        for (PriorityClass priorityClass : classes.values()) {
+            if (priorityClass.queued > 0) {
+                priorityClass.turn.signalAll();
+            }
+        }
+    }
+
+    private int queued() {
+        int queued = 0;
+        for (PriorityClass priorityClass : classes.values()) {
+            queued += priorityClass.queued;
+        }
+        return queued;
+    }
+
+    private boolean isSlow(long rttNanos) {
+        if (++rttSamples > MIN_RTT_WINDOW) {
+            rttSamples = 1;
+            minRttNanos = Long.MAX_VALUE;
+        }
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        return rttNanos > minRttNanos * settings.getLatencyTolerance();
+    }
+
+    private int permits() {
+        return (int) limit;
+    }
+
+    private double share(UpstreamPriority priority) {
+        return switch (priority) {
+            case USER_WRITE -> settings.getWriteShare();
+            case USER_READ -> settings.getReadShare();
+            case BACKGROUND -> settings.getBackgroundShare();
+        };
+    }
+
+    private UpstreamOverloadedException shed(PriorityClass priorityClass, String reason) {
+        priorityClass.rejected.increment();
+        log.warn(
+                "Shedding {} upstream call: {} (limit {}, in flight {})",
+                priorityClass.priority,
+                reason,
+                permits(),
+                inFlight);
+        return new UpstreamOverloadedException("Upstream concurrency limit reached: " + reason);
+    }
+
+    private class PriorityClass {
+        private final UpstreamPriority priority;
+        private final double share;
+        private final Condition turn = lock.newCondition();
+        private final Counter rejected;
+        private final Timer waitTime;
+        private volatile int queued;
+        private volatile int inFlight;
+
+        PriorityClass(UpstreamPriority priority, double share, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            this.share = share;
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("upstream.scheduler.queued", this, priorityClass -> priorityClass.queued)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("upstream.scheduler.in_flight", this, priorityClass -> priorityClass.inFlight)
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("upstream.scheduler.rejected")
+                    .tag("priority", tag)
+                    .description("Upstream calls shed by the scheduler")
+                    .register(meterRegistry);
+            this.waitTime = Timer.builder("upstream.scheduler.wait")
+                    .tag("priority", tag)
+                    .description("Time spent queueing for an upstream permit")
+                    .register(meterRegistry);
+        }
+    }
+}
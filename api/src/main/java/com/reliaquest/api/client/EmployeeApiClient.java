@@ -3,6 +3,7 @@ package com.reliaquest.api.client;
 import com.reliaquest.api.common.ApiResponse;
 import com.reliaquest.api.config.MockEmployeeApiConfig;
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.jfr.UpstreamCallEvent;
 import com.reliaquest.api.model.Employee;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
@@ -25,10 +27,12 @@ public class EmployeeApiClient {
 
     private final RestTemplate restTemplate;
     private final MockEmployeeApiConfig properties;
+    private final RequestHedger requestHedger;
 
-    public EmployeeApiClient(RestTemplate restTemplate, MockEmployeeApiConfig properties) {
+    public EmployeeApiClient(RestTemplate restTemplate, MockEmployeeApiConfig properties, RequestHedger requestHedger) {
         this.restTemplate = restTemplate;
         this.properties = properties;
+        this.requestHedger = requestHedger;
     }
 
     public Employee createEmployee(EmployeeInput input) {
@@ -37,8 +41,12 @@ public class EmployeeApiClient {
 
             HttpEntity<EmployeeInput> request = new HttpEntity<>(input);
 
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    properties.getUrl(), HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+            ResponseEntity<ApiResponse<Employee>> response = exchange(
+                    "createEmployee",
+                    properties.getUrl(),
+                    HttpMethod.POST,
+                    request,
+                    new ParameterizedTypeReference<>() {});
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 Employee created = response.getBody().getData();
@@ -56,32 +64,110 @@ public class EmployeeApiClient {
 
     public List<Employee> getAllEmployees() {
         try {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    properties.getUrl(), HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-
-            return Optional.ofNullable(response.getBody())
-                    .map(ApiResponse::getData)
-                    .orElse(Collections.emptyList());
+            return fetchAllEmployees();
         } catch (Exception e) {
             log.error("Failed to fetch employees from API", e);
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Like {@link #getAllEmployees()}, but lets failures propagate so that they cannot be mistaken for an empty
+     * directory.
+     */
+    public List<Employee> fetchAllEmployees() {
+        ResponseEntity<ApiResponse<List<Employee>>> response = exchange(
+                "getAllEmployees", properties.getUrl(), HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        return Optional.ofNullable(response.getBody())
+                .map(ApiResponse::getData)
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Name search evaluated by upstream, which returns only the matches instead of the whole directory.
+     */
+    public List<Employee> searchEmployeesByName(String searchString) {
+        ResponseEntity<ApiResponse<List<Employee>>> response = exchange(
+                "searchEmployeesByName",
+                properties.getUrl() + "/search?name={name}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {},
+                searchString);
+
+        return Optional.ofNullable(response.getBody())
+                .map(ApiResponse::getData)
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * @return the highest salary as computed by upstream, or {@code null} when it has no employees
+     */
+    public Integer findHighestSalary() {
+        ResponseEntity<ApiResponse<Integer>> response = exchange(
+                "findHighestSalary",
+                properties.getUrl() + "/max?by=salary",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {});
+
+        return Optional.ofNullable(response.getBody()).map(ApiResponse::getData).orElse(null);
+    }
+
+    /**
+     * @return the {@code limit} highest earners as selected by upstream, highest first
+     */
+    public List<Employee> findTopEmployeesBySalary(int limit) {
+        ResponseEntity<ApiResponse<List<Employee>>> response = exchange(
+                "findTopEmployeesBySalary",
+                properties.getUrl() + "/top?by=salary&limit={limit}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {},
+                limit);
+
+        return Optional.ofNullable(response.getBody())
+                .map(ApiResponse::getData)
+                .orElse(Collections.emptyList());
+    }
+
     public Employee getEmployeeById(String id) {
         try {
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    properties.getUrl() + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-            return Optional.ofNullable(response.getBody())
-                    .map(ApiResponse::getData)
-                    .orElse(null);
+            return findEmployeeById(id).orElse(null);
         } catch (Exception e) {
             log.error("Failed to fetch employee {}", id, e);
             return null;
         }
     }
 
+    /**
+     * Hedged lookup that tells an employee upstream does not have (empty) apart from a failed call (exception).
+     */
+    public Optional<Employee> findEmployeeById(String id) {
+        return requestHedger.execute(() -> fetchEmployeeById(id));
+    }
+
+    private Optional<Employee> fetchEmployeeById(String id) {
+        try {
+            ResponseEntity<ApiResponse<Employee>> response = exchange(
+                    "getEmployeeById",
+                    properties.getUrl() + "/" + id,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {});
+            return Optional.ofNullable(response.getBody()).map(ApiResponse::getData);
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
     public String deleteEmployeeById(String id) {
+        // The lookup preceding the DELETE is part of the user's write and is scheduled as such.
+        return UpstreamPriority.callAs(UpstreamPriority.USER_WRITE, () -> delete(id));
+    }
+
+    private String delete(String id) {
         try {
             Employee employee = getEmployeeById(id);
             if (employee == null
@@ -98,8 +184,12 @@ public class EmployeeApiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
 
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    properties.getUrl(), HttpMethod.DELETE, request, new ParameterizedTypeReference<>() {});
+            ResponseEntity<ApiResponse<Boolean>> response = exchange(
+                    "deleteEmployee",
+                    properties.getUrl(),
+                    HttpMethod.DELETE,
+                    request,
+                    new ParameterizedTypeReference<>() {});
 
             ApiResponse<Boolean> apiResponse = response.getBody();
             boolean deleted = apiResponse != null && Boolean.TRUE.equals(apiResponse.getData());
@@ -120,4 +210,28 @@ public class EmployeeApiClient {
             return null;
         }
     }
+
+    /**
+     * {@link RestTemplate#exchange} recorded as an {@link UpstreamCallEvent} for {@code operation}.
+     */
+    private <T> ResponseEntity<T> exchange(
+            String operation,
+            String url,
+            HttpMethod method,
+            HttpEntity<?> request,
+            ParameterizedTypeReference<T> responseType,
+            Object... uriVariables) {
+        UpstreamCallEvent event = UpstreamCallEvent.begin(operation);
+        int status = 0;
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(url, method, request, responseType, uriVariables);
+            status = response.getStatusCode().value();
+            return response;
+        } catch (HttpStatusCodeException e) {
+            status = e.getStatusCode().value();
+            throw e;
+        } finally {
+            event.end(status);
+        }
+    }
 }
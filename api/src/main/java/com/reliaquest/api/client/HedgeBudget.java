@@ -0,0 +1,30 @@
+package com.reliaquest.api.client;
+
+/**
+ * Retry-budget style allowance for hedged requests: every primary request deposits {@code ratio} tokens (capped at
+ * {@code maxTokens}) and every hedge withdraws one, so hedges can never add more than {@code ratio} extra upstream
+ * traffic however slow upstream gets.
+ */
+class HedgeBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    HedgeBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.client;
+
+import java.util.Map;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Leases permits from the coordinating replica's {@code /internal/rate-budget/leases} endpoint.
+ */
+public class HttpRateLeaseSource implements RateLeaseSource {
+
+    public static final String LEASES_PATH = "/internal/rate-budget/leases";
+
+    private final RestTemplate restTemplate;
+    private final String coordinatorUrl;
+
+    public HttpRateLeaseSource(RestTemplate restTemplate, String coordinatorUrl) {
+        this.restTemplate = restTemplate;
+        this.coordinatorUrl = coordinatorUrl;
+    }
+
+    @Override
+    public RateLease lease(String nodeId, int requested, UpstreamPriority priority) {
+        return restTemplate.postForObject(
+                coordinatorUrl + LEASES_PATH,
+                Map.of("nodeId", nodeId, "requested", requested, "priority", priority),
+                RateLease.class);
+    }
+}
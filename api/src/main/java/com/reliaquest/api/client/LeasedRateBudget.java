@@ -0,0 +1,140 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A replica's view of the fleet-wide rate budget: spends permits leased from a {@link RateLeaseSource} and asks for
+ * more once they run out or expire. When the coordinator cannot be reached no permits are granted, so the fleet fails
+ * closed rather than overrunning upstream.
+ *
+ * <p>Leases are asked for on behalf of the request that needs a permit, so the coordinator can hold back the shares
+ * reserved for more important classes. Permits left over from a lease go to whichever request asks next; with a
+ * {@code leaseSize} above one the shares therefore hold per lease rather than per request.
+ */
+@Slf4j
+public class LeasedRateBudget implements RateBudget {
+
+    private static final long COORDINATOR_RETRY_MILLIS = 1000;
+
+    private final String nodeId;
+    private final RateLeaseSource leaseSource;
+    private final int leaseSize;
+    private final Duration maxWait;
+    private final Clock clock;
+
+    private int permits;
+    private long expiresAtMillis;
+    /** By priority: until when the coordinator has nothing left for that class, and so for any less important one. */
+    private final long[] deniedUntilMillis = new long[UpstreamPriority.values().length];
+    /** Released once the lease request under way, if any, has been answered. */
+    private CountDownLatch pendingLease;
+
+    public LeasedRateBudget(String nodeId, RateLeaseSource leaseSource, int leaseSize, Duration maxWait, Clock clock) {
+        this.nodeId = nodeId;
+        this.leaseSource = leaseSource;
+        this.leaseSize = leaseSize;
+        this.maxWait = maxWait;
+        this.clock = clock;
+    }
+
+    @Override
+    public void acquire(UpstreamPriority priority) throws UpstreamOverloadedException, InterruptedException {
+        long deadline = clock.millis() + maxWait.toMillis();
+        while (!take(priority, true)) {
+            long retryAt;
+            synchronized (this) {
+                retryAt = deniedUntilMillis[priority.ordinal()];
+            }
+            long now = clock.millis();
+            if (retryAt > deadline) {
+                throw new UpstreamOverloadedException("Upstream rate budget exhausted for " + maxWait);
+            }
+            Thread.sleep(Math.max(1, retryAt - now));
+        }
+    }
+
+    /**
+     * Does not wait for a lease another thread is asking for, so returns {@code false} while one is under way.
+     */
+    @Override
+    public boolean tryAcquire(UpstreamPriority priority) {
+        try {
+            return take(priority, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Takes a leased permit, or else asks the coordinator for more. The request to the coordinator is made outside the
+     * monitor, by one thread at a time: threads that find one under way wait for its outcome instead of sending their
+     * own, and never hold up threads that only spend permits already leased.
+     *
+     * @param awaitPendingLease whether to wait for a lease another thread is asking for rather than give up
+     */
+    private boolean take(UpstreamPriority priority, boolean awaitPendingLease) throws InterruptedException {
+        CountDownLatch pending;
+        synchronized (this) {
+            if (takeLeased()) {
+                return true;
+            }
+            if (clock.millis() < deniedUntilMillis[priority.ordinal()]) {
+                // The coordinator had nothing left for this class in its current window.
+                return false;
+            }
+            pending = pendingLease;
+            if (pending == null) {
+                pendingLease = new CountDownLatch(1);
+            }
+        }
+        if (pending == null) {
+            return leaseAndTake(priority);
+        }
+        if (!awaitPendingLease) {
+            return false;
+        }
+        pending.await();
+        synchronized (this) {
+            return takeLeased();
+        }
+    }
+
+    private boolean takeLeased() {
+        if (permits > 0 && clock.millis() < expiresAtMillis) {
+            permits--;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean leaseAndTake(UpstreamPriority priority) {
+        long now = clock.millis();
+        RateLease lease = new RateLease(0, COORDINATOR_RETRY_MILLIS);
+        boolean taken = false;
+        try {
+            lease = leaseSource.lease(nodeId, leaseSize, priority);
+        } catch (Exception e) {
+            log.warn("Failed to lease upstream permits, retrying in {} ms", COORDINATOR_RETRY_MILLIS, e);
+        } finally {
+            synchronized (this) {
+                permits = lease.granted();
+                expiresAtMillis = now + lease.validForMillis();
+                if (permits == 0) {
+                    for (int denied = priority.ordinal(); denied < deniedUntilMillis.length; denied++) {
+                        deniedUntilMillis[denied] = Math.max(deniedUntilMillis[denied], expiresAtMillis);
+                    }
+                }
+                // Take ours before the threads waiting on the lease get to it.
+                taken = takeLeased();
+                pendingLease.countDown();
+                pendingLease = null;
+            }
+        }
+        return taken;
+    }
+}
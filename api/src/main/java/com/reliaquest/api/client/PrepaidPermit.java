@@ -0,0 +1,36 @@
+package com.reliaquest.api.client;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the next upstream request on the current thread as already paid for from the {@link RateBudget}, for callers
+ * that must reserve a permit before deciding to send a request at all.
+ */
+public final class PrepaidPermit {
+
+    private static final ThreadLocal<Boolean> PREPAID = new ThreadLocal<>();
+
+    private PrepaidPermit() {}
+
+    public static <T> Supplier<T> wrap(Supplier<T> call) {
+        return () -> {
+            PREPAID.set(Boolean.TRUE);
+            try {
+                return call.get();
+            } finally {
+                PREPAID.remove();
+            }
+        };
+    }
+
+    /**
+     * @return whether a prepaid permit was available, using it up
+     */
+    public static boolean consume() {
+        if (PREPAID.get() == null) {
+            return false;
+        }
+        PREPAID.remove();
+        return true;
+    }
+}
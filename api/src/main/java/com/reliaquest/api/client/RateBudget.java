@@ -0,0 +1,35 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+
+/**
+ * Client-side budget of requests the api may send upstream. Part of the budget may be held back for more important
+ * {@link UpstreamPriority} classes, so a permit that one class is refused may still be there for another.
+ */
+public interface RateBudget {
+
+    RateBudget UNLIMITED = new RateBudget() {
+        @Override
+        public void acquire(UpstreamPriority priority) {}
+
+        @Override
+        public boolean tryAcquire(UpstreamPriority priority) {
+            return true;
+        }
+    };
+
+    /**
+     * Blocks until the budget allows one more upstream request of {@code priority}.
+     *
+     * @throws UpstreamOverloadedException if no permit becomes available within the configured wait
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void acquire(UpstreamPriority priority) throws UpstreamOverloadedException, InterruptedException;
+
+    /**
+     * Takes a permit for a request of {@code priority} only if one is available right away.
+     *
+     * @return whether a permit was taken
+     */
+    boolean tryAcquire(UpstreamPriority priority);
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.client;
+
+/**
+ * Permits granted to one replica out of the fleet-wide rate budget.
+ *
+ * @param granted the number of upstream requests the replica may send
+ * @param validForMillis how long the permits stay valid; also when to ask again if none were granted
+ */
+public record RateLease(int granted, long validForMillis) {}
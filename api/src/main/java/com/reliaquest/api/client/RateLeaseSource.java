@@ -0,0 +1,15 @@
+package com.reliaquest.api.client;
+
+/**
+ * Hands out leases on the fleet-wide upstream rate budget.
+ */
+public interface RateLeaseSource {
+
+    /**
+     * @param nodeId the replica asking for permits
+     * @param requested how many permits the replica would like
+     * @param priority the class of the request the replica needs the permits for
+     * @return the lease, possibly granting fewer permits than requested or none at all
+     */
+    RateLease lease(String nodeId, int requested, UpstreamPriority priority);
+}
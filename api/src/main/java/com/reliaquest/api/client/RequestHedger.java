@@ -0,0 +1,147 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import com.reliaquest.api.config.MockEmployeeApiConfig;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues a second, identical upstream call when the first has been outstanding for longer than the configured latency
+ * percentile, returns whichever succeeds first and cancels the other. Latencies are measured from the caller's side.
+ */
+@Slf4j
+@Component
+public class RequestHedger implements DisposableBean {
+
+    private final MockEmployeeApiConfig.Hedge settings;
+    private final LatencyWindow latencies;
+    private final HedgeBudget budget;
+    private final RateBudget rateBudget;
+    private final ExecutorService executor;
+
+    public RequestHedger(MockEmployeeApiConfig properties, RateBudget rateBudget) {
+        this.settings = properties.getHedge();
+        this.rateBudget = rateBudget;
+        this.latencies = new LatencyWindow(settings.getWindowSize());
+        this.budget = new HedgeBudget(settings.getBudgetRatio(), settings.getMaxBudget());
+        this.executor = settings.isEnabled() ? Executors.newCachedThreadPool(daemonThreads()) : null;
+    }
+
+    /**
+     * @return a hedger that simply runs calls on the caller's thread
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(new MockEmployeeApiConfig(), RateBudget.UNLIMITED);
+    }
+
+    /**
+     * Hedged attempts overlap on worker threads, so the caller's {@link RequestTimings} sees the whole exchange as one
+     * wall-clock upstream span rather than the sum of its attempts.
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (executor == null) {
+            return call.get();
+        }
+        return RequestTimings.time(Phase.UPSTREAM, () -> hedged(call));
+    }
+
+    private <T> T hedged(Supplier<T> call) {
+        Supplier<T> task = UpstreamPriority.propagate(call);
+
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        long primaryStart = System.nanoTime();
+        Future<T> primary = completion.submit(task::get);
+        Future<T> hedge = null;
+        long hedgeStart = 0;
+        budget.deposit();
+        try {
+            Future<T> done = completion.poll(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            // A hedge must fit both the hedge budget and the upstream rate budget right now; it never waits for either.
+            // Being optional, it only spends what background work may, never the share held back for primary calls.
+            if (done == null && budget.tryWithdraw() && rateBudget.tryAcquire(UpstreamPriority.BACKGROUND)) {
+                log.debug("Upstream call exceeded hedge delay, issuing hedged request");
+                Supplier<T> prepaid = PrepaidPermit.wrap(task);
+                hedgeStart = System.nanoTime();
+                hedge = completion.submit(prepaid::get);
+            }
+            // A failed attempt only decides the outcome once no other attempt is left that could still succeed.
+            int outstanding = hedge != null ? 2 : 1;
+            while (true) {
+                if (done == null) {
+                    done = completion.take();
+                }
+                outstanding--;
+                try {
+                    T result = done.get();
+                    latencies.record(System.nanoTime() - (done == primary ? primaryStart : hedgeStart));
+                    return result;
+                } catch (ExecutionException e) {
+                    if (outstanding == 0) {
+                        throw e;
+                    }
+                    log.debug("Hedged upstream attempt failed, waiting for the other one", e.getCause());
+                }
+                done = null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for upstream call");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            cancel(primary, primaryStart);
+            if (hedge != null) {
+                cancel(hedge, hedgeStart);
+            }
+        }
+    }
+
+    /**
+     * Cancels an attempt that lost, recording how long it had been running: it would have taken at least that long, and
+     * leaving slow losers out would drag the hedge-delay percentile down and make hedging ever more frequent.
+     */
+    private void cancel(Future<?> attempt, long start) {
+        if (attempt.cancel(true)) {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    long hedgeDelayNanos() {
+        long minDelay = settings.getMinDelay().toNanos();
+        if (latencies.size() < settings.getMinSamples()) {
+            return Math.max(minDelay, settings.getInitialDelay().toNanos());
+        }
+        return Math.max(minDelay, latencies.percentile(settings.getPercentile()));
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "upstream-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.client;
+
+import java.util.function.Supplier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+
+/**
+ * Scheduling class of an upstream call. Declaration order is priority order: user writes are served before user
+ * reads, which are served before background work.
+ */
+public enum UpstreamPriority {
+    USER_WRITE,
+    USER_READ,
+    BACKGROUND;
+
+    private static final ThreadLocal<UpstreamPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Runs {@code call} with every upstream request it makes scheduled as {@code priority}.
+     */
+    public static <T> T callAs(UpstreamPriority priority, Supplier<T> call) {
+        UpstreamPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Captures the caller's priority so that {@code call} keeps it when run on another thread.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        UpstreamPriority priority = CURRENT.get();
+        return priority == null ? call : () -> callAs(priority, call);
+    }
+
+    /**
+     * @return the explicitly assigned priority, or one derived from the HTTP method of {@code request}
+     */
+    public static UpstreamPriority of(HttpRequest request) {
+        UpstreamPriority priority = CURRENT.get();
+        if (priority != null) {
+            return priority;
+        }
+        HttpMethod method = request.getMethod();
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ? USER_READ : USER_WRITE;
+    }
+}
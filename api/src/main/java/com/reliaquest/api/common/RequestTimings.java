@@ -0,0 +1,199 @@
+package com.reliaquest.api.common;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Where the time of one api request went, by {@link Phase}. Phases are exclusive: time spent in a nested phase, e.g.
+ * upstream I/O during a cache miss, is counted there and not in the enclosing one.
+ *
+ * <p>The instance for the request being served is bound to the current thread by the server-timing filter; code on
+ * other threads sees it only when handed a task wrapped with {@link #propagate(Supplier)}. Recording without a bound
+ * instance, e.g. from a background refresh, is a no-op.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        CACHE("Snapshot cache"),
+        QUEUE("Waiting for an upstream permit"),
+        UPSTREAM("Upstream I/O"),
+        RETRY("Retry backoff"),
+        SERIALIZATION("Response serialization");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+
+        public String metricName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public String description() {
+            return description;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Frame> FRAMES = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<Phase, LongAdder> nanos = new EnumMap<>(Phase.class);
+    private volatile long serializationStartNanos;
+
+    public RequestTimings() {
+        for (Phase phase : Phase.values()) {
+            nanos.put(phase, new LongAdder());
+        }
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds {@code timings} to the current thread, returning the previously bound instance for {@link #restore}.
+     */
+    public static RequestTimings bind(RequestTimings timings) {
+        RequestTimings previous = CURRENT.get();
+        CURRENT.set(timings);
+        return previous;
+    }
+
+    public static void restore(RequestTimings previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs {@code work}, counting its duration towards {@code phase} minus any time recorded by nested phases.
+     */
+    public static <T> T time(Phase phase, Supplier<T> work) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return work.get();
+        }
+        Frame parent = FRAMES.get();
+        Frame frame = new Frame();
+        FRAMES.set(frame);
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timings.nanos.get(phase).add(Math.max(0, elapsed - frame.nestedNanos));
+            if (parent == null) {
+                FRAMES.remove();
+            } else {
+                parent.nestedNanos += elapsed;
+                FRAMES.set(parent);
+            }
+        }
+    }
+
+    /**
+     * Counts an already measured duration towards {@code phase}.
+     */
+    public static void record(Phase phase, long durationNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return;
+        }
+        timings.nanos.get(phase).add(durationNanos);
+        Frame frame = FRAMES.get();
+        if (frame != null) {
+            frame.nestedNanos += durationNanos;
+        }
+    }
+
+    /**
+     * Captures the caller's timings so that {@code call} keeps recording into them when run on another thread.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return call;
+        }
+        return () -> {
+            RequestTimings previous = bind(timings);
+            try {
+                return call.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * {@link Runnable} form of {@link #propagate(Supplier)}, usable as a task decorator.
+     */
+    public static Runnable propagate(Runnable task) {
+        Supplier<Void> call = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return call::get;
+    }
+
+    public void markSerializationStart() {
+        serializationStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Closes the serialization phase, if one was started, at the current time.
+     */
+    public void markSerializationEnd() {
+        long start = serializationStartNanos;
+        if (start != 0) {
+            nanos.get(Phase.SERIALIZATION).add(System.nanoTime() - start);
+            serializationStartNanos = 0;
+        }
+    }
+
+    public long nanos(Phase phase) {
+        return nanos.get(phase).sum();
+    }
+
+    public long totalNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return the {@code Server-Timing} header value: every phase that took any time, a serialization still under way
+     *     up to now, then the total
+     */
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        long serializationStart = serializationStartNanos;
+        for (Phase phase : Phase.values()) {
+            long phaseNanos = nanos(phase);
+            if (phase == Phase.SERIALIZATION && serializationStart != 0) {
+                phaseNanos += System.nanoTime() - serializationStart;
+            }
+            if (phaseNanos > 0) {
+                header.append(phase.metricName())
+                        .append(";dur=")
+                        .append(millis(phaseNanos))
+                        .append(";desc=\"")
+                        .append(phase.description())
+                        .append("\", ");
+            }
+        }
+        return header.append("total;dur=").append(millis(totalNanos())).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static final class Frame {
+        private long nestedNanos;
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.common.RequestTimings;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Worker pool for the async controller's blocking upstream calls. Requests waiting on a shared snapshot load hold no
+ * thread at all; only calls that actually go upstream occupy one of these.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.async")
+public class AsyncConfig {
+    private int poolSize = 16;
+    private int queueCapacity = 500;
+
+    @Bean
+    public ThreadPoolTaskExecutor upstreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upstream-async-");
+        executor.setDaemon(true);
+        executor.setTaskDecorator(RequestTimings::propagate);
+        return executor;
+    }
+}
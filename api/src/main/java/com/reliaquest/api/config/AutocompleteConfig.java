@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.model.AutocompleteRank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.autocomplete")
+public class AutocompleteConfig {
+    /** Ranking used when a request does not name one. */
+    private AutocompleteRank defaultRank = AutocompleteRank.NAME;
+
+    private int defaultLimit = 10;
+    /** Upper bound on suggestions per request; the index precomputes this many for popular prefixes. */
+    private int maxLimit = 20;
+
+    /*
+     * Builds the name indexes of new snapshots off the request threads, one at a time.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor autocompleteIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("autocomplete-index-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Keeps the employee snapshot loaded ahead of user requests: once at startup, then every {@code interval} in the
+ * background.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.cache-refresh")
+public class CacheRefreshConfig {
+    /** Load the snapshot before the application reports itself ready. */
+    private boolean warmUp = true;
+    /** Periodically replace the snapshot with a fresh copy from upstream. */
+    private boolean enabled = true;
+    private Duration interval = Duration.ofMinutes(5);
+
+    @Bean
+    public ThreadPoolTaskScheduler cacheRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("cache-refresh-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
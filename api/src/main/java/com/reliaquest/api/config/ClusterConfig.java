@@ -0,0 +1,22 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.cluster")
+public class ClusterConfig {
+    /** Base URLs of the other api replicas, e.g. {@code http://api-2:8111}. */
+    private List<String> peers = new ArrayList<>();
+
+    private Duration timeout = Duration.ofSeconds(2);
+    /** Shared by all replicas and required on the endpoints they call on each other, which are refused while unset. */
+    private String secret;
+}
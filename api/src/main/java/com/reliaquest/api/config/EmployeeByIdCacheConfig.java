@@ -0,0 +1,18 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.by-id-cache")
+public class EmployeeByIdCacheConfig {
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+    /** How long an id upstream answered 404 for is remembered as missing. */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -11,4 +12,50 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "mock.employee.api")
 public class MockEmployeeApiConfig {
     private String url;
+    /** Ask upstream for Smile-encoded responses; upstreams that only speak JSON keep answering in JSON. */
+    private boolean preferBinary = true;
+    /** Longest a rate limited call waits before each retry, however much longer {@code Retry-After} asks for. */
+    private Duration maxRetryAfter = Duration.ofSeconds(5);
+
+    private Hedge hedge = new Hedge();
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * Request hedging for single-employee lookups: once the first call has been outstanding for longer than the
+     * observed {@code percentile} latency, a second identical call is issued and the first to finish wins.
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration initialDelay = Duration.ofMillis(250);
+        private int minSamples = 20;
+        private int windowSize = 256;
+        /** Hedges earned per primary request, so at most this fraction of extra upstream traffic. */
+        private double budgetRatio = 0.1;
+        private int maxBudget = 5;
+    }
+
+    /**
+     * Adaptive (AIMD) limit on concurrent upstream calls: grows additively while upstream answers promptly and is cut
+     * multiplicatively on 429s, I/O errors or latency beyond {@code latencyTolerance} times the best recent latency.
+     * The {@code *Share} settings cap the fraction of the limit each priority class may hold at once.
+     */
+    @Getter
+    @Setter
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 4;
+        private int minLimit = 1;
+        private int maxLimit = 32;
+        private double backoffRatio = 0.5;
+        private double latencyTolerance = 3.0;
+        private int maxQueueSize = 100;
+        private Duration maxQueueWait = Duration.ofSeconds(10);
+        private double writeShare = 1.0;
+        private double readShare = 0.75;
+        private double backgroundShare = 0.5;
+    }
 }
@@ -0,0 +1,16 @@
+package com.reliaquest.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.pagination")
+public class PaginationConfig {
+    private int defaultPageSize = 50;
+    /** Larger requested page sizes are capped to this. */
+    private int maxPageSize = 200;
+}
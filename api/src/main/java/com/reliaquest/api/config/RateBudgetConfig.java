@@ -0,0 +1,35 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Upstream request budget shared by all api replicas: at most {@code permits} upstream requests per {@code period}
+ * across the fleet. One replica (the one without a {@code coordinatorUrl}) hands out leases on the budget; the others
+ * lease from it over HTTP. The {@code *Share} settings cap the fraction of each window's permits that may be spent
+ * before requests of a priority class are refused, holding the rest back for more important classes.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.rate-budget")
+public class RateBudgetConfig {
+    private boolean enabled = false;
+    private int permits = 5;
+    private Duration period = Duration.ofSeconds(90);
+    /** Base URL of the coordinating replica; empty when this replica is the coordinator. */
+    private String coordinatorUrl;
+
+    private String nodeId = UUID.randomUUID().toString();
+    private int leaseSize = 1;
+    private Duration maxWait = Duration.ofMinutes(2);
+    /** How long a replica keeps its fair share reserved after its last lease request. */
+    private Duration activeTimeout = Duration.ofMinutes(3);
+    private double writeShare = 1.0;
+    private double readShare = 0.75;
+    private double backgroundShare = 0.5;
+}
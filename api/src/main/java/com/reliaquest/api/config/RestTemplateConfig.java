@@ -1,6 +1,22 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.client.HttpRateLeaseSource;
+import com.reliaquest.api.client.LeasedRateBudget;
+import com.reliaquest.api.client.RateBudget;
+import com.reliaquest.api.client.RateLeaseSource;
+import com.reliaquest.api.filter.InternalEndpointFilter;
+import com.reliaquest.api.interceptor.ConcurrencyLimitInterceptor;
+import com.reliaquest.api.interceptor.PreferBinaryInterceptor;
+import com.reliaquest.api.interceptor.RateBudgetInterceptor;
+import com.reliaquest.api.interceptor.ResponseBytesInterceptor;
 import com.reliaquest.api.interceptor.RetryInterceptor;
+import com.reliaquest.api.service.impl.RateBudgetCoordinator;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,7 +26,46 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.additionalInterceptors(new RetryInterceptor(5, 3000)).build();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            MockEmployeeApiConfig properties,
+            RateBudget rateBudget,
+            AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (properties.isPreferBinary()) {
+            builder = builder.additionalInterceptors(new PreferBinaryInterceptor());
+        }
+        return builder.additionalInterceptors(
+                        new ResponseBytesInterceptor(),
+                        new RetryInterceptor(5, 3000, properties.getMaxRetryAfter()),
+                        new RateBudgetInterceptor(rateBudget),
+                        new ConcurrencyLimitInterceptor(concurrencyLimiter))
+                .build();
+    }
+
+    @Bean
+    public RateBudget rateBudget(
+            RateBudgetConfig config,
+            ClusterConfig clusterConfig,
+            ObjectProvider<RateBudgetCoordinator> coordinator,
+            RestTemplateBuilder builder) {
+        if (!config.isEnabled()) {
+            return RateBudget.UNLIMITED;
+        }
+        RateLeaseSource leaseSource = coordinator.getIfAvailable(() -> new HttpRateLeaseSource(
+                builder.setConnectTimeout(Duration.ofSeconds(2))
+                        .setReadTimeout(Duration.ofSeconds(2))
+                        .defaultHeader(
+                                InternalEndpointFilter.SECRET_HEADER, Objects.toString(clusterConfig.getSecret(), ""))
+                        .build(),
+                config.getCoordinatorUrl()));
+        return new LeasedRateBudget(
+                config.getNodeId(), leaseSource, config.getLeaseSize(), config.getMaxWait(), Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnExpression(
+            "${employee.rate-budget.enabled:false} and '${employee.rate-budget.coordinator-url:}'.isEmpty()")
+    public RateBudgetCoordinator rateBudgetCoordinator(RateBudgetConfig config) {
+        return new RateBudgetCoordinator(config, Clock.systemUTC());
     }
 }
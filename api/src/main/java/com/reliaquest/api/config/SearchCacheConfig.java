@@ -0,0 +1,15 @@
+package com.reliaquest.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.search-cache")
+public class SearchCacheConfig {
+    /** Upper bound on employees held across all cached result lists, so a few broad queries cannot pin the heap. */
+    private long maximumResults = 100_000;
+}
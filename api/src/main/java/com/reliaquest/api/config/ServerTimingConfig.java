@@ -0,0 +1,21 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-phase request timings. The phase metrics are always recorded; the {@code Server-Timing} header exposes internal
+ * latency to clients and has to be switched on.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "employee.server-timing")
+public class ServerTimingConfig {
+    private boolean headerEnabled;
+    /** Requests taking at least this long are logged with their phase breakdown. */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Same contract as {@link EmployeeController}, served under {@code /api/v2} without holding a servlet thread while
+ * upstream is slow, retried or rate limited.
+ */
+@RestController
+@RequestMapping("/api/v2/employee")
+public class AsyncEmployeeController implements IAsyncEmployeeController<Employee, EmployeeInput> {
+
+    private final AsyncEmployeeService asyncEmployeeService;
+
+    AsyncEmployeeController(AsyncEmployeeService asyncEmployeeService) {
+        this.asyncEmployeeService = asyncEmployeeService;
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(EmployeeInput employeeInput) {
+        return asyncEmployeeService
+                .createEmployee(employeeInput)
+                .thenApply(employee -> employee == null
+                        ? ResponseEntity.badRequest().<Employee>build()
+                        : ResponseEntity.ok(employee));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return asyncEmployeeService.getAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(String id) {
+        return asyncEmployeeService
+                .getEmployeeById(id)
+                .thenApply(employee -> employee == null
+                        ? ResponseEntity.notFound().<Employee>build()
+                        : ResponseEntity.ok(employee));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(String searchString) {
+        return asyncEmployeeService.getEmployeesByNameSearch(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return asyncEmployeeService
+                .getHighestSalaryOfEmployees()
+                .thenApply(highestSalary -> highestSalary == null
+                        ? ResponseEntity.noContent().<Integer>build()
+                        : ResponseEntity.ok(highestSalary));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return asyncEmployeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .thenApply(names -> names == null || names.isEmpty()
+                        ? ResponseEntity.noContent().<List<String>>build()
+                        : ResponseEntity.ok(names));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(String id) {
+        return asyncEmployeeService
+                .deleteEmployeeById(id)
+                .thenApply(name ->
+                        name == null ? ResponseEntity.notFound().<String>build() : ResponseEntity.ok(name));
+    }
+}
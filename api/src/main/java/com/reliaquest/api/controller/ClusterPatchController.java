@@ -0,0 +1,36 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.service.EmployeeByIdCacheService;
+import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.impl.HttpClusterBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Receives employee patches broadcast by other api replicas.
+ */
+@Slf4j
+@RestController
+public class ClusterPatchController {
+
+    private final EmployeeCacheService employeeCacheService;
+    private final EmployeeByIdCacheService employeeByIdCacheService;
+
+    ClusterPatchController(
+            EmployeeCacheService employeeCacheService, EmployeeByIdCacheService employeeByIdCacheService) {
+        this.employeeCacheService = employeeCacheService;
+        this.employeeByIdCacheService = employeeByIdCacheService;
+    }
+
+    @PostMapping(HttpClusterBroadcaster.PATCHES_PATH)
+    public ResponseEntity<Void> applyPatch(@RequestBody EmployeePatch patch) {
+        log.debug("Received {} patch for employee '{}'", patch.type(), patch.employeeId());
+        employeeCacheService.applyPatch(patch);
+        employeeByIdCacheService.applyPatch(patch);
+        return ResponseEntity.accepted().build();
+    }
+}
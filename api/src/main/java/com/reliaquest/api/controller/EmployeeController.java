@@ -1,12 +1,19 @@
 package com.reliaquest.api.controller;
 
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.model.AutocompleteRank;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeAutocompleteService;
 import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeePagingService;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,10 +22,18 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
 
     private final EmployeeService employeeService;
     private final EmployeeCacheService employeeCacheService;
+    private final EmployeeAutocompleteService employeeAutocompleteService;
+    private final EmployeePagingService employeePagingService;
 
-    EmployeeController(EmployeeService employeeService, EmployeeCacheService employeeCacheService) {
+    EmployeeController(
+            EmployeeService employeeService,
+            EmployeeCacheService employeeCacheService,
+            EmployeeAutocompleteService employeeAutocompleteService,
+            EmployeePagingService employeePagingService) {
         this.employeeService = employeeService;
         this.employeeCacheService = employeeCacheService;
+        this.employeeAutocompleteService = employeeAutocompleteService;
+        this.employeePagingService = employeePagingService;
     }
 
     /**
@@ -41,6 +56,19 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(employees);
     }
 
+    /**
+     * Returns one page of all employees.
+     *
+     * @param cursor the {@code nextCursor} of the previous page; omit for the first page
+     * @param size the page size, capped at the configured maximum
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeesPage(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+        EmployeePage page = employeePagingService.getEmployeesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Returns the employee with the given ID.
      *
@@ -63,6 +91,38 @@ public class EmployeeController implements IEmployeeController<Employee, Employe
         return ResponseEntity.ok(employees);
     }
 
+    /**
+     * Returns one page of employees whose names contain the given search string.
+     *
+     * @param searchString the string to search for in employee names
+     * @param cursor the {@code nextCursor} of the previous page; omit for the first page
+     * @param size the page size, capped at the configured maximum
+     */
+    @GetMapping("/search/{searchString}/page")
+    public ResponseEntity<EmployeePage> searchEmployeesPage(
+            @PathVariable String searchString,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        EmployeePage page = employeePagingService.searchEmployeesPage(searchString, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Returns up to {@code limit} employee names with a word starting with the given prefix, for type-ahead.
+     *
+     * @param prefix the typed prefix
+     * @param limit the maximum number of names to return
+     * @param rank how to order the matches
+     */
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<List<String>> autocompleteEmployeeNames(
+            @PathVariable String prefix,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) AutocompleteRank rank) {
+        List<String> names = employeeAutocompleteService.autocompleteNames(prefix, limit, rank);
+        return ResponseEntity.ok(names);
+    }
+
     /**
      * Returns the highest salary among all employees.
      */
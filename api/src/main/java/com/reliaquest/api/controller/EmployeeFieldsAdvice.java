@@ -0,0 +1,68 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.dto.EmployeeProjection;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeField;
+import java.util.List;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies the {@code fields} parameter of the employee read endpoints, e.g. {@code ?fields=id,employee_name}, by
+ * swapping the response body for an {@link EmployeeProjection} just before it is serialized.
+ */
+@RestControllerAdvice(assignableTypes = {EmployeeController.class, AsyncEmployeeController.class})
+public class EmployeeFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType) && isProjectable(returnType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (body == null
+                || !HttpMethod.GET.equals(request.getMethod())
+                || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        return fields == null ? body : new EmployeeProjection(body, EmployeeField.parse(fields));
+    }
+
+    /**
+     * @return whether the handler returns an employee, a list of employees or a page of them
+     */
+    private static boolean isProjectable(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        if (ResponseEntity.class.equals(type.resolve())) {
+            type = type.getGeneric(0);
+        }
+        Class<?> bodyType = type.resolve();
+        if (Employee.class.equals(bodyType) || EmployeePage.class.equals(bodyType)) {
+            return true;
+        }
+        return bodyType != null
+                && List.class.isAssignableFrom(bodyType)
+                && Employee.class.equals(type.asCollection().resolveGeneric(0));
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.client.HttpRateLeaseSource;
+import com.reliaquest.api.client.RateLease;
+import com.reliaquest.api.client.RateLeaseSource;
+import com.reliaquest.api.client.UpstreamPriority;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves leases on the fleet-wide upstream rate budget when this replica is the coordinator.
+ */
+@RestController
+public class RateBudgetController {
+
+    private final ObjectProvider<RateLeaseSource> coordinator;
+
+    RateBudgetController(ObjectProvider<RateLeaseSource> coordinator) {
+        this.coordinator = coordinator;
+    }
+
+    @PostMapping(HttpRateLeaseSource.LEASES_PATH)
+    public ResponseEntity<RateLease> lease(@RequestBody LeaseRequest request) {
+        RateLeaseSource leaseSource = coordinator.getIfAvailable();
+        if (leaseSource == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Defaulting a missing priority would let any peer spend the share held back for the classes above it.
+        if (request.priority() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(leaseSource.lease(request.nodeId(), request.requested(), request.priority()));
+    }
+
+    record LeaseRequest(String nodeId, int requested, UpstreamPriority priority) {}
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.dto;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+
+    private List<Employee> data;
+    /** Opaque cursor for the next page, or {@code null} on the last page. */
+    private String nextCursor;
+}
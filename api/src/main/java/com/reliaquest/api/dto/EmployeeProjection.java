@@ -0,0 +1,62 @@
+package com.reliaquest.api.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeField;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A read response body restricted to some {@link EmployeeField}s. Wraps the original body, an {@link Employee}, a list
+ * of them or an {@link EmployeePage}, and streams only the requested fields of each employee.
+ */
+@JsonSerialize(using = EmployeeProjection.Serializer.class)
+public record EmployeeProjection(Object body, EmployeeField[] fields) {
+
+    public static final class Serializer extends StdSerializer<EmployeeProjection> {
+
+        public Serializer() {
+            super(EmployeeProjection.class);
+        }
+
+        @Override
+        public void serialize(EmployeeProjection projection, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            EmployeeField[] fields = projection.fields();
+            if (projection.body() instanceof Employee employee) {
+                writeEmployee(employee, fields, generator);
+            } else if (projection.body() instanceof EmployeePage page) {
+                generator.writeStartObject();
+                generator.writeFieldName("data");
+                writeEmployees(page.getData(), fields, generator);
+                generator.writeStringField("nextCursor", page.getNextCursor());
+                generator.writeEndObject();
+            } else {
+                @SuppressWarnings("unchecked")
+                List<Employee> employees = (List<Employee>) projection.body();
+                writeEmployees(employees, fields, generator);
+            }
+        }
+
+        private static void writeEmployees(List<Employee> employees, EmployeeField[] fields, JsonGenerator generator)
+                throws IOException {
+            generator.writeStartArray();
+            for (Employee employee : employees) {
+                writeEmployee(employee, fields, generator);
+            }
+            generator.writeEndArray();
+        }
+
+        private static void writeEmployee(Employee employee, EmployeeField[] fields, JsonGenerator generator)
+                throws IOException {
+            generator.writeStartObject();
+            for (EmployeeField field : fields) {
+                field.write(generator, employee);
+            }
+            generator.writeEndObject();
+        }
+    }
+}
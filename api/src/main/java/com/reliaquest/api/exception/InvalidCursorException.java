@@ -0,0 +1,13 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends RuntimeException {
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid page cursor '" + cursor + "'");
+        this.cursor = cursor;
+    }
+}
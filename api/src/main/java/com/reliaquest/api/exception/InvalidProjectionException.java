@@ -0,0 +1,15 @@
+package com.reliaquest.api.exception;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import lombok.Getter;
+
+@Getter
+public class InvalidProjectionException extends RuntimeException {
+    private final String field;
+
+    public InvalidProjectionException(String field, Collection<String> supportedFields) {
+        super("Unknown employee field '" + field + "', expected any of " + new TreeSet<>(supportedFields));
+        this.field = field;
+    }
+}
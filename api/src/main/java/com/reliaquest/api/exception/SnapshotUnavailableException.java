@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Thrown to requests that waited on an employee snapshot load that failed, rather than answering them as if the
+ * directory were empty.
+ */
+public class SnapshotUnavailableException extends RuntimeException {
+
+    public SnapshotUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a page cursor was issued for an older snapshot; the client has to start paging again from the first page.
+ */
+@Getter
+public class StaleCursorException extends RuntimeException {
+    private final long cursorVersion;
+
+    public StaleCursorException(long cursorVersion, long currentVersion) {
+        super("Page cursor is for snapshot version " + cursorVersion + " but the directory is now at version "
+                + currentVersion + "; restart from the first page");
+        this.cursorVersion = cursorVersion;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.exception;
+
+import java.io.IOException;
+
+/**
+ * Thrown from the upstream request pipeline when a call is shed instead of being sent to the mock employee api.
+ */
+public class UpstreamOverloadedException extends IOException {
+
+    public UpstreamOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.filter;
+
+import com.reliaquest.api.client.HttpRateLeaseSource;
+import com.reliaquest.api.config.ClusterConfig;
+import com.reliaquest.api.service.impl.HttpClusterBroadcaster;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Guards the endpoints that api replicas call on each other. They are served on the public port, so requests to them
+ * must carry the fleet's shared {@code employee.cluster.secret} in {@value #SECRET_HEADER}; while no secret is
+ * configured they are refused outright.
+ */
+@Slf4j
+@Component
+public class InternalEndpointFilter extends OncePerRequestFilter {
+
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    static final Set<String> INTERNAL_PATHS =
+            Set.of(HttpClusterBroadcaster.PATCHES_PATH, HttpRateLeaseSource.LEASES_PATH);
+
+    private final byte[] secret;
+
+    public InternalEndpointFilter(ObjectProvider<ClusterConfig> clusterConfig) {
+        String secret = clusterConfig.getIfAvailable(ClusterConfig::new).getSecret();
+        this.secret = secret == null || secret.isEmpty() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !INTERNAL_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!authorized(request.getHeader(SECRET_HEADER))) {
+            log.warn(
+                    "Refused {} {} from {} without the cluster secret",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getRemoteAddr());
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Compares in constant time, so that response times give away nothing about the secret.
+     */
+    private boolean authorized(String presented) {
+        return secret != null
+                && presented != null
+                && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,249 @@
+package com.reliaquest.api.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.controller.EmployeeFieldsAdvice;
+import com.reliaquest.api.exception.InvalidProjectionException;
+import com.reliaquest.api.model.EmployeeField;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeCacheService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Keeps the encoded JSON (and gzip) bytes of the hot, snapshot-derived read endpoints and replays them verbatim while
+ * the employee snapshot they were rendered from is still current.
+ *
+ * <p>Responses are kept per path, {@code fields} projection and negotiated media type, the only inputs these endpoints
+ * render differently for, so other query parameters and spellings of the same Accept header share an entry. The
+ * number of entries is capped all the same, as each holds a rendering of the whole directory.
+ */
+@Slf4j
+@Component
+public class PreEncodedResponseFilter extends OncePerRequestFilter {
+
+    static final Set<String> CACHEABLE_PATHS = Set.of(
+            "/api/v1/employee",
+            "/api/v1/employee/highestSalary",
+            "/api/v1/employee/topTenHighestEarningEmployeeNames");
+
+    static final int MAX_RESPONSES = 64;
+
+    /** What the Jackson converters can render these endpoints as, JSON first as it is preferred on a tie. */
+    private static final List<MediaType> PRODUCIBLE =
+            List.of(MediaType.APPLICATION_JSON, new MediaType("application", "x-jackson-smile"));
+
+    private static final int MIN_GZIP_SIZE = 2048;
+    private static final String GZIP = "gzip";
+
+    private final EmployeeCacheService employeeCacheService;
+    private final Cache<ResponseKey, EncodedResponse> responses =
+            Caffeine.newBuilder().maximumSize(MAX_RESPONSES).build();
+
+    public PreEncodedResponseFilter(EmployeeCacheService employeeCacheService) {
+        this.employeeCacheService = employeeCacheService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !CACHEABLE_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ResponseKey key = cacheKey(request);
+        if (key == null) {
+            // Rejected or not acceptable; the controller renders the error.
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long version = employeeCacheService.getSnapshotVersion();
+
+        EncodedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        // Only keep the body if no snapshot swap happened while it was rendered; versions never go backwards, so an
+        // unchanged version means the controller saw exactly that snapshot.
+        if (version != EmployeeSnapshot.NO_VERSION
+                && wrapper.getStatus() == HttpStatus.OK.value()
+                && version == employeeCacheService.getSnapshotVersion()
+                && isRenderedAs(wrapper.getContentType(), key.mediaType())) {
+            byte[] body = wrapper.getContentAsByteArray();
+            responses.put(key, new EncodedResponse(version, wrapper.getContentType(), body, gzip(body)));
+            log.debug("Cached {} encoded bytes for {} at snapshot version {}", body.length, key, version);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * @return the key of the response to the request, or {@code null} if its projection or Accept header cannot be
+     *     served
+     */
+    private static ResponseKey cacheKey(HttpServletRequest request) {
+        MediaType mediaType = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (mediaType == null) {
+            return null;
+        }
+        String fields = request.getParameter(EmployeeFieldsAdvice.FIELDS_PARAM);
+        if (fields != null) {
+            try {
+                // Parsed into declaration order, so that spellings of the same projection share an entry.
+                fields = Arrays.stream(EmployeeField.parse(fields))
+                        .map(EmployeeField::jsonName)
+                        .collect(Collectors.joining(","));
+            } catch (InvalidProjectionException e) {
+                return null;
+            }
+        }
+        return new ResponseKey(request.getRequestURI(), fields, mediaType);
+    }
+
+    /**
+     * @return the producible type the Accept header gives the highest quality, or {@code null} if it accepts neither
+     */
+    static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType producible : PRODUCIBLE) {
+            double quality = quality(producible, acceptable);
+            if (quality > bestQuality) {
+                best = producible;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return the quality of the most specific acceptable range that includes the type, or 0 if none does
+     */
+    private static double quality(MediaType producible, List<MediaType> acceptable) {
+        MediaType closest = null;
+        for (MediaType range : acceptable) {
+            if (range.includes(producible) && (closest == null || wildcards(range) < wildcards(closest))) {
+                closest = range;
+            }
+        }
+        return closest == null ? 0 : closest.getQualityValue();
+    }
+
+    private static int wildcards(MediaType range) {
+        return (range.isWildcardType() ? 1 : 0) + (range.isWildcardSubtype() ? 1 : 0);
+    }
+
+    /**
+     * Guards against the controller negotiating differently, which would file the body under the wrong type.
+     */
+    private static boolean isRenderedAs(String contentType, MediaType negotiated) {
+        try {
+            return contentType != null && negotiated.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static void write(EncodedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        byte[] body = cached.body();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (cached.gzipped() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                body = cached.gzipped();
+            }
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * @return whether gzip, or failing a mention of it any coding, is listed with a quality above 0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                gzip = Math.max(gzip, quality(parameters));
+            } else if (name.equals("*")) {
+                any = Math.max(any, quality(parameters));
+            }
+        }
+        return (gzip >= 0 ? gzip : any) > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        if (body.length < MIN_GZIP_SIZE) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param fields the projection in declaration order, or {@code null} for whole employees
+     */
+    private record ResponseKey(String path, String fields, MediaType mediaType) {}
+
+    private record EncodedResponse(long version, String contentType, byte[] body, byte[] gzipped) {}
+}
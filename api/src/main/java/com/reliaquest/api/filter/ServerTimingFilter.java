@@ -0,0 +1,263 @@
+package com.reliaquest.api.filter;
+
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import com.reliaquest.api.config.ServerTimingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Breaks the latency of every request down into {@link RequestTimings} phases, reports them in a {@code Server-Timing}
+ * header, records them as the {@value #PHASE_METRIC} timer and logs the breakdown of slow requests.
+ *
+ * <p>The body is streamed, not buffered, so the header is added just before the response commits, i.e. when the first
+ * body byte is written: it reports the phases up to the first byte, serialization so far included. The metrics and the
+ * slow-request log are recorded once the whole body has been written. Runs outermost so that responses replayed by
+ * {@link PreEncodedResponseFilter} are timed too.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+    static final String PHASE_METRIC = "http.server.phases";
+
+    private static final String TIMINGS_ATTRIBUTE = ServerTimingFilter.class.getName() + ".timings";
+
+    private final ServerTimingConfig config;
+    private final MeterRegistry meterRegistry;
+
+    public ServerTimingFilter(ObjectProvider<ServerTimingConfig> config, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.config = config.getIfAvailable(ServerTimingConfig::new);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Async requests come back through the filter on dispatch to serialize their result; that is where they finish.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+        if (timings == null) {
+            timings = new RequestTimings();
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+        }
+        TimedResponse wrapper = WebUtils.getNativeResponse(response, TimedResponse.class);
+        if (wrapper == null) {
+            wrapper = new TimedResponse(response, timings);
+        }
+
+        RequestTimings previous = RequestTimings.bind(timings);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.restore(previous);
+        }
+        if (isAsyncStarted(request)) {
+            return;
+        }
+
+        // Bodiless responses commit after the filter chain.
+        wrapper.beforeCommit();
+        timings.markSerializationEnd();
+        record(request, timings);
+    }
+
+    private void record(HttpServletRequest request, RequestTimings timings) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        for (Phase phase : Phase.values()) {
+            long nanos = timings.nanos(phase);
+            if (nanos > 0) {
+                Timer.builder(PHASE_METRIC)
+                        .description("Time spent per request phase")
+                        .tag("phase", phase.metricName())
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        long totalNanos = timings.totalNanos();
+        if (totalNanos >= config.getSlowThreshold().toNanos()) {
+            log.warn(
+                    "Slow request {} {} took {} ms: {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                    timings.toHeaderValue());
+        }
+    }
+
+    /**
+     * Adds the {@code Server-Timing} header on the first write to the body or other action that commits the response.
+     */
+    private final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean headerAdded;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private TimedResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        private void beforeCommit() {
+            if (!headerAdded) {
+                headerAdded = true;
+                if (config.isHeaderEnabled() && !isCommitted()) {
+                    setHeader(SERVER_TIMING, timings.toHeaderValue());
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CommitAwareOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new CommitAwareWriter(super.getWriter());
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit();
+            super.sendRedirect(location);
+        }
+
+        private final class CommitAwareOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            private CommitAwareOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                beforeCommit();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                beforeCommit();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                beforeCommit();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                beforeCommit();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        private final class CommitAwareWriter extends PrintWriter {
+
+            private CommitAwareWriter(PrintWriter delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public void write(int c) {
+                beforeCommit();
+                super.write(c);
+            }
+
+            @Override
+            public void write(char[] buf, int off, int len) {
+                beforeCommit();
+                super.write(buf, off, len);
+            }
+
+            @Override
+            public void write(String s, int off, int len) {
+                beforeCommit();
+                super.write(s, off, len);
+            }
+
+            @Override
+            public void flush() {
+                beforeCommit();
+                super.flush();
+            }
+
+            @Override
+            public void close() {
+                beforeCommit();
+                super.close();
+            }
+        }
+    }
+}
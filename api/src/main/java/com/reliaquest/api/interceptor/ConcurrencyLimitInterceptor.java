@@ -0,0 +1,57 @@
+package com.reliaquest.api.interceptor;
+
+import com.reliaquest.api.client.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Holds an {@link AdaptiveConcurrencyLimiter} permit for the duration of each upstream attempt, scheduled by the
+ * request's {@link UpstreamPriority}. Registered inside {@link RetryInterceptor} so that retry backoff never occupies a
+ * permit and every 429 feeds the limit. Being innermost, it also reports permit waits and the attempt itself to the
+ * caller's {@link RequestTimings}.
+ */
+public class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamPriority priority = UpstreamPriority.of(request);
+        long waitStart = System.nanoTime();
+        try {
+            limiter.acquire(priority);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for upstream concurrency permit", e);
+        } finally {
+            RequestTimings.record(Phase.QUEUE, System.nanoTime() - waitStart);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            boolean overloaded = response.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+            long rtt = System.nanoTime() - start;
+            limiter.release(priority, overloaded, rtt);
+            RequestTimings.record(Phase.UPSTREAM, rtt);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            long rtt = System.nanoTime() - start;
+            limiter.release(priority, true, rtt);
+            RequestTimings.record(Phase.UPSTREAM, rtt);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.interceptor;
+
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Asks upstream for Smile ahead of JSON. RestTemplate lists every type its converters can read without preference, so
+ * without this the server is free to pick the verbose one.
+ */
+public class PreferBinaryInterceptor implements ClientHttpRequestInterceptor {
+
+    static final List<MediaType> PREFERRED = List.of(
+            new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_JSON.withQuality(0.9));
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        List<MediaType> accept = request.getHeaders().getAccept();
+        if (accept.stream().anyMatch(MediaType.APPLICATION_JSON::isCompatibleWith)) {
+            request.getHeaders().setAccept(PREFERRED);
+        }
+        return execution.execute(request, body);
+    }
+}
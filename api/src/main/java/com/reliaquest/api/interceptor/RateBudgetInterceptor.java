@@ -0,0 +1,42 @@
+package com.reliaquest.api.interceptor;
+
+import com.reliaquest.api.client.PrepaidPermit;
+import com.reliaquest.api.client.RateBudget;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Takes one {@link RateBudget} permit per upstream attempt, retries included, for the request's
+ * {@link UpstreamPriority}.
+ */
+public class RateBudgetInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RateBudget rateBudget;
+
+    public RateBudgetInterceptor(RateBudget rateBudget) {
+        this.rateBudget = rateBudget;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!PrepaidPermit.consume()) {
+            long start = System.nanoTime();
+            try {
+                rateBudget.acquire(UpstreamPriority.of(request));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for upstream rate budget", e);
+            } finally {
+                RequestTimings.record(Phase.QUEUE, System.nanoTime() - start);
+            }
+        }
+        return execution.execute(request, body);
+    }
+}
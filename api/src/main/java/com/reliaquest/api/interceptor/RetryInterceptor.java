@@ -1,8 +1,15 @@
 package com.reliaquest.api.interceptor;
 
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import com.reliaquest.api.jfr.RetryBackoffEvent;
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -14,10 +21,25 @@ public class RetryInterceptor implements ClientHttpRequestInterceptor {
 
     private final int maxRetries;
     private final long baseBackoffMs;
+    private final long maxRetryAfterMs;
+    private final Sleeper sleeper;
+    private final Clock clock;
 
-    public RetryInterceptor(int maxRetries, long baseBackoffMs) {
+    /**
+     * @param maxRetryAfter the longest a single backoff may hold a request; requests told to come back later than that
+     *     keep retrying with an exponential backoff capped at it, so a long {@code Retry-After} costs attempts rather
+     *     than the request
+     */
+    public RetryInterceptor(int maxRetries, long baseBackoffMs, Duration maxRetryAfter) {
+        this(maxRetries, baseBackoffMs, maxRetryAfter, Thread::sleep, Clock.systemUTC());
+    }
+
+    RetryInterceptor(int maxRetries, long baseBackoffMs, Duration maxRetryAfter, Sleeper sleeper, Clock clock) {
         this.maxRetries = maxRetries;
         this.baseBackoffMs = baseBackoffMs;
+        this.maxRetryAfterMs = maxRetryAfter.toMillis();
+        this.sleeper = sleeper;
+        this.clock = clock;
     }
 
     @Override
@@ -35,6 +57,8 @@ public class RetryInterceptor implements ClientHttpRequestInterceptor {
                 return response;
             }
 
+            long retryAfterMillis = retryAfterMillis(response.getHeaders());
+            response.close();
             attempt++;
             log.warn(
                     "Received 429 Too Many Requests for {}. Retrying attempt {}/{}",
@@ -42,17 +66,60 @@ public class RetryInterceptor implements ClientHttpRequestInterceptor {
                     attempt,
                     maxRetries);
 
+            long backoffMillis = calculateBackoffMillis(retryAfterMillis, attempt);
+            RetryBackoffEvent event = new RetryBackoffEvent(
+                    request.getMethod().name(), request.getURI().toString(), attempt, backoffMillis);
+            event.begin();
+            long start = System.nanoTime();
             try {
-                Thread.sleep(calculateBackoffMillis(attempt));
+                sleeper.sleep(backoffMillis);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IOException("Interrupted during retry backoff", e);
+            } finally {
+                RequestTimings.record(Phase.RETRY, System.nanoTime() - start);
+                event.commit();
             }
         }
     }
 
-    private long calculateBackoffMillis(int attempt) {
+    /**
+     * Waits as long as upstream asks with {@code Retry-After}, if it does and that is within {@code maxRetryAfter},
+     * rather than guessing with an exponential backoff. Longer or missing {@code Retry-After}s fall back to that
+     * backoff. The jitter keeps clients that were told the same time from all coming back at once, but never takes the
+     * wait past {@code maxRetryAfter}.
+     */
+    private long calculateBackoffMillis(long retryAfterMillis, int attempt) {
         long jitter = ThreadLocalRandom.current().nextLong(500);
-        return baseBackoffMs * (long) Math.pow(2, attempt - 1) + jitter;
+        if (retryAfterMillis >= 0 && retryAfterMillis <= maxRetryAfterMs) {
+            return Math.min(retryAfterMillis + jitter, maxRetryAfterMs);
+        }
+        long backoff = baseBackoffMs * (long) Math.pow(2, attempt - 1) + jitter;
+        return retryAfterMillis > maxRetryAfterMs ? Math.min(backoff, maxRetryAfterMs) : backoff;
+    }
+
+    /**
+     * @return the delay in milliseconds given by {@code Retry-After} as seconds or as a date, or -1 if there is none
+     */
+    private long retryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                return Math.max(0, headers.getFirstDate(HttpHeaders.RETRY_AFTER) - clock.millis());
+            } catch (IllegalArgumentException notADate) {
+                log.debug("Ignoring unparseable Retry-After header: {}", retryAfter);
+                return -1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
     }
 }
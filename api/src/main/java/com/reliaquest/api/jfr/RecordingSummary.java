@@ -0,0 +1,163 @@
+package com.reliaquest.api.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarizes the employee api's events in a JFR recording into latency tables: upstream calls by operation, retry
+ * backoff by attempt and snapshot loads.
+ *
+ * <p>Record with e.g. {@code -XX:StartFlightRecording=filename=api.jfr} and summarize with {@code ./gradlew
+ * api:jfrSummary --args=api.jfr}.
+ */
+public final class RecordingSummary {
+
+    private final Map<String, Latencies> upstreamCalls = new TreeMap<>();
+    private final Map<String, Latencies> retryBackoffs = new TreeMap<>();
+    private final Map<String, Latencies> snapshotLoads = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: RecordingSummary <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(of(Path.of(args[0])).render());
+    }
+
+    public static RecordingSummary of(Path recording) throws IOException {
+        return of(RecordingFile.readAllEvents(recording));
+    }
+
+    public static RecordingSummary of(List<RecordedEvent> events) {
+        RecordingSummary summary = new RecordingSummary();
+        events.forEach(summary::add);
+        return summary;
+    }
+
+    private void add(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case UpstreamCallEvent.NAME -> {
+                int status = event.getInt("status");
+                Latencies latencies = latencies(upstreamCalls, event.getString("operation"));
+                latencies.add(event.getDuration(), status == 0 || status >= 400);
+                latencies.bytes += event.getLong("bytes");
+            }
+            case RetryBackoffEvent.NAME -> latencies(retryBackoffs, "attempt " + event.getInt("attempt"))
+                    .add(event.getDuration(), false);
+            case SnapshotLoadEvent.NAME -> latencies(snapshotLoads, "snapshot")
+                    .add(event.getDuration(), event.getBoolean("failed"));
+            default -> {}
+        }
+    }
+
+    public Map<String, Latencies> upstreamCalls() {
+        return Collections.unmodifiableMap(upstreamCalls);
+    }
+
+    public Map<String, Latencies> retryBackoffs() {
+        return Collections.unmodifiableMap(retryBackoffs);
+    }
+
+    public Map<String, Latencies> snapshotLoads() {
+        return Collections.unmodifiableMap(snapshotLoads);
+    }
+
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        table(out, "Upstream calls", "operation", "errors", upstreamCalls, "bytes/call", Latencies::bytesPerCall);
+        table(out, "Retry backoff", "retry", "-", retryBackoffs, "", latencies -> "");
+        table(out, "Snapshot loads", "load", "failed", snapshotLoads, "", latencies -> "");
+        return out.toString();
+    }
+
+    private static void table(
+            StringBuilder out,
+            String title,
+            String key,
+            String failures,
+            Map<String, Latencies> rows,
+            String extraColumn,
+            Function<Latencies, String> extra) {
+        out.append(title).append('\n');
+        if (rows.isEmpty()) {
+            out.append("  (no events)\n\n");
+            return;
+        }
+        String format = "  %-18s %7s %7s %10s %10s %10s %10s %10s%n";
+        out.append(String.format(
+                Locale.ROOT, format, key, "count", failures, "p50 ms", "p95 ms", "p99 ms", "max ms", extraColumn));
+        rows.forEach((name, latencies) -> out.append(String.format(
+                Locale.ROOT,
+                format,
+                name,
+                latencies.count(),
+                latencies.failures(),
+                millis(latencies.percentile(0.50)),
+                millis(latencies.percentile(0.95)),
+                millis(latencies.percentile(0.99)),
+                millis(latencies.percentile(1.0)),
+                extra.apply(latencies))));
+        out.append('\n');
+    }
+
+    private static Latencies latencies(Map<String, Latencies> rows, String name) {
+        return rows.computeIfAbsent(name, key -> new Latencies());
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.1f", duration.toNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Durations of one row's events.
+     */
+    public static final class Latencies {
+
+        private final List<Duration> durations = new ArrayList<>();
+        private boolean sorted;
+        private int failures;
+        private long bytes;
+
+        private void add(Duration duration, boolean failed) {
+            durations.add(duration);
+            sorted = false;
+            if (failed) {
+                failures++;
+            }
+        }
+
+        public int count() {
+            return durations.size();
+        }
+
+        public int failures() {
+            return failures;
+        }
+
+        /**
+         * @return the nearest-rank percentile of the durations, {@code quantile} in (0, 1]
+         */
+        public Duration percentile(double quantile) {
+            if (!sorted) {
+                Collections.sort(durations);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(quantile * durations.size());
+            return durations.get(Math.max(0, rank - 1));
+        }
+
+        private String bytesPerCall() {
+            return Long.toString(bytes / durations.size());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The backoff slept by {@link com.reliaquest.api.interceptor.RetryInterceptor} before retrying a rate limited request.
+ * The event's duration is the time actually slept.
+ */
+@Name(RetryBackoffEvent.NAME)
+@Label("Retry Backoff")
+@Category({"Employee API", "Upstream"})
+@Description("Backoff before retrying an upstream request answered with 429")
+@StackTrace(false)
+public class RetryBackoffEvent extends Event {
+
+    public static final String NAME = "com.reliaquest.api.RetryBackoff";
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Attempt")
+    @Description("Number of the retry about to be made, starting at 1")
+    int attempt;
+
+    @Label("Planned Backoff")
+    @Timespan(Timespan.MILLISECONDS)
+    long backoffMillis;
+
+    public RetryBackoffEvent(String method, String uri, int attempt, long backoffMillis) {
+        this.method = method;
+        this.uri = uri;
+        this.attempt = attempt;
+        this.backoffMillis = backoffMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A full load of the employee snapshot into the {@code employees} cache, including the upstream fetch.
+ */
+@Name(SnapshotLoadEvent.NAME)
+@Label("Snapshot Load")
+@Category({"Employee API", "Cache"})
+@Description("Load of the employee snapshot into the employees cache")
+@StackTrace(false)
+public class SnapshotLoadEvent extends Event {
+
+    public static final String NAME = "com.reliaquest.api.SnapshotLoad";
+
+    @Label("Version")
+    long version;
+
+    @Label("Employees")
+    int employees;
+
+    @Label("Failed")
+    @Description("Whether the fetch failed and an empty snapshot was cached")
+    boolean failed;
+
+    public void set(long version, int employees, boolean failed) {
+        this.version = version;
+        this.employees = employees;
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One logical call of {@link com.reliaquest.api.client.EmployeeApiClient} to the mock employee API, retries included.
+ * The event's duration is the call's wall-clock time as seen by the caller.
+ */
+@Name(UpstreamCallEvent.NAME)
+@Label("Upstream Call")
+@Category({"Employee API", "Upstream"})
+@Description("Call from the employee api to the mock employee API")
+@StackTrace(false)
+public class UpstreamCallEvent extends Event {
+
+    public static final String NAME = "com.reliaquest.api.UpstreamCall";
+
+    private static final ThreadLocal<UpstreamCallEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Status")
+    @Description("HTTP status of the final attempt, or 0 if no response was received")
+    int status;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long bytes;
+
+    /** The call this one is nested in on the same thread, e.g. the lookup preceding a delete; not recorded. */
+    private transient UpstreamCallEvent enclosing;
+
+    /**
+     * Starts timing {@code operation} and makes the event the one {@link #addBytes} counts into on this thread. When
+     * the event is disabled this returns an event that is never bound or committed.
+     */
+    public static UpstreamCallEvent begin(String operation) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.enclosing = CURRENT.get();
+            event.begin();
+            CURRENT.set(event);
+        }
+        return event;
+    }
+
+    /**
+     * Counts response body bytes read on this thread towards the call in progress, if it is being recorded.
+     */
+    public static void addBytes(long count) {
+        UpstreamCallEvent event = CURRENT.get();
+        if (event != null) {
+            event.bytes += count;
+        }
+    }
+
+    public static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    public void end(int status) {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (enclosing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(enclosing);
+            enclosing = null;
+        }
+        this.status = status;
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.model;
+
+import java.util.Comparator;
+
+/**
+ * Orders autocomplete suggestions when more employees match a prefix than were asked for.
+ */
+public enum AutocompleteRank {
+    /** Alphabetically by name, ignoring case. */
+    NAME(Comparator.comparing(Employee::getName, String.CASE_INSENSITIVE_ORDER)),
+    /** Highest salary first. */
+    SALARY(Comparator.comparing(Employee::getSalary, Comparator.nullsLast(Comparator.reverseOrder()))),
+    /** Youngest first. */
+    AGE(Comparator.comparing(Employee::getAge, Comparator.nullsLast(Comparator.naturalOrder())));
+
+    private final Comparator<Employee> order;
+
+    AutocompleteRank(Comparator<Employee> order) {
+        this.order = order.thenComparing(Employee::getName, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    public Comparator<Employee> order() {
+        return order;
+    }
+}
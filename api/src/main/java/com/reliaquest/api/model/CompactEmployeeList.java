@@ -0,0 +1,342 @@
+package com.reliaquest.api.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Immutable, column-oriented list of employees that cached snapshots are held in. Rather than one {@link Employee}
+ * with six references per record, each field is kept in its own array: IDs as the two {@code long}s of their UUID,
+ * salaries and ages as primitive {@code int}s, titles as codes into a dictionary of the few distinct titles, and names
+ * and emails deduplicated so equal strings are stored once.
+ *
+ * <p>{@link #get(int)} materializes a short-lived {@link Employee}, so callers keep working with the usual model. Scans
+ * over the whole directory read the columns they need instead, e.g. {@link #maxSalary()} or
+ * {@link #withNameContaining(String)}, so they allocate only for what they return.
+ */
+public final class CompactEmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+    /** Stands in for a {@code null} salary or age. */
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final Comparator<String> ID_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final int size;
+    /** Most and least significant bits of each ID, or {@code null} if any ID is not a canonical UUID. */
+    private final long[] uuidBits;
+    /** The IDs as given, only kept when {@link #uuidBits} could not be. */
+    private final String[] ids;
+
+    private final String[] names;
+    private final int[] salaries;
+    private final int[] ages;
+    private final String[] titleDictionary;
+    /** Index into {@link #titleDictionary}, or {@code -1} for no title. */
+    private final int[] titleCodes;
+
+    private final String[] emails;
+
+    private CompactEmployeeList(Builder builder) {
+        // Builders are sized for the expected rows up front, so the arrays only need trimming when rows were dropped.
+        boolean trim = builder.size < builder.names.length;
+        this.size = builder.size;
+        this.uuidBits =
+                trim && builder.uuidBits != null ? Arrays.copyOf(builder.uuidBits, 2 * size) : builder.uuidBits;
+        this.ids = trim && builder.ids != null ? Arrays.copyOf(builder.ids, size) : builder.ids;
+        this.names = trim ? Arrays.copyOf(builder.names, size) : builder.names;
+        this.salaries = trim ? Arrays.copyOf(builder.salaries, size) : builder.salaries;
+        this.ages = trim ? Arrays.copyOf(builder.ages, size) : builder.ages;
+        this.titleDictionary = builder.titleDictionary.toArray(String[]::new);
+        this.titleCodes = trim ? Arrays.copyOf(builder.titleCodes, size) : builder.titleCodes;
+        this.emails = trim ? Arrays.copyOf(builder.emails, size) : builder.emails;
+    }
+
+    /**
+     * @param employees the employees to copy
+     * @return {@code employees} itself if it already is compact, otherwise a compact copy of it
+     */
+    public static CompactEmployeeList copyOf(List<Employee> employees) {
+        if (employees instanceof CompactEmployeeList compact) {
+            return compact;
+        }
+        Builder builder = new Builder(employees.size());
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Employee get(int index) {
+        Objects.checkIndex(index, size);
+        int titleCode = titleCodes[index];
+        return new Employee(
+                idAt(index),
+                names[index],
+                boxed(salaries[index]),
+                boxed(ages[index]),
+                titleCode < 0 ? null : titleDictionary[titleCode],
+                emails[index]);
+    }
+
+    /**
+     * @return the name of the employee at {@code index}, without materializing the employee
+     */
+    public String nameAt(int index) {
+        Objects.checkIndex(index, size);
+        return names[index];
+    }
+
+    /**
+     * @param query matched ignoring case, character by character, so the name need not be lowercased first
+     * @return whether the employee at {@code index} has a name that contains {@code query}
+     */
+    public boolean nameContains(int index, String query) {
+        String name = nameAt(index);
+        if (name == null) {
+            return false;
+        }
+        for (int start = 0; start <= name.length() - query.length(); start++) {
+            if (name.regionMatches(true, start, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the employees whose name contains {@code query} ignoring case, in list order
+     */
+    public List<Employee> withNameContaining(String query) {
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (nameContains(i, query)) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the highest salary, or empty if no employee has one
+     */
+    public OptionalInt maxSalary() {
+        int max = NO_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, salaries[i]);
+        }
+        return max == NO_VALUE ? OptionalInt.empty() : OptionalInt.of(max);
+    }
+
+    /**
+     * @return the indexes of the {@code limit} employees with the highest salaries, highest first and ties by
+     *     descending ID, as the mock server ranks them; employees without a salary are left out
+     */
+    public int[] indexesOfTopSalaries(int limit) {
+        int[] top = new int[Math.min(limit, size)];
+        if (top.length == 0) {
+            return top;
+        }
+        // Insertion into a sorted window of at most limit indexes, which suits the small limits of top-K queries.
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (salaries[i] == NO_VALUE || (count == top.length && !earnsAbove(i, top[count - 1]))) {
+                continue;
+            }
+            int position = count == top.length ? count - 1 : count++;
+            while (position > 0 && earnsAbove(i, top[position - 1])) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = i;
+        }
+        return Arrays.copyOf(top, count);
+    }
+
+    /**
+     * @param id the employee ID to look for
+     * @return the index of the first employee with that ID, or {@code -1} if there is none
+     */
+    public int indexOfId(String id) {
+        UUID uuid = uuidBits == null ? null : canonicalUuid(id);
+        for (int i = 0; i < size; i++) {
+            if (hasId(i, id, uuid)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copies the rows of this list over without decoding them, except those with the given ID.
+     *
+     * @param id the ID of the employees to leave out
+     * @param replacement appended after the remaining employees, unless {@code null}
+     * @return a new list, this one is left unmodified
+     */
+    public CompactEmployeeList replacing(String id, Employee replacement) {
+        Builder builder = new Builder(size + 1);
+        UUID uuid = uuidBits == null ? null : canonicalUuid(id);
+        for (int i = 0; i < size; i++) {
+            if (!hasId(i, id, uuid)) {
+                builder.addRow(this, i);
+            }
+        }
+        if (replacement != null) {
+            builder.add(replacement);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param uuid {@code id} parsed once by the caller, {@code null} if it is not a canonical UUID
+     */
+    private boolean hasId(int index, String id, UUID uuid) {
+        if (uuidBits == null) {
+            return Objects.equals(ids[index], id);
+        }
+        return uuid != null
+                && uuidBits[2 * index] == uuid.getMostSignificantBits()
+                && uuidBits[2 * index + 1] == uuid.getLeastSignificantBits();
+    }
+
+    private boolean earnsAbove(int index, int other) {
+        return salaries[index] != salaries[other] ? salaries[index] > salaries[other] : compareIds(index, other) > 0;
+    }
+
+    /**
+     * Orders UUIDs as {@link UUID#compareTo(UUID)} does, without materializing them.
+     */
+    private int compareIds(int index, int other) {
+        if (uuidBits == null) {
+            return ID_ORDER.compare(ids[index], ids[other]);
+        }
+        int order = Long.compare(uuidBits[2 * index], uuidBits[2 * other]);
+        return order != 0 ? order : Long.compare(uuidBits[2 * index + 1], uuidBits[2 * other + 1]);
+    }
+
+    private String idAt(int index) {
+        return uuidBits == null ? ids[index] : new UUID(uuidBits[2 * index], uuidBits[2 * index + 1]).toString();
+    }
+
+    private static Integer boxed(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    private static int unboxed(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    /**
+     * @return the UUID {@code id} is the canonical form of, or {@code null} if it is not one; a packed UUID has to turn
+     *     back into exactly the same string
+     */
+    private static UUID canonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class Builder {
+
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+        private final List<String> titleDictionary = new ArrayList<>();
+
+        private long[] uuidBits;
+        private String[] ids;
+        private final String[] names;
+        private final int[] salaries;
+        private final int[] ages;
+        private final int[] titleCodes;
+        private final String[] emails;
+        private int size;
+
+        private Builder(int capacity) {
+            this.uuidBits = new long[2 * capacity];
+            this.names = new String[capacity];
+            this.salaries = new int[capacity];
+            this.ages = new int[capacity];
+            this.titleCodes = new int[capacity];
+            this.emails = new String[capacity];
+        }
+
+        private void add(Employee employee) {
+            addId(employee.getId());
+            names[size] = dedup(employee.getName());
+            salaries[size] = unboxed(employee.getSalary());
+            ages[size] = unboxed(employee.getAge());
+            titleCodes[size] = titleCode(employee.getTitle());
+            emails[size] = dedup(employee.getEmail());
+            size++;
+        }
+
+        private void addRow(CompactEmployeeList source, int index) {
+            if (source.uuidBits != null && uuidBits != null) {
+                uuidBits[2 * size] = source.uuidBits[2 * index];
+                uuidBits[2 * size + 1] = source.uuidBits[2 * index + 1];
+            } else {
+                addId(source.idAt(index));
+            }
+            names[size] = source.names[index];
+            salaries[size] = source.salaries[index];
+            ages[size] = source.ages[index];
+            int sourceCode = source.titleCodes[index];
+            titleCodes[size] = sourceCode < 0 ? -1 : titleCode(source.titleDictionary[sourceCode]);
+            emails[size] = source.emails[index];
+            size++;
+        }
+
+        private void addId(String id) {
+            UUID uuid = uuidBits == null ? null : canonicalUuid(id);
+            if (uuid != null) {
+                uuidBits[2 * size] = uuid.getMostSignificantBits();
+                uuidBits[2 * size + 1] = uuid.getLeastSignificantBits();
+                return;
+            }
+            if (uuidBits != null) {
+                // The first ID that does not pack into a UUID switches the whole column over to strings.
+                ids = new String[names.length];
+                for (int i = 0; i < size; i++) {
+                    ids[i] = new UUID(uuidBits[2 * i], uuidBits[2 * i + 1]).toString();
+                }
+                uuidBits = null;
+            }
+            ids[size] = id;
+        }
+
+        private int titleCode(String title) {
+            if (title == null) {
+                return -1;
+            }
+            return titleCodesByTitle.computeIfAbsent(title, t -> {
+                titleDictionary.add(t);
+                return titleDictionary.size() - 1;
+            });
+        }
+
+        private String dedup(String value) {
+            return value == null ? null : strings.computeIfAbsent(value, v -> v);
+        }
+
+        private CompactEmployeeList build() {
+            return new CompactEmployeeList(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.reliaquest.api.exception.InvalidProjectionException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The JSON properties of an {@link Employee}, each able to write itself straight from the getter, so projections need
+ * neither reflection nor a trimmed copy of the employee.
+ */
+public enum EmployeeField {
+    ID("id", Employee::getId),
+    NAME("employee_name", Employee::getName),
+    SALARY("employee_salary", Employee::getSalary),
+    AGE("employee_age", Employee::getAge),
+    TITLE("employee_title", Employee::getTitle),
+    EMAIL("employee_email", Employee::getEmail);
+
+    private static final Map<String, EmployeeField> BY_JSON_NAME =
+            Arrays.stream(values()).collect(Collectors.toMap(EmployeeField::jsonName, Function.identity()));
+
+    private final SerializableString jsonName;
+    private final Function<Employee, Object> getter;
+
+    EmployeeField(String jsonName, Function<Employee, Object> getter) {
+        this.jsonName = new SerializedString(jsonName);
+        this.getter = getter;
+    }
+
+    public String jsonName() {
+        return jsonName.getValue();
+    }
+
+    public void write(JsonGenerator generator, Employee employee) throws IOException {
+        generator.writeFieldName(jsonName);
+        Object value = getter.apply(employee);
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else {
+            generator.writeString((String) value);
+        }
+    }
+
+    /**
+     * Parses a {@code fields} parameter such as {@code id,employee_name}.
+     *
+     * @return the requested fields, in the order a full employee would be serialized
+     * @throws InvalidProjectionException if a name is not a property of an employee
+     */
+    public static EmployeeField[] parse(String fields) {
+        EnumSet<EmployeeField> projection = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            EmployeeField field = BY_JSON_NAME.get(trimmed);
+            if (field == null) {
+                throw new InvalidProjectionException(trimmed, BY_JSON_NAME.keySet());
+            }
+            projection.add(field);
+        }
+        if (projection.isEmpty()) {
+            throw new InvalidProjectionException(fields, BY_JSON_NAME.keySet());
+        }
+        return projection.toArray(EmployeeField[]::new);
+    }
+}
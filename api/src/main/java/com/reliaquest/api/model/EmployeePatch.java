@@ -0,0 +1,34 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * A single change to the employee directory, applied to cached snapshots in place of refetching them from upstream.
+ *
+ * @param type whether the employee was created or deleted
+ * @param employeeId the ID of the affected employee
+ * @param employee the created employee, {@code null} for deletions
+ */
+public record EmployeePatch(Type type, String employeeId, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static EmployeePatch created(Employee employee) {
+        return new EmployeePatch(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeePatch deleted(String employeeId) {
+        return new EmployeePatch(Type.DELETED, employeeId, null);
+    }
+
+    /**
+     * @param employees the employees to patch, left unmodified
+     * @return a new unmodifiable list with this patch applied
+     */
+    public List<Employee> applyTo(List<Employee> employees) {
+        return CompactEmployeeList.copyOf(employees).replacing(employeeId, type == Type.CREATED ? employee : null);
+    }
+}
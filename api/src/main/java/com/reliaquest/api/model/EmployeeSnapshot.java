@@ -0,0 +1,23 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Immutable, versioned view of the employee directory as cached by the api.
+ *
+ * <p>Versions increase monotonically for the lifetime of the application; {@code 0} is reserved for "nothing cached".
+ *
+ * <p>Employees are held as a {@link CompactEmployeeList}, which keeps the whole directory in a handful of arrays
+ * instead of one object graph per record.
+ *
+ * @param version the snapshot version
+ * @param employees the employees contained in this snapshot
+ */
+public record EmployeeSnapshot(long version, List<Employee> employees) {
+
+    public static final long NO_VERSION = 0L;
+
+    public EmployeeSnapshot {
+        employees = CompactEmployeeList.copyOf(employees);
+    }
+}
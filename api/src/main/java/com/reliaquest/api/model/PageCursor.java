@@ -0,0 +1,44 @@
+package com.reliaquest.api.model;
+
+import com.reliaquest.api.exception.InvalidCursorException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Position in a paginated listing, handed to clients as an opaque string.
+ *
+ * <p>A cursor is only valid against the snapshot version it was issued for, and only for the query it was issued for,
+ * so paging never skips or repeats employees while the directory changes underneath.
+ *
+ * @param version the snapshot version the listing was read from
+ * @param position index into the snapshot's employees to resume scanning at
+ * @param queryHash hash of the normalized query, or {@code 0} for the unfiltered listing
+ */
+public record PageCursor(long version, int position, int queryHash) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(version).putInt(position).putInt(queryHash);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PageCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidCursorException(cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        PageCursor decoded = new PageCursor(buffer.getLong(), buffer.getInt(), buffer.getInt());
+        if (decoded.version <= EmployeeSnapshot.NO_VERSION || decoded.position < 0) {
+            throw new InvalidCursorException(cursor);
+        }
+        return decoded;
+    }
+}
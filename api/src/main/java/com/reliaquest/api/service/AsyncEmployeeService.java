@@ -0,0 +1,27 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link EmployeeService} for callers that must not block: every operation completes on a worker or, for reads served
+ * from the snapshot, as soon as the snapshot is loaded.
+ */
+public interface AsyncEmployeeService {
+
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    CompletableFuture<List<Employee>> getEmployeesByNameSearch(String searchString);
+
+    CompletableFuture<Employee> getEmployeeById(String id);
+
+    CompletableFuture<Integer> getHighestSalaryOfEmployees();
+
+    CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput);
+
+    CompletableFuture<String> deleteEmployeeById(String id);
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.EmployeePatch;
+
+public interface ClusterBroadcaster {
+
+    /**
+     * Propagates a change to the employee directory to the other api replicas. Delivery is best effort and must not
+     * block the caller on slow or unreachable peers.
+     *
+     * @param patch the change to propagate
+     */
+    void broadcast(EmployeePatch patch);
+}
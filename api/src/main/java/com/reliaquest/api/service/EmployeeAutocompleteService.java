@@ -0,0 +1,17 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.AutocompleteRank;
+import java.util.List;
+
+public interface EmployeeAutocompleteService {
+
+    /**
+     * Suggests employee names for type-ahead.
+     *
+     * @param prefix the typed prefix, matched case-insensitively against the start of any word in a name
+     * @param limit the maximum number of names to return, or {@code null} for the configured default
+     * @param rank how to order the matches, or {@code null} for the configured default
+     * @return the best ranked matching names, best first
+     */
+    List<String> autocompleteNames(String prefix, Integer limit, AutocompleteRank rank);
+}
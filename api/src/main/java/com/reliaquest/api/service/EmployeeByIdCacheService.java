@@ -0,0 +1,24 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+
+public interface EmployeeByIdCacheService {
+
+    /**
+     * Looks an employee up by ID, answering repeated lookups of the same ID, including IDs upstream does not know, from
+     * memory.
+     *
+     * @param id the employee ID
+     * @return the employee, or {@code null} if upstream does not have it or could not be reached
+     */
+    Employee getEmployeeById(String id);
+
+    /**
+     * Keeps cached lookups in line with a change to the directory: created employees are cached, deleted ones
+     * forgotten.
+     *
+     * @param patch the change to apply
+     */
+    void applyPatch(EmployeePatch patch);
+}
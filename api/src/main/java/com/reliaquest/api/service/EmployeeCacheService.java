@@ -1,6 +1,8 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.model.EmployeeSnapshot;
 import java.util.List;
 
 public interface EmployeeCacheService {
@@ -11,4 +13,35 @@ public interface EmployeeCacheService {
      * @return a list of all employees
      */
     List<Employee> getAllEmployees();
+
+    /**
+     * Retrieves the cached employee snapshot, loading it on first access.
+     *
+     * @return the current employee snapshot
+     */
+    EmployeeSnapshot getSnapshot();
+
+    /**
+     * Returns the version of the currently cached snapshot without triggering a load.
+     *
+     * @return the snapshot version, or {@link EmployeeSnapshot#NO_VERSION} when nothing is cached
+     */
+    long getSnapshotVersion();
+
+    /**
+     * Applies a change to the cached snapshot, publishing a new snapshot version. Does nothing when no snapshot is
+     * cached, as the next load will fetch the change from upstream.
+     *
+     * @param patch the change to apply
+     */
+    void applyPatch(EmployeePatch patch);
+
+    /**
+     * Fetches the directory from upstream and swaps it in as a new snapshot version in one step, so readers see either
+     * the old or the new snapshot and never wait for the fetch. Patches applied while the fetch is in flight are
+     * replayed onto its result. On failure the current snapshot is kept.
+     *
+     * @return whether a new snapshot was published
+     */
+    boolean refresh();
 }
@@ -0,0 +1,25 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeePage;
+
+public interface EmployeePagingService {
+
+    /**
+     * Returns one page of all employees.
+     *
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @param pageSize the requested page size, or {@code null} for the configured default
+     * @return the page, with a cursor for the next one unless it is the last
+     */
+    EmployeePage getEmployeesPage(String cursor, Integer pageSize);
+
+    /**
+     * Returns one page of employees whose names contain the given search string.
+     *
+     * @param searchString the fragment or full name to match
+     * @param cursor the cursor from the previous page, or {@code null} for the first page
+     * @param pageSize the requested page size, or {@code null} for the configured default
+     * @return the page, with a cursor for the next one unless it is the last
+     */
+    EmployeePage searchEmployeesPage(String searchString, String cursor, Integer pageSize);
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+public interface EmployeeSearchService {
+
+    /**
+     * Finds the employees of the current snapshot whose name contains the query, ignoring case. Repeated queries are
+     * answered from memory until the snapshot changes.
+     *
+     * @param query the text to look for in employee names
+     * @return the matching employees, in snapshot order
+     */
+    List<Employee> searchByName(String query);
+}
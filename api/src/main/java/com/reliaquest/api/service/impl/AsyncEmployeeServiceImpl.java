@@ -0,0 +1,123 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.exception.SnapshotUnavailableException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class AsyncEmployeeServiceImpl implements AsyncEmployeeService {
+
+    private static final CompletableFuture<Void> LOADED = CompletableFuture.completedFuture(null);
+
+    private final EmployeeService employeeService;
+    private final EmployeeCacheService employeeCacheService;
+    private final Executor upstreamExecutor;
+    private final AtomicReference<CompletableFuture<Void>> snapshotLoad = new AtomicReference<>();
+
+    public AsyncEmployeeServiceImpl(
+            EmployeeService employeeService,
+            EmployeeCacheService employeeCacheService,
+            @Qualifier("upstreamExecutor") Executor upstreamExecutor) {
+        this.employeeService = employeeService;
+        this.employeeCacheService = employeeCacheService;
+        this.upstreamExecutor = upstreamExecutor;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return fromSnapshot(employeeCacheService::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        return fromSnapshot(() -> employeeService.getEmployeesByNameSearch(searchString));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        return CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(id), upstreamExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        return fromSnapshot(employeeService::getHighestSalaryOfEmployees);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return fromSnapshot(employeeService::getTopTenHighestEarningEmployeeNames);
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        return CompletableFuture.supplyAsync(() -> employeeService.createEmployee(employeeInput), upstreamExecutor);
+    }
+
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        return CompletableFuture.supplyAsync(() -> employeeService.deleteEmployeeById(id), upstreamExecutor);
+    }
+
+    /**
+     * Runs a snapshot-backed read once the snapshot is cached. The read itself is in-memory, so it runs right away when
+     * the snapshot already is; reads that had to wait are handed back to the pool rather than all running one after
+     * another on the thread that completed the load.
+     */
+    private <T> CompletableFuture<T> fromSnapshot(Supplier<T> read) {
+        CompletableFuture<Void> loaded = snapshotLoaded();
+        return loaded.isDone()
+                ? loaded.thenApply(ignored -> read.get())
+                : loaded.thenApplyAsync(ignored -> read.get(), upstreamExecutor);
+    }
+
+    /**
+     * Single-flight snapshot load: concurrent callers share one pending future, which holds no thread while waiting,
+     * and one worker goes through {@link EmployeeCacheService#getSnapshot()}. A load that leaves nothing cached fails
+     * the waiters with {@link SnapshotUnavailableException}, as their reads would otherwise each ask upstream again.
+     */
+    private CompletableFuture<Void> snapshotLoaded() {
+        if (employeeCacheService.getSnapshotVersion() != EmployeeSnapshot.NO_VERSION) {
+            return LOADED;
+        }
+        CompletableFuture<Void> load = new CompletableFuture<>();
+        CompletableFuture<Void> pending = snapshotLoad.compareAndExchange(null, load);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            upstreamExecutor.execute(() -> {
+                try {
+                    employeeCacheService.getSnapshot();
+                    if (employeeCacheService.getSnapshotVersion() == EmployeeSnapshot.NO_VERSION) {
+                        load.completeExceptionally(
+                                new SnapshotUnavailableException("Employee directory is unavailable, try again later"));
+                    } else {
+                        load.complete(null);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to load employee snapshot", e);
+                    load.completeExceptionally(e);
+                } finally {
+                    snapshotLoad.compareAndSet(load, null);
+                }
+            });
+        } catch (RuntimeException e) {
+            snapshotLoad.compareAndSet(load, null);
+            throw e;
+        }
+        return load;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine cache whose values are loaded on the thread that misses, outside any cache lock; concurrent misses of the
+ * same key share that one load. Failed loads are not cached, so the next lookup of the key loads again.
+ *
+ * <p>Publishes Caffeine's metrics for the cache under its name, plus a {@code cache.hit.ratio} gauge.
+ */
+final class CallerLoadedCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    /**
+     * @param cache built with {@code recordStats()}, as the metrics are read from its stats
+     */
+    CallerLoadedCache(String name, AsyncCache<K, V> cache, MeterRegistry meterRegistry) {
+        this.cache = cache;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+                .description("Share of lookups answered from the cache since startup")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the cached value of {@code key}, or else what {@code loader} returns for it
+     * @throws RuntimeException what {@code loader} threw, in this thread or in the one loading the value for it
+     */
+    V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> lookup = cache.get(key, (k, executor) -> load);
+        if (lookup == load) {
+            try {
+                load.complete(loader.get());
+            } catch (Throwable e) {
+                // Completing exceptionally also removes the entry, and fails lookups sharing this load rather than
+                // leaving them blocked on a future nobody will complete.
+                load.completeExceptionally(e);
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            }
+        }
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    void put(K key, V value) {
+        cache.put(key, CompletableFuture.completedFuture(value));
+    }
+
+    void removeIf(Predicate<? super K> filter) {
+        cache.asMap().keySet().removeIf(filter);
+    }
+
+    CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
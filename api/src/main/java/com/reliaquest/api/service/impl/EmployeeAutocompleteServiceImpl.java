@@ -0,0 +1,119 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.config.AutocompleteConfig;
+import com.reliaquest.api.model.AutocompleteRank;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeAutocompleteService;
+import com.reliaquest.api.service.EmployeeCacheService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Suggests names from a {@link NamePrefixIndex} per ranking. Indexes are built on the index executor, once per snapshot
+ * version; while a newer version is being indexed, requests are answered from the previous index. Only the first
+ * request for a ranking waits for its index, as there is nothing to answer it from yet.
+ */
+@Slf4j
+@Service
+public class EmployeeAutocompleteServiceImpl implements EmployeeAutocompleteService {
+
+    private final EmployeeCacheService employeeCacheService;
+    private final AutocompleteConfig config;
+    private final Executor indexExecutor;
+    private final Map<AutocompleteRank, RankIndex> indexes = new ConcurrentHashMap<>();
+
+    public EmployeeAutocompleteServiceImpl(
+            EmployeeCacheService employeeCacheService,
+            AutocompleteConfig config,
+            @Qualifier("autocompleteIndexExecutor") Executor indexExecutor) {
+        this.employeeCacheService = employeeCacheService;
+        this.config = config;
+        this.indexExecutor = indexExecutor;
+    }
+
+    @Override
+    public List<String> autocompleteNames(String prefix, Integer limit, AutocompleteRank rank) {
+        int effectiveLimit = Math.min(limit == null ? config.getDefaultLimit() : limit, config.getMaxLimit());
+        if (effectiveLimit <= 0) {
+            return List.of();
+        }
+        AutocompleteRank effectiveRank = rank == null ? config.getDefaultRank() : rank;
+        return indexes.computeIfAbsent(effectiveRank, RankIndex::new)
+                .get(employeeCacheService.getSnapshot())
+                .complete(prefix, effectiveLimit);
+    }
+
+    private NamePrefixIndex build(AutocompleteRank rank, EmployeeSnapshot snapshot) {
+        long start = System.nanoTime();
+        NamePrefixIndex index = new NamePrefixIndex(snapshot.employees(), rank, config.getMaxLimit());
+        log.debug(
+                "Built {} name index over {} employees for snapshot version {} in {} ms",
+                rank,
+                index.size(),
+                snapshot.version(),
+                (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * The newest index of one ranking, and the build of its successor, if one is under way.
+     */
+    private final class RankIndex {
+
+        private final AutocompleteRank rank;
+        private volatile Built built;
+        private CompletableFuture<Built> pending;
+
+        private RankIndex(AutocompleteRank rank) {
+            this.rank = rank;
+        }
+
+        private NamePrefixIndex get(EmployeeSnapshot latest) {
+            Built current = built;
+            if (current != null && current.version() >= latest.version()) {
+                return current.index();
+            }
+            CompletableFuture<Built> build = rebuild(latest);
+            Built fresh = build.getNow(null);
+            if (fresh != null) {
+                return fresh.index();
+            }
+            return current != null ? current.index() : build.join().index();
+        }
+
+        /**
+         * Starts indexing {@code snapshot} unless a build is already under way, which is then returned instead; any
+         * newer snapshot is indexed on the first request after it completes.
+         */
+        private synchronized CompletableFuture<Built> rebuild(EmployeeSnapshot snapshot) {
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<Built> build = CompletableFuture.supplyAsync(
+                    () -> new Built(snapshot.version(), build(rank, snapshot)), indexExecutor);
+            pending = build;
+            // Runs right away, and clears pending, if the build has already completed.
+            build.whenComplete((index, failure) -> completed(build, index, failure));
+            return build;
+        }
+
+        private synchronized void completed(CompletableFuture<Built> build, Built index, Throwable failure) {
+            if (pending == build) {
+                pending = null;
+            }
+            if (failure != null) {
+                log.warn("Failed to build {} name index, keeping the previous one", rank, failure);
+            } else if (built == null || built.version() < index.version()) {
+                built = index;
+            }
+        }
+    }
+
+    private record Built(long version, NamePrefixIndex index) {}
+}
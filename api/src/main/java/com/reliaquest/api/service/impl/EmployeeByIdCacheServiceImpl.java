@@ -0,0 +1,64 @@
+package com.reliaquest.api.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.EmployeeByIdCacheConfig;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.service.EmployeeByIdCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Size-bounded cache of {@code getEmployeeById} lookups. Caffeine's W-TinyLFU policy only admits a new ID over the
+ * eviction candidate if it has been requested more often recently, so a burst of one-off lookups cannot flush the hot
+ * IDs. IDs upstream answered 404 for are cached as missing for the shorter {@code negativeTtl}; failed lookups are not
+ * cached at all. Concurrent lookups of the same ID share one upstream call, made by a {@link CallerLoadedCache}.
+ */
+@Slf4j
+@Service
+public class EmployeeByIdCacheServiceImpl implements EmployeeByIdCacheService {
+
+    public static final String CACHE_NAME = "employeesById";
+
+    private final EmployeeApiClient apiClient;
+    private final CallerLoadedCache<String, Optional<Employee>> cache;
+
+    public EmployeeByIdCacheServiceImpl(
+            EmployeeApiClient apiClient, EmployeeByIdCacheConfig config, MeterRegistry meterRegistry) {
+        this.apiClient = apiClient;
+        this.cache = new CallerLoadedCache<>(
+                CACHE_NAME,
+                Caffeine.newBuilder()
+                        .maximumSize(config.getMaximumSize())
+                        .expireAfter(Expiry.<String, Optional<Employee>>writing((id, employee) ->
+                                employee.isPresent() ? config.getTtl() : config.getNegativeTtl()))
+                        .recordStats()
+                        .buildAsync(),
+                meterRegistry);
+    }
+
+    @Override
+    public Employee getEmployeeById(String id) {
+        try {
+            return cache.get(id, () -> apiClient.findEmployeeById(id)).orElse(null);
+        } catch (RuntimeException e) {
+            log.error("Failed to fetch employee {}", id, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void applyPatch(EmployeePatch patch) {
+        // Remembering deletions as missing saves the lookup that would otherwise find out from upstream.
+        cache.put(patch.employeeId(), Optional.ofNullable(patch.employee()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.client.PrepaidPermit;
+import com.reliaquest.api.client.RateBudget;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.config.CacheRefreshConfig;
+import com.reliaquest.api.service.EmployeeCacheService;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads the employee snapshot before the application reports itself ready, so that no user request pays for the
+ * first full fetch, and then keeps it fresh in the background.
+ *
+ * <p>Refreshes are background work for the upstream concurrency limiter and only run when the rate budget has a
+ * permit to spare right away; otherwise the refresh is skipped until the next interval rather than queueing ahead of
+ * user requests.
+ */
+@Slf4j
+@Service
+public class EmployeeCacheRefresher {
+
+    private final EmployeeCacheService employeeCacheService;
+    private final CacheRefreshConfig config;
+    private final RateBudget rateBudget;
+    private final TaskScheduler scheduler;
+
+    public EmployeeCacheRefresher(
+            EmployeeCacheService employeeCacheService,
+            CacheRefreshConfig config,
+            RateBudget rateBudget,
+            @Qualifier("cacheRefreshScheduler") TaskScheduler scheduler) {
+        this.employeeCacheService = employeeCacheService;
+        this.config = config;
+        this.rateBudget = rateBudget;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Runs before {@code ApplicationReadyEvent}, which is when the readiness probe starts accepting traffic.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (config.isWarmUp()) {
+            warmUp();
+        }
+        if (config.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(
+                    this::refresh, Instant.now().plus(config.getInterval()), config.getInterval());
+            log.info("Refreshing employee snapshot every {}", config.getInterval());
+        }
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        if (UpstreamPriority.callAs(UpstreamPriority.BACKGROUND, employeeCacheService::refresh)) {
+            log.info(
+                    "Warmed up employee snapshot version {} in {} ms",
+                    employeeCacheService.getSnapshotVersion(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } else {
+            log.warn("Employee snapshot warm-up failed; the first request will load it");
+        }
+    }
+
+    void refresh() {
+        if (!rateBudget.tryAcquire(UpstreamPriority.BACKGROUND)) {
+            log.debug("No spare upstream rate budget, skipping employee snapshot refresh");
+            return;
+        }
+        try {
+            UpstreamPriority.callAs(UpstreamPriority.BACKGROUND, PrepaidPermit.wrap(employeeCacheService::refresh));
+        } catch (RuntimeException e) {
+            log.warn("Employee snapshot refresh failed", e);
+        }
+    }
+}
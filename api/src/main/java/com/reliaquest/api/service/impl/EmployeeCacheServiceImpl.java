@@ -1,34 +1,197 @@
 package com.reliaquest.api.service.impl;
 
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import com.reliaquest.api.jfr.SnapshotLoadEvent;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.model.EmployeeSnapshot;
 import com.reliaquest.api.service.EmployeeCacheService;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class EmployeeCacheServiceImpl implements EmployeeCacheService {
 
+    public static final String CACHE_NAME = "employees";
+
     private final EmployeeApiClient apiClient;
+    private final CacheManager cacheManager;
+    private final AtomicLong versions = new AtomicLong(EmployeeSnapshot.NO_VERSION);
+    /** Patches applied since the running refresh started fetching, or {@code null} when none is running. */
+    private List<EmployeePatch> patchesDuringRefresh;
+    /**
+     * Patches applied since the initial load started fetching, or {@code null} when none is running. Opened and dropped
+     * without the monitor, as the load runs under the cache's own lock.
+     */
+    private volatile List<EmployeePatch> patchesDuringLoad;
 
-    public EmployeeCacheServiceImpl(EmployeeApiClient apiClient) {
+    public EmployeeCacheServiceImpl(EmployeeApiClient apiClient, CacheManager cacheManager) {
         this.apiClient = apiClient;
+        this.cacheManager = cacheManager;
     }
 
     @Override
-    @Cacheable(value = "employees", sync = true)
     public List<Employee> getAllEmployees() {
+        return getSnapshot().employees();
+    }
+
+    /**
+     * Loads through {@link Cache#get(Object, java.util.concurrent.Callable)}, which gives the same single-flight
+     * semantics as {@code @Cacheable(sync = true)} while letting the snapshot carry its version. A failed load answers
+     * with an empty, unversioned snapshot that is not cached, so the next call asks upstream again instead of the
+     * directory looking empty until the next refresh.
+     */
+    @Override
+    public EmployeeSnapshot getSnapshot() {
+        return RequestTimings.time(Phase.CACHE, () -> {
+            EmployeeSnapshot snapshot;
+            try {
+                snapshot = cache().get(SimpleKey.EMPTY, this::loadSnapshot);
+            } catch (Cache.ValueRetrievalException e) {
+                log.error("Failed to fetch employees", e.getCause());
+                return new EmployeeSnapshot(EmployeeSnapshot.NO_VERSION, List.of());
+            }
+            return patchesDuringLoad == null ? snapshot : replayPatchesDuringLoad(snapshot);
+        });
+    }
+
+    @Override
+    public long getSnapshotVersion() {
+        EmployeeSnapshot snapshot = cache().get(SimpleKey.EMPTY, EmployeeSnapshot.class);
+        return snapshot == null ? EmployeeSnapshot.NO_VERSION : snapshot.version();
+    }
+
+    @Override
+    public synchronized void applyPatch(EmployeePatch patch) {
+        if (patchesDuringRefresh != null) {
+            patchesDuringRefresh.add(patch);
+        }
+        List<EmployeePatch> loadBuffer = patchesDuringLoad;
+        if (loadBuffer != null) {
+            // The listing being loaded may predate this write, so the patch is replayed once that listing is cached.
+            loadBuffer.add(patch);
+            return;
+        }
+        Cache cache = cache();
+        EmployeeSnapshot current = cache.get(SimpleKey.EMPTY, EmployeeSnapshot.class);
+        if (current == null) {
+            log.debug("No snapshot cached, skipping {} patch for employee '{}'", patch.type(), patch.employeeId());
+            return;
+        }
+        EmployeeSnapshot patched = new EmployeeSnapshot(versions.incrementAndGet(), patch.applyTo(current.employees()));
+        cache.put(SimpleKey.EMPTY, patched);
+        log.debug(
+                "Applied {} patch for employee '{}', snapshot version {} -> {}",
+                patch.type(),
+                patch.employeeId(),
+                current.version(),
+                patched.version());
+    }
+
+    @Override
+    public boolean refresh() {
+        SnapshotLoadEvent event = new SnapshotLoadEvent();
+        event.begin();
+        synchronized (this) {
+            if (patchesDuringRefresh != null) {
+                log.debug("Snapshot refresh already in progress");
+                return false;
+            }
+            patchesDuringRefresh = new ArrayList<>();
+        }
+
+        List<Employee> employees;
         try {
-            List<Employee> employees = apiClient.getAllEmployees();
-            log.debug("Fetched {} employees from API", employees.size());
-            return employees;
-        } catch (Exception e) {
-            log.error("Failed to fetch employees", e);
-            return Collections.emptyList();
+            employees = apiClient.fetchAllEmployees();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                patchesDuringRefresh = null;
+            }
+            log.warn("Failed to refresh employees, keeping snapshot version {}", getSnapshotVersion(), e);
+            commit(event, getSnapshotVersion(), 0, true);
+            return false;
+        }
+
+        EmployeeSnapshot refreshed;
+        synchronized (this) {
+            for (EmployeePatch patch : patchesDuringRefresh) {
+                employees = patch.applyTo(employees);
+            }
+            patchesDuringRefresh = null;
+            refreshed = new EmployeeSnapshot(versions.incrementAndGet(), employees);
+            cache().put(SimpleKey.EMPTY, refreshed);
+        }
+        log.debug("Refreshed {} employees as snapshot version {}", employees.size(), refreshed.version());
+        commit(event, refreshed.version(), employees.size(), false);
+        return true;
+    }
+
+    private EmployeeSnapshot loadSnapshot() {
+        SnapshotLoadEvent event = new SnapshotLoadEvent();
+        event.begin();
+        patchesDuringLoad = new ArrayList<>();
+        List<Employee> employees;
+        try {
+            employees = apiClient.fetchAllEmployees();
+        } catch (RuntimeException e) {
+            // Nothing gets cached, so the next load fetches a listing that already has these writes.
+            patchesDuringLoad = null;
+            commit(event, EmployeeSnapshot.NO_VERSION, 0, true);
+            throw e;
+        }
+        log.debug("Fetched {} employees from API", employees.size());
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(versions.incrementAndGet(), employees);
+        commit(event, snapshot.version(), employees.size(), false);
+        return snapshot;
+    }
+
+    /**
+     * Applies the patches buffered during the initial load to the snapshot it cached, as {@link #refresh()} does with
+     * its own, and closes the buffer.
+     */
+    private synchronized EmployeeSnapshot replayPatchesDuringLoad(EmployeeSnapshot loaded) {
+        List<EmployeePatch> patches = patchesDuringLoad;
+        Cache cache = cache();
+        EmployeeSnapshot current = cache.get(SimpleKey.EMPTY, EmployeeSnapshot.class);
+        if (patches == null || current == null) {
+            return current == null ? loaded : current;
+        }
+        patchesDuringLoad = null;
+        if (patches.isEmpty()) {
+            return current;
+        }
+        List<Employee> employees = current.employees();
+        for (EmployeePatch patch : patches) {
+            employees = patch.applyTo(employees);
+        }
+        EmployeeSnapshot patched = new EmployeeSnapshot(versions.incrementAndGet(), employees);
+        cache.put(SimpleKey.EMPTY, patched);
+        log.debug("Replayed {} patches applied during load as snapshot version {}", patches.size(), patched.version());
+        return patched;
+    }
+
+    private static void commit(SnapshotLoadEvent event, long version, int employees, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(version, employees, failed);
+            event.commit();
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured");
         }
+        return cache;
     }
 }
@@ -0,0 +1,85 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.config.PaginationConfig;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.exception.InvalidCursorException;
+import com.reliaquest.api.exception.StaleCursorException;
+import com.reliaquest.api.model.CompactEmployeeList;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.model.PageCursor;
+import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeePagingService;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pages through the cached snapshot. A cursor records where in the snapshot the previous page stopped scanning, so
+ * every page costs at most one pass over the employees it skips, however deep into the listing it is.
+ */
+@Service
+public class EmployeePagingServiceImpl implements EmployeePagingService {
+
+    private static final int UNFILTERED = 0;
+
+    private final EmployeeCacheService employeeCacheService;
+    private final PaginationConfig config;
+
+    public EmployeePagingServiceImpl(EmployeeCacheService employeeCacheService, PaginationConfig config) {
+        this.employeeCacheService = employeeCacheService;
+        this.config = config;
+    }
+
+    @Override
+    public EmployeePage getEmployeesPage(String cursor, Integer pageSize) {
+        return page(null, cursor, pageSize);
+    }
+
+    @Override
+    public EmployeePage searchEmployeesPage(String searchString, String cursor, Integer pageSize) {
+        return page(searchString.toLowerCase(), cursor, pageSize);
+    }
+
+    private EmployeePage page(String query, String cursor, Integer pageSize) {
+        int requested = pageSize == null ? config.getDefaultPageSize() : pageSize;
+        int size = Math.max(1, Math.min(requested, config.getMaxPageSize()));
+        int queryHash = query == null ? UNFILTERED : query.hashCode();
+        EmployeeSnapshot snapshot = employeeCacheService.getSnapshot();
+
+        int position = 0;
+        if (cursor != null) {
+            PageCursor decoded = PageCursor.decode(cursor);
+            if (decoded.queryHash() != queryHash) {
+                throw new InvalidCursorException(cursor);
+            }
+            if (decoded.version() != snapshot.version()) {
+                throw new StaleCursorException(decoded.version(), snapshot.version());
+            }
+            position = decoded.position();
+        }
+
+        // Non-matching rows are skipped by their name alone, without materializing them.
+        CompactEmployeeList employees = CompactEmployeeList.copyOf(snapshot.employees());
+        List<Employee> data = new ArrayList<>(size);
+        while (position < employees.size() && data.size() < size) {
+            if (matches(employees, position, query)) {
+                data.add(employees.get(position));
+            }
+            position++;
+        }
+        // Skip ahead to the next match so the last page reliably comes without a cursor.
+        while (position < employees.size() && !matches(employees, position, query)) {
+            position++;
+        }
+
+        String nextCursor = position < employees.size()
+                ? new PageCursor(snapshot.version(), position, queryHash).encode()
+                : null;
+        return new EmployeePage(data, nextCursor);
+    }
+
+    private static boolean matches(CompactEmployeeList employees, int index, String query) {
+        return query == null || employees.nameContains(index, query);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reliaquest.api.config.SearchCacheConfig;
+import com.reliaquest.api.model.CompactEmployeeList;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeeSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches name search results keyed by snapshot version and lowercased query. Entries of older snapshot versions can no
+ * longer be hit and are dropped as soon as a newer version is searched; the cache is bounded by the total number of
+ * employees across its result lists. Concurrent identical searches share one scan, run by a {@link CallerLoadedCache}.
+ */
+@Service
+public class EmployeeSearchServiceImpl implements EmployeeSearchService {
+
+    public static final String CACHE_NAME = "employeeSearches";
+
+    private final EmployeeCacheService employeeCacheService;
+    private final CallerLoadedCache<SearchKey, List<Employee>> cache;
+    private final AtomicLong newestVersion = new AtomicLong(EmployeeSnapshot.NO_VERSION);
+
+    public EmployeeSearchServiceImpl(
+            EmployeeCacheService employeeCacheService, SearchCacheConfig config, MeterRegistry meterRegistry) {
+        this.employeeCacheService = employeeCacheService;
+        this.cache = new CallerLoadedCache<>(
+                CACHE_NAME,
+                Caffeine.newBuilder()
+                        .maximumWeight(config.getMaximumResults())
+                        .<SearchKey, List<Employee>>weigher((key, employees) -> 1 + employees.size())
+                        .recordStats()
+                        .buildAsync(),
+                meterRegistry);
+    }
+
+    @Override
+    public List<Employee> searchByName(String query) {
+        String normalized = query.toLowerCase();
+        EmployeeSnapshot snapshot = employeeCacheService.getSnapshot();
+        evictOlderThan(snapshot.version());
+
+        return cache.get(
+                new SearchKey(snapshot.version(), normalized), () -> scan(snapshot.employees(), normalized));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void evictOlderThan(long version) {
+        if (newestVersion.getAndAccumulate(version, Math::max) < version) {
+            cache.removeIf(key -> key.version() < version);
+        }
+    }
+
+    /**
+     * Matches against the snapshot's name column, so only the matching employees are materialized.
+     */
+    private static List<Employee> scan(List<Employee> employees, String query) {
+        return Collections.unmodifiableList(CompactEmployeeList.copyOf(employees).withNameContaining(query));
+    }
+
+    private record SearchKey(long version, String query) {}
+}
@@ -4,14 +4,21 @@ import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.dto.EmployeeInput;
 import com.reliaquest.api.exception.EmployeeDeletionFailedException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CompactEmployeeList;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.ClusterBroadcaster;
+import com.reliaquest.api.service.EmployeeByIdCacheService;
 import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeeSearchService;
 import com.reliaquest.api.service.EmployeeService;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -19,22 +26,36 @@ import org.springframework.stereotype.Service;
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeCacheService employeeCacheService;
+    private final EmployeeByIdCacheService employeeByIdCacheService;
+    private final EmployeeSearchService employeeSearchService;
     private final EmployeeApiClient apiClient;
+    private final ClusterBroadcaster clusterBroadcaster;
 
-    public EmployeeServiceImpl(EmployeeCacheService employeeCacheService, EmployeeApiClient apiClient) {
+    public EmployeeServiceImpl(
+            EmployeeCacheService employeeCacheService,
+            EmployeeByIdCacheService employeeByIdCacheService,
+            EmployeeSearchService employeeSearchService,
+            EmployeeApiClient apiClient,
+            ClusterBroadcaster clusterBroadcaster) {
         this.employeeCacheService = employeeCacheService;
+        this.employeeByIdCacheService = employeeByIdCacheService;
+        this.employeeSearchService = employeeSearchService;
         this.apiClient = apiClient;
+        this.clusterBroadcaster = clusterBroadcaster;
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
     @Override
     public Employee createEmployee(EmployeeInput employeeInput) {
-        return apiClient.createEmployee(employeeInput);
+        Employee employee = apiClient.createEmployee(employeeInput);
+        if (employee != null) {
+            publish(EmployeePatch.created(employee));
+        }
+        return employee;
     }
 
     @Override
     public Employee getEmployeeById(String id) {
-        Employee employee = apiClient.getEmployeeById(id);
+        Employee employee = employeeByIdCacheService.getEmployeeById(id);
         if (employee == null) {
             throw new EmployeeNotFoundException(id);
         }
@@ -43,42 +64,72 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        return employeeCacheService.getAllEmployees().stream()
-                .filter(e -> e.getName() != null && e.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        return pushDownWhileCold("name search", () -> apiClient.searchEmployeesByName(searchString))
+                .orElseGet(() -> employeeSearchService.searchByName(searchString));
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        return employeeCacheService.getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        return pushDownWhileCold("highest salary", () -> Objects.requireNonNullElse(apiClient.findHighestSalary(), 0))
+                .orElseGet(this::highestCachedSalary);
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        var allEmployees = employeeCacheService.getAllEmployees();
-        var minHeap = new PriorityQueue<>(Comparator.comparing(Employee::getSalary));
+        return pushDownWhileCold("top ten earners", () -> apiClient.findTopEmployeesBySalary(10).stream()
+                        .map(Employee::getName)
+                        .toList())
+                .orElseGet(this::topTenCachedEarnerNames);
+    }
 
-        for (Employee emp : allEmployees) {
-            minHeap.offer(emp);
-            if (minHeap.size() > 10) minHeap.poll();
-        }
+    /*
+     * The cached snapshot is already compact, so copyOf returns it as is and these read its salary column directly.
+     */
+    private Integer highestCachedSalary() {
+        return CompactEmployeeList.copyOf(employeeCacheService.getAllEmployees())
+                .maxSalary()
+                .orElse(0);
+    }
 
-        return minHeap.stream()
-                .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                .map(Employee::getName)
+    private List<String> topTenCachedEarnerNames() {
+        var employees = CompactEmployeeList.copyOf(employeeCacheService.getAllEmployees());
+        return Arrays.stream(employees.indexesOfTopSalaries(10))
+                .mapToObj(employees::nameAt)
                 .toList();
     }
 
-    @CacheEvict(value = "employees", allEntries = true)
     @Override
     public String deleteEmployeeById(String id) {
         String deletedName = apiClient.deleteEmployeeById(id);
         if (deletedName == null) {
             throw new EmployeeDeletionFailedException(id);
         }
+        publish(EmployeePatch.deleted(id));
         return deletedName;
     }
+
+    /**
+     * While nothing is cached, asks upstream to evaluate {@code query} rather than downloading every employee to answer
+     * it; once a snapshot is cached, or if upstream cannot answer, the caller answers from the snapshot instead.
+     */
+    private <T> Optional<T> pushDownWhileCold(String description, Supplier<T> query) {
+        if (employeeCacheService.getSnapshotVersion() != EmployeeSnapshot.NO_VERSION) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(query.get());
+        } catch (RuntimeException e) {
+            log.warn("Upstream could not evaluate the {}, answering from the snapshot instead", description, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Patches the local caches and every other replica's, rather than evicting them and refetching from upstream.
+     */
+    private void publish(EmployeePatch patch) {
+        employeeCacheService.applyPatch(patch);
+        employeeByIdCacheService.applyPatch(patch);
+        clusterBroadcaster.broadcast(patch);
+    }
 }
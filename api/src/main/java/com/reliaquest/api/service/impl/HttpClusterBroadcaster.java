@@ -0,0 +1,69 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.config.ClusterConfig;
+import com.reliaquest.api.filter.InternalEndpointFilter;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.service.ClusterBroadcaster;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Peer-to-peer HTTP fan-out of employee patches. Each peer has its own sender thread, so patches reach a peer in the
+ * order they were published and a slow peer does not hold up the others.
+ */
+@Slf4j
+@Service
+public class HttpClusterBroadcaster implements ClusterBroadcaster, DisposableBean {
+
+    public static final String PATCHES_PATH = "/internal/cluster/patches";
+
+    private final ClusterConfig clusterConfig;
+    private final RestTemplate restTemplate;
+    private final Map<String, ExecutorService> senders = new ConcurrentHashMap<>();
+
+    public HttpClusterBroadcaster(ClusterConfig clusterConfig, RestTemplateBuilder restTemplateBuilder) {
+        this.clusterConfig = clusterConfig;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(clusterConfig.getTimeout())
+                .setReadTimeout(clusterConfig.getTimeout())
+                .defaultHeader(InternalEndpointFilter.SECRET_HEADER, Objects.toString(clusterConfig.getSecret(), ""))
+                .build();
+    }
+
+    @Override
+    public void broadcast(EmployeePatch patch) {
+        for (String peer : clusterConfig.getPeers()) {
+            senders.computeIfAbsent(peer, HttpClusterBroadcaster::newSender).execute(() -> send(peer, patch));
+        }
+    }
+
+    private void send(String peer, EmployeePatch patch) {
+        try {
+            restTemplate.postForLocation(peer + PATCHES_PATH, patch);
+            log.debug("Sent {} patch for employee '{}' to {}", patch.type(), patch.employeeId(), peer);
+        } catch (Exception e) {
+            log.warn("Failed to send {} patch for employee '{}' to {}", patch.type(), patch.employeeId(), peer, e);
+        }
+    }
+
+    private static ExecutorService newSender(String peer) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-patch-" + peer);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        senders.values().forEach(ExecutorService::shutdown);
+    }
+}
@@ -0,0 +1,247 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.model.AutocompleteRank;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable prefix index over employee names, built once per snapshot and ranking.
+ *
+ * <p>Every word of every name is an entry, so "smi" finds "John Smith". Entries are kept as a sorted suffix array,
+ * which is a trie flattened into two int arrays: the entries under any prefix form one contiguous range, found with two
+ * binary searches. Employees are numbered in rank order, so the best matches in a range are its smallest employee
+ * numbers. Small ranges are simply scanned; for ranges too large to scan, i.e. the short, popular prefixes, the top
+ * {@code maxResults} are precomputed while building.
+ */
+public class NamePrefixIndex {
+
+    static final int DEFAULT_SCAN_THRESHOLD = 256;
+
+    private static final int[] NONE = new int[0];
+
+    private final int maxResults;
+    private final int scanThreshold;
+    private final String[] names;
+    private final String[] keys;
+    private final int[] entryEmployee;
+    private final int[] entryOffset;
+    private final Map<Long, int[]> heavyRanges = new HashMap<>();
+
+    public NamePrefixIndex(List<Employee> employees, AutocompleteRank rank, int maxResults) {
+        this(employees, rank, maxResults, DEFAULT_SCAN_THRESHOLD);
+    }
+
+    NamePrefixIndex(List<Employee> employees, AutocompleteRank rank, int maxResults, int scanThreshold) {
+        this.maxResults = maxResults;
+        this.scanThreshold = scanThreshold;
+
+        Employee[] ranked = employees.stream()
+                .filter(employee -> employee.getName() != null)
+                .sorted(rank.order())
+                .toArray(Employee[]::new);
+        names = new String[ranked.length];
+        keys = new String[ranked.length];
+        int entries = 0;
+        for (int i = 0; i < ranked.length; i++) {
+            names[i] = ranked[i].getName();
+            keys[i] = names[i].toLowerCase(Locale.ROOT);
+            entries += wordStarts(keys[i], null, 0);
+        }
+
+        int[] unsortedEmployee = new int[entries];
+        int[] unsortedOffset = new int[entries];
+        int next = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int words = wordStarts(keys[i], unsortedOffset, next);
+            Arrays.fill(unsortedEmployee, next, next + words, i);
+            next += words;
+        }
+
+        Integer[] order = new Integer[entries];
+        for (int i = 0; i < entries; i++) {
+            order[i] = i;
+        }
+        Arrays.parallelSort(order, (a, b) -> compareSuffixes(
+                unsortedEmployee[a], unsortedOffset[a], unsortedEmployee[b], unsortedOffset[b]));
+        entryEmployee = new int[entries];
+        entryOffset = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            entryEmployee[i] = unsortedEmployee[order[i]];
+            entryOffset[i] = unsortedOffset[order[i]];
+        }
+
+        precompute(0, entries, 0);
+    }
+
+    /**
+     * @param prefix the typed prefix, matched case-insensitively against the start of any word in a name
+     * @param limit the maximum number of names to return, capped at the index's {@code maxResults}
+     * @return matching names, best ranked first
+     */
+    public List<String> complete(String prefix, int limit) {
+        String key = prefix.strip().toLowerCase(Locale.ROOT);
+        int lo = bound(key, false);
+        int hi = bound(key, true);
+        int[] top = hi - lo > scanThreshold ? heavyRanges.get(rangeKey(lo, hi)) : null;
+        if (top == null) {
+            top = scan(lo, hi);
+        }
+
+        int count = Math.min(Math.min(limit, maxResults), top.length);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(names[top[i]]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Walks the implicit trie depth-first, storing the top employees of every node too large to scan at query time.
+     * Entries ending exactly at {@code depth} sort first within a node and cannot be split further, so they are scanned
+     * rather than descended into.
+     */
+    private int[] precompute(int lo, int hi, int depth) {
+        if (hi - lo <= scanThreshold) {
+            return scan(lo, hi);
+        }
+        int i = lo;
+        while (i < hi && suffixLength(i) == depth) {
+            i++;
+        }
+        int[] top = scan(lo, i);
+        while (i < hi) {
+            char c = charAt(i, depth);
+            int j = i + 1;
+            while (j < hi && charAt(j, depth) == c) {
+                j++;
+            }
+            top = merge(top, precompute(i, j, depth + 1));
+            i = j;
+        }
+        heavyRanges.put(rangeKey(lo, hi), top);
+        return top;
+    }
+
+    /**
+     * @return the best {@code maxResults} distinct employees among entries {@code [lo, hi)}, best first
+     */
+    private int[] scan(int lo, int hi) {
+        if (lo >= hi) {
+            return NONE;
+        }
+        int[] employees = Arrays.copyOfRange(entryEmployee, lo, hi);
+        Arrays.sort(employees);
+        int[] top = new int[Math.min(maxResults, employees.length)];
+        int count = 0;
+        for (int i = 0; i < employees.length && count < top.length; i++) {
+            if (i == 0 || employees[i] != employees[i - 1]) {
+                top[count++] = employees[i];
+            }
+        }
+        return count == top.length ? top : Arrays.copyOf(top, count);
+    }
+
+    private int[] merge(int[] a, int[] b) {
+        int[] merged = new int[Math.min(maxResults, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (count < merged.length && (i < a.length || j < b.length)) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
+        }
+        return count == merged.length ? merged : Arrays.copyOf(merged, count);
+    }
+
+    /**
+     * Binary search for the first entry whose suffix starts with {@code key} or sorts after it ({@code upper = false}),
+     * or the first entry that sorts after every suffix starting with {@code key} ({@code upper = true}).
+     */
+    private int bound(String key, boolean upper) {
+        int lo = 0;
+        int hi = entryEmployee.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = comparePrefix(mid, key);
+            if (cmp < 0 || (upper && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int comparePrefix(int entry, String key) {
+        String name = keys[entryEmployee[entry]];
+        int offset = entryOffset[entry];
+        for (int i = 0; i < key.length(); i++) {
+            if (offset + i == name.length()) {
+                return -1;
+            }
+            int cmp = name.charAt(offset + i) - key.charAt(i);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private int compareSuffixes(int employeeA, int offsetA, int employeeB, int offsetB) {
+        String a = keys[employeeA];
+        String b = keys[employeeB];
+        int length = Math.min(a.length() - offsetA, b.length() - offsetB);
+        for (int i = 0; i < length; i++) {
+            int cmp = a.charAt(offsetA + i) - b.charAt(offsetB + i);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        int cmp = (a.length() - offsetA) - (b.length() - offsetB);
+        return cmp != 0 ? cmp : Integer.compare(employeeA, employeeB);
+    }
+
+    private int suffixLength(int entry) {
+        return keys[entryEmployee[entry]].length() - entryOffset[entry];
+    }
+
+    private char charAt(int entry, int depth) {
+        return keys[entryEmployee[entry]].charAt(entryOffset[entry] + depth);
+    }
+
+    private static long rangeKey(int lo, int hi) {
+        return (long) lo << 32 | hi;
+    }
+
+    /**
+     * Counts the words in {@code key}, writing their start offsets into {@code offsets} from {@code from} if given.
+     */
+    private static int wordStarts(String key, int[] offsets, int from) {
+        int count = 0;
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isWhitespace(key.charAt(i)) && (i == 0 || Character.isWhitespace(key.charAt(i - 1)))) {
+                if (offsets != null) {
+                    offsets[from + count] = i;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.client.RateLease;
+import com.reliaquest.api.client.RateLeaseSource;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.config.RateBudgetConfig;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fleet-wide fixed-window token bucket. Every window holds {@code permits} upstream requests; each active replica has
+ * an equal share reserved, and permits not claimed by anyone else may be borrowed by whoever asks, so the budget is
+ * shared fairly under contention without sitting idle when only one replica is busy.
+ *
+ * <p>Independently of replicas, each {@link UpstreamPriority} class may only spend its configured share of a window,
+ * so that background refreshes and user reads can never use up the permits user writes need.
+ */
+@Slf4j
+public class RateBudgetCoordinator implements RateLeaseSource {
+
+    private final int permits;
+    private final Map<UpstreamPriority, Integer> reserved = new EnumMap<>(UpstreamPriority.class);
+    private final long periodMillis;
+    private final long activeTimeoutMillis;
+    private final Clock clock;
+
+    private final Map<String, Long> lastSeen = new HashMap<>();
+    private final Map<String, Integer> granted = new HashMap<>();
+    private long windowEndsAtMillis;
+    private int remaining;
+
+    public RateBudgetCoordinator(RateBudgetConfig config, Clock clock) {
+        this.permits = config.getPermits();
+        this.periodMillis = config.getPeriod().toMillis();
+        this.activeTimeoutMillis = config.getActiveTimeout().toMillis();
+        this.clock = clock;
+        reserved.put(UpstreamPriority.USER_WRITE, reservedAbove(config.getWriteShare()));
+        reserved.put(UpstreamPriority.USER_READ, reservedAbove(config.getReadShare()));
+        reserved.put(UpstreamPriority.BACKGROUND, reservedAbove(config.getBackgroundShare()));
+    }
+
+    @Override
+    public synchronized RateLease lease(String nodeId, int requested, UpstreamPriority priority) {
+        long now = clock.millis();
+        if (now >= windowEndsAtMillis) {
+            windowEndsAtMillis = now + periodMillis;
+            remaining = permits;
+            granted.clear();
+        }
+        lastSeen.put(nodeId, now);
+        lastSeen.values().removeIf(seen -> now - seen > activeTimeoutMillis);
+
+        int fairShare = Math.max(1, permits / lastSeen.size());
+        int reservedForOthers = 0;
+        for (String other : lastSeen.keySet()) {
+            if (!other.equals(nodeId)) {
+                reservedForOthers += Math.max(0, fairShare - granted.getOrDefault(other, 0));
+            }
+        }
+
+        int available = remaining - Math.max(reservedForOthers, reserved.get(priority));
+        int grant = Math.max(0, Math.min(requested, available));
+        remaining -= grant;
+        granted.merge(nodeId, grant, Integer::sum);
+        log.debug(
+                "Leased {}/{} upstream permits to {} for {} ({} left in window)",
+                grant,
+                requested,
+                nodeId,
+                priority,
+                remaining);
+        return new RateLease(grant, windowEndsAtMillis - now);
+    }
+
+    /**
+     * @return the permits of a window held back from a class that may spend {@code share} of them
+     */
+    private int reservedAbove(double share) {
+        return permits - Math.max(1, (int) (permits * share));
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.config.MockEmployeeApiConfig;
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final UpstreamPriority WRITE = UpstreamPriority.USER_WRITE;
+    private static final UpstreamPriority READ = UpstreamPriority.USER_READ;
+    private static final UpstreamPriority BACKGROUND = UpstreamPriority.BACKGROUND;
+
+    private MockEmployeeApiConfig config;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new MockEmployeeApiConfig();
+        config.getConcurrency().setInitialLimit(4);
+        config.getConcurrency().setMaxQueueWait(Duration.ofMillis(50));
+        config.getConcurrency().setReadShare(1.0);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void release_ShouldGrowLimitAdditivelyOnSuccess() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(READ);
+            limiter.release(READ, false, RTT);
+        }
+
+        assertTrue(limiter.getLimit() > 6, "limit: " + limiter.getLimit());
+        assertTrue(limiter.getLimit() < 9, "limit: " + limiter.getLimit());
+    }
+
+    @Test
+    void release_ShouldCutLimitMultiplicativelyOnOverload() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        limiter.acquire(READ);
+        limiter.release(READ, true, RTT);
+        assertEquals(2.0, limiter.getLimit());
+
+        limiter.acquire(READ);
+        limiter.release(READ, true, RTT);
+        limiter.acquire(READ);
+        limiter.release(READ, true, RTT);
+        assertEquals(1.0, limiter.getLimit());
+    }
+
+    @Test
+    void release_ShouldCutLimitWhenLatencyDegrades() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        limiter.acquire(READ);
+        limiter.release(READ, false, RTT);
+        double beforeSlowCall = limiter.getLimit();
+
+        limiter.acquire(READ);
+        limiter.release(READ, false, RTT * 10);
+
+        assertTrue(limiter.getLimit() < beforeSlowCall);
+    }
+
+    @Test
+    void acquire_ShouldShedWhenNoPermitFreesUpInTime() throws Exception {
+        config.getConcurrency().setInitialLimit(1);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        limiter.acquire(READ);
+
+        assertThrows(UpstreamOverloadedException.class, () -> limiter.acquire(READ));
+        double rejected = meterRegistry
+                .get("upstream.scheduler.rejected")
+                .tag("priority", "user_read")
+                .counter()
+                .count();
+        assertEquals(1.0, rejected);
+    }
+
+    @Test
+    void acquire_ShouldShedImmediatelyWhenQueueIsFull() throws Exception {
+        config.getConcurrency().setInitialLimit(1);
+        config.getConcurrency().setMaxQueueSize(0);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        limiter.acquire(READ);
+
+        assertThrows(UpstreamOverloadedException.class, () -> limiter.acquire(READ));
+    }
+
+    @Test
+    void acquire_ShouldWakeQueuedCallerOnRelease() throws Exception {
+        config.getConcurrency().setInitialLimit(1);
+        config.getConcurrency().setMaxQueueWait(Duration.ofSeconds(5));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+        limiter.acquire(READ);
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire(READ);
+                acquired.countDown();
+            } catch (Exception ignored) {
+                // the assertion below fails instead
+            }
+        });
+        waiter.start();
+
+        limiter.release(READ, false, RTT);
+
+        assertTrue(acquired.await(1, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void limit_ShouldBeReportedAsGauge() {
+        new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        assertEquals(4.0, meterRegistry.get("upstream.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void acquire_ShouldHandFreedPermitToHighestPriorityWaiter() throws Exception {
+        config.getConcurrency().setInitialLimit(1);
+        config.getConcurrency().setMaxLimit(1);
+        config.getConcurrency().setMaxQueueWait(Duration.ofSeconds(5));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+        limiter.acquire(READ);
+
+        List<UpstreamPriority> order = new CopyOnWriteArrayList<>();
+        Thread background = waiter(limiter, BACKGROUND, order);
+        awaitQueued(BACKGROUND);
+        Thread write = waiter(limiter, WRITE, order);
+        awaitQueued(WRITE);
+
+        limiter.release(READ, false, RTT);
+        write.join();
+        limiter.release(WRITE, false, RTT);
+        background.join();
+
+        assertEquals(List.of(WRITE, BACKGROUND), order);
+    }
+
+    @Test
+    void acquire_ShouldCapBackgroundAtItsShareOfTheLimit() throws Exception {
+        config.getConcurrency().setInitialLimit(4);
+        config.getConcurrency().setBackgroundShare(0.5);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+
+        limiter.acquire(BACKGROUND);
+        limiter.acquire(BACKGROUND);
+        assertThrows(UpstreamOverloadedException.class, () -> limiter.acquire(BACKGROUND));
+
+        limiter.acquire(WRITE);
+        limiter.acquire(READ);
+    }
+
+    private Thread waiter(AdaptiveConcurrencyLimiter limiter, UpstreamPriority priority, List<UpstreamPriority> order) {
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire(priority);
+                order.add(priority);
+            } catch (Exception ignored) {
+                // the ordering assertion fails instead
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void awaitQueued(UpstreamPriority priority) throws InterruptedException {
+        Gauge queued = meterRegistry
+                .get("upstream.scheduler.queued")
+                .tag("priority", priority.name().toLowerCase())
+                .gauge();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued.value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static com.reliaquest.api.testdata.EmployeeTestData.allEmployees;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -27,9 +28,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +48,9 @@ class EmployeeApiClientTest {
     @Mock
     private MockEmployeeApiConfig properties;
 
+    @Spy
+    private RequestHedger requestHedger = RequestHedger.disabled();
+
     @InjectMocks
     private EmployeeApiClient apiClient;
 
@@ -89,6 +95,63 @@ class EmployeeApiClientTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void searchEmployeesByName_pushesQueryDownToUpstream() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of(ALICE));
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/search?name={name}"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        any(ParameterizedTypeReference.class),
+                        eq("ali")))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+
+        List<Employee> result = apiClient.searchEmployeesByName("ali");
+
+        assertEquals(List.of(ALICE), result);
+    }
+
+    @Test
+    void searchEmployeesByName_propagatesFailures() {
+        when(restTemplate.exchange(
+                        anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), eq("ali")))
+                .thenThrow(new RuntimeException("API down"));
+
+        assertThrows(RuntimeException.class, () -> apiClient.searchEmployeesByName("ali"));
+    }
+
+    @Test
+    void findHighestSalary_returnsUpstreamMaximum() {
+        ApiResponse<Integer> apiResponse = new ApiResponse<>();
+        apiResponse.setData(1000);
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/max?by=salary"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+
+        assertEquals(1000, apiClient.findHighestSalary());
+    }
+
+    @Test
+    void findTopEmployeesBySalary_pushesLimitDownToUpstream() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(allEmployees());
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/top?by=salary&limit={limit}"),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        any(ParameterizedTypeReference.class),
+                        eq(10)))
+                .thenReturn(new ResponseEntity<>(apiResponse, HttpStatus.OK));
+
+        List<Employee> result = apiClient.findTopEmployeesBySalary(10);
+
+        assertEquals(allEmployees(), result);
+    }
+
     @Test
     void getEmployeeById_returnsEmployee() {
         ApiResponse<Employee> apiResponse = new ApiResponse<>();
@@ -114,6 +177,23 @@ class EmployeeApiClientTest {
         assertNull(result);
     }
 
+    @Test
+    void findEmployeeById_returnsEmpty_whenUpstreamAnswers404() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+
+        assertTrue(apiClient.findEmployeeById("999").isEmpty());
+    }
+
+    @Test
+    void findEmployeeById_throws_whenUpstreamFails() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new RuntimeException("Timeout"));
+
+        assertThrows(RuntimeException.class, () -> apiClient.findEmployeeById("999"));
+    }
+
     @Test
     void createEmployee_returnsCreatedEmployee() {
         EmployeeInput input = new EmployeeInput("Alice", 1000, 30, "Proj. Mgr");
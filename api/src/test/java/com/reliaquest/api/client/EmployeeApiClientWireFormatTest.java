@@ -0,0 +1,124 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.common.ApiResponse;
+import com.reliaquest.api.config.MockEmployeeApiConfig;
+import com.reliaquest.api.interceptor.PreferBinaryInterceptor;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeApiClientWireFormatTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeApiClientWireFormatTest.class);
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    private static final TypeReference<ApiResponse<List<Employee>>> ALL_EMPLOYEES = new TypeReference<>() {};
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    private MockRestServiceServer server;
+    private EmployeeApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate(List.of(
+                new MappingJackson2HttpMessageConverter(json), new MappingJackson2SmileHttpMessageConverter(smile)));
+        restTemplate.getInterceptors().add(new PreferBinaryInterceptor());
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        MockEmployeeApiConfig config = new MockEmployeeApiConfig();
+        config.setUrl(URL);
+        client = new EmployeeApiClient(restTemplate, config, RequestHedger.disabled());
+    }
+
+    @Test
+    void getAllEmployees_ShouldPreferAndDecodeSmile() throws Exception {
+        List<Employee> employees = employees(3);
+        server.expect(requestTo(URL))
+                .andExpect(header("Accept", "application/x-jackson-smile, application/json;q=0.9"))
+                .andRespond(withSuccess(smile.writeValueAsBytes(new ApiResponse<>(employees, "ok")), SMILE));
+
+        List<Employee> fetched = client.getAllEmployees();
+
+        server.verify();
+        assertEquals(json.writeValueAsString(employees), json.writeValueAsString(fetched));
+    }
+
+    @Test
+    void getAllEmployees_ShouldFallBackToJson() throws Exception {
+        List<Employee> employees = employees(3);
+        server.expect(requestTo(URL))
+                .andRespond(withSuccess(
+                        json.writeValueAsBytes(new ApiResponse<>(employees, "ok")), MediaType.APPLICATION_JSON));
+
+        List<Employee> fetched = client.getAllEmployees();
+
+        assertEquals(json.writeValueAsString(employees), json.writeValueAsString(fetched));
+    }
+
+    /**
+     * Run with {@code ./gradlew :api:test -Dbenchmarks=true --tests '*EmployeeApiClientWireFormatTest'}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_AllEmployeesPayload() throws Exception {
+        ApiResponse<List<Employee>> payload = new ApiResponse<>(employees(10_000), "Successfully processed request.");
+
+        for (ObjectMapper mapper : List.of(json, smile, json, smile)) {
+            int rounds = 100;
+            byte[] encoded = mapper.writeValueAsBytes(payload);
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                encoded = mapper.writeValueAsBytes(payload);
+            }
+            long encodeNanos = (System.nanoTime() - encodeStart) / rounds;
+            long decodeStart = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                mapper.readValue(encoded, ALL_EMPLOYEES);
+            }
+            long decodeNanos = (System.nanoTime() - decodeStart) / rounds;
+            log.info(
+                    "Wire format {}: {} bytes, encoded in {} ms, decoded in {} ms",
+                    mapper == smile ? "smile" : "json",
+                    encoded.length,
+                    "%.2f".formatted(encodeNanos / 1e6),
+                    "%.2f".formatted(decodeNanos / 1e6));
+        }
+        assertTrue(smile.writeValueAsBytes(payload).length < json.writeValueAsBytes(payload).length);
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    30_000 + i,
+                    16 + i % 50,
+                    "Senior Software Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,209 @@
+package com.reliaquest.api.client;
+
+import static com.reliaquest.api.client.UpstreamPriority.BACKGROUND;
+import static com.reliaquest.api.client.UpstreamPriority.USER_READ;
+import static com.reliaquest.api.client.UpstreamPriority.USER_WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.config.RateBudgetConfig;
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+import com.reliaquest.api.service.impl.RateBudgetCoordinator;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LeasedRateBudgetTest {
+
+    private static final int PERMITS = 6;
+    private static final Duration PERIOD = Duration.ofSeconds(90);
+
+    private final ManualClock clock = new ManualClock();
+    private RateBudgetCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        RateBudgetConfig config = new RateBudgetConfig();
+        config.setPermits(PERMITS);
+        config.setPeriod(PERIOD);
+        coordinator = new RateBudgetCoordinator(config, clock);
+    }
+
+    @Test
+    void tryAcquire_ShouldSplitBudgetFairlyAcrossReplicas() {
+        List<LeasedRateBudget> replicas = List.of(replica("a"), replica("b"), replica("c"));
+        // Every replica says hello first so the coordinator knows who is active.
+        int[] taken = new int[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            taken[i] += replicas.get(i).tryAcquire(USER_WRITE) ? 1 : 0;
+        }
+
+        // Replica "a" is the noisy one and keeps asking.
+        while (replicas.get(0).tryAcquire(USER_WRITE)) {
+            taken[0]++;
+        }
+        for (int i = 1; i < replicas.size(); i++) {
+            while (replicas.get(i).tryAcquire(USER_WRITE)) {
+                taken[i]++;
+            }
+        }
+
+        assertEquals(PERMITS, taken[0] + taken[1] + taken[2]);
+        assertEquals(2, taken[0]);
+        assertEquals(2, taken[1]);
+        assertEquals(2, taken[2]);
+    }
+
+    @Test
+    void tryAcquire_ShouldLetSingleReplicaUseWholeBudget() {
+        LeasedRateBudget replica = replica("a");
+
+        int taken = 0;
+        while (replica.tryAcquire(USER_WRITE)) {
+            taken++;
+        }
+
+        assertEquals(PERMITS, taken);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillInNextWindow() {
+        LeasedRateBudget replica = replica("a");
+        while (replica.tryAcquire(USER_WRITE)) {}
+
+        clock.advance(PERIOD.minusSeconds(1));
+        assertFalse(replica.tryAcquire(USER_WRITE));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(replica.tryAcquire(USER_WRITE));
+    }
+
+    @Test
+    void tryAcquire_ShouldHoldSharesBackForMoreImportantClasses() {
+        LeasedRateBudget replica = replica("a");
+
+        int background = 0;
+        while (replica.tryAcquire(BACKGROUND)) {
+            background++;
+        }
+        int reads = 0;
+        while (replica.tryAcquire(USER_READ)) {
+            reads++;
+        }
+        int writes = 0;
+        while (replica.tryAcquire(USER_WRITE)) {
+            writes++;
+        }
+
+        // Background work may spend half of the window and reads three quarters; writes get whatever is left.
+        assertEquals(3, background);
+        assertEquals(1, reads);
+        assertEquals(2, writes);
+    }
+
+    @Test
+    void acquire_ShouldShedWhenBudgetDoesNotRefillInTime() {
+        LeasedRateBudget replica = new LeasedRateBudget("a", coordinator, 1, Duration.ofSeconds(10), clock);
+        while (replica.tryAcquire(USER_WRITE)) {}
+
+        assertThrows(UpstreamOverloadedException.class, () -> replica.acquire(USER_WRITE));
+    }
+
+    @Test
+    void tryAcquire_ShouldFailClosedWhenCoordinatorIsUnreachable() {
+        RateLeaseSource unreachable = (nodeId, requested, priority) -> {
+            throw new IllegalStateException("connection refused");
+        };
+        LeasedRateBudget replica = new LeasedRateBudget("a", unreachable, 1, Duration.ofSeconds(10), clock);
+
+        assertFalse(replica.tryAcquire(USER_WRITE));
+    }
+
+    @Test
+    void acquire_ShouldShareOneLeaseRequestWithoutBlockingOtherCallers() throws Exception {
+        CountDownLatch leasing = new CountDownLatch(1);
+        CountDownLatch answer = new CountDownLatch(1);
+        AtomicInteger leaseRequests = new AtomicInteger();
+        RateLeaseSource slowCoordinator = (nodeId, requested, priority) -> {
+            leaseRequests.incrementAndGet();
+            leasing.countDown();
+            try {
+                answer.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new RateLease(requested, PERIOD.toMillis());
+        };
+        LeasedRateBudget replica = new LeasedRateBudget("a", slowCoordinator, 4, Duration.ofSeconds(10), clock);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> acquired = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                acquired.add(executor.submit(() -> {
+                    replica.acquire(USER_READ);
+                    return null;
+                }));
+            }
+            assertTrue(leasing.await(5, TimeUnit.SECONDS));
+
+            // Answered straight away even though the coordinator has yet to reply.
+            assertFalse(replica.tryAcquire(BACKGROUND));
+
+            answer.countDown();
+            for (Future<?> future : acquired) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, leaseRequests.get());
+    }
+
+    private LeasedRateBudget replica(String nodeId) {
+        return new LeasedRateBudget(nodeId, coordinator, 1, Duration.ofMinutes(2), clock);
+    }
+
+    private static class ManualClock extends Clock {
+
+        private long millis = 1_000_000;
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.reliaquest.api.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.config.MockEmployeeApiConfig;
+import com.reliaquest.api.interceptor.RateBudgetInterceptor;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class RequestHedgerTest {
+
+    private static final Duration SLOW = Duration.ofMillis(300);
+    private static final int CALLS = 40;
+
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+
+    @BeforeEach
+    void startMockServer() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/v1/employee", exchange -> {
+            // Every fifth upstream request lands on a slow moment.
+            boolean slow = upstreamRequests.incrementAndGet() % 5 == 0;
+            sleep(slow ? SLOW : Duration.ofMillis(5));
+            byte[] body = "{\"data\":{\"id\":\"1\",\"employee_name\":\"Alice\"},\"status\":\"ok\"}".getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopMockServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void getEmployeeById_ShouldCutTailLatencyWhenHedging() {
+        long[] plain = measure(client(settings(false, 0.5)));
+        long[] hedged = measure(client(settings(true, 0.5)));
+
+        assertTrue(percentile(plain, 0.99) >= SLOW.toNanos(), "unhedged p99 should follow the slow upstream");
+        assertTrue(percentile(hedged, 0.99) < SLOW.toNanos() / 2, "hedged p99 should not wait for the slow upstream");
+    }
+
+    @Test
+    void getEmployeeById_ShouldNotHedgeWithoutBudget() {
+        long[] latencies = measure(client(settings(true, 0.0)));
+
+        assertEquals(CALLS, upstreamRequests.get());
+        assertTrue(percentile(latencies, 0.99) >= SLOW.toNanos());
+    }
+
+    @Test
+    void getEmployeeById_ShouldKeepHedgesWithinBudget() {
+        measure(client(settings(true, 0.1)));
+
+        int hedges = upstreamRequests.get() - CALLS;
+        assertTrue(hedges > 0);
+        assertTrue(hedges <= CALLS * 0.1, "hedges used: " + hedges);
+    }
+
+    @Test
+    void getEmployeeById_ShouldNotHedgeWithoutSpareRateBudget() {
+        RateBudget noSparePermits = new RateBudget() {
+            @Override
+            public void acquire(UpstreamPriority priority) {}
+
+            @Override
+            public boolean tryAcquire(UpstreamPriority priority) {
+                return false;
+            }
+        };
+        measure(client(settings(true, 0.5), noSparePermits));
+
+        assertEquals(CALLS, upstreamRequests.get());
+    }
+
+    @Test
+    void getEmployeeById_ShouldChargeHedgesToRateBudgetOnce() {
+        AtomicInteger permitsTaken = new AtomicInteger();
+        RateBudget countingBudget = new RateBudget() {
+            @Override
+            public void acquire(UpstreamPriority priority) {
+                permitsTaken.incrementAndGet();
+            }
+
+            @Override
+            public boolean tryAcquire(UpstreamPriority priority) {
+                permitsTaken.incrementAndGet();
+                return true;
+            }
+        };
+        measure(client(settings(true, 0.5), countingBudget));
+
+        assertTrue(upstreamRequests.get() > CALLS);
+        assertEquals(upstreamRequests.get(), permitsTaken.get());
+    }
+
+    @Test
+    void execute_ShouldWaitForTheSlowerAttempt_WhenTheHedgeFailsFast() {
+        AtomicInteger attempts = new AtomicInteger();
+        RequestHedger hedger = new RequestHedger(settings(true, 1.0), RateBudget.UNLIMITED);
+
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 2) {
+                throw new IllegalStateException("hedge failed");
+            }
+            sleep(Duration.ofMillis(150));
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(2, attempts.get());
+        hedger.destroy();
+    }
+
+    @Test
+    void execute_ShouldThrow_WhenBothAttemptsFail() {
+        AtomicInteger attempts = new AtomicInteger();
+        RequestHedger hedger = new RequestHedger(settings(true, 1.0), RateBudget.UNLIMITED);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(Duration.ofMillis(150));
+            }
+            throw new IllegalStateException("attempt " + attempts.get() + " failed");
+        }));
+
+        assertEquals(2, attempts.get());
+        assertTrue(e.getMessage().startsWith("attempt"));
+        hedger.destroy();
+    }
+
+    @Test
+    void execute_ShouldRecordCancelledAttempts_SoTheHedgeDelayDoesNotDrift() {
+        MockEmployeeApiConfig config = settings(true, 1.0);
+        config.getHedge().setMinSamples(4);
+        config.getHedge().setMinDelay(Duration.ofMillis(1));
+        config.getHedge().setPercentile(0.9);
+        AtomicInteger attempts = new AtomicInteger();
+        RequestHedger hedger = new RequestHedger(config, RateBudget.UNLIMITED);
+
+        // Every primary stalls and every hedge answers at once, so only cancelled primaries show the stall.
+        for (int i = 0; i < 3; i++) {
+            hedger.execute(() -> {
+                if (attempts.incrementAndGet() % 2 == 1) {
+                    sleep(SLOW);
+                }
+                return "done";
+            });
+        }
+
+        assertEquals(6, attempts.get());
+        assertTrue(hedger.hedgeDelayNanos() >= Duration.ofMillis(20).toNanos());
+        hedger.destroy();
+    }
+
+    private long[] measure(EmployeeApiClient client) {
+        long[] latencies = new long[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            long start = System.nanoTime();
+            Employee employee = client.getEmployeeById("1");
+            latencies[i] = System.nanoTime() - start;
+            assertEquals("Alice", employee.getName());
+        }
+        return latencies;
+    }
+
+    private EmployeeApiClient client(MockEmployeeApiConfig config) {
+        return client(config, RateBudget.UNLIMITED);
+    }
+
+    private EmployeeApiClient client(MockEmployeeApiConfig config, RateBudget rateBudget) {
+        config.setUrl("http://localhost:" + server.getAddress().getPort() + "/api/v1/employee");
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new RateBudgetInterceptor(rateBudget));
+        return new EmployeeApiClient(restTemplate, config, new RequestHedger(config, rateBudget));
+    }
+
+    private static MockEmployeeApiConfig settings(boolean enabled, double budgetRatio) {
+        MockEmployeeApiConfig config = new MockEmployeeApiConfig();
+        config.getHedge().setEnabled(enabled);
+        config.getHedge().setPercentile(0.75);
+        config.getHedge().setMinDelay(Duration.ofMillis(20));
+        config.getHedge().setInitialDelay(Duration.ofMillis(50));
+        config.getHedge().setMinSamples(10);
+        config.getHedge().setBudgetRatio(budgetRatio);
+        return config;
+    }
+
+    private static long percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.reliaquest.api.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.common.RequestTimings.Phase;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private RequestTimings timings;
+    private RequestTimings previous;
+
+    @BeforeEach
+    void setUp() {
+        timings = new RequestTimings();
+        previous = RequestTimings.bind(timings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.restore(previous);
+    }
+
+    @Test
+    void time_ShouldExcludeNestedPhasesFromEnclosingPhase() {
+        RequestTimings.time(Phase.CACHE, () -> {
+            RequestTimings.record(Phase.UPSTREAM, 50 * MILLIS);
+            return null;
+        });
+
+        assertEquals(50 * MILLIS, timings.nanos(Phase.UPSTREAM));
+        assertTrue(timings.nanos(Phase.CACHE) < 50 * MILLIS);
+    }
+
+    @Test
+    void time_ShouldCountOwnDurationAroundNestedPhase() {
+        RequestTimings.time(Phase.CACHE, () -> {
+            sleep(20);
+            return RequestTimings.time(Phase.UPSTREAM, () -> sleep(20));
+        });
+
+        assertTrue(timings.nanos(Phase.CACHE) >= 20 * MILLIS);
+        assertTrue(timings.nanos(Phase.UPSTREAM) >= 20 * MILLIS);
+        assertTrue(timings.nanos(Phase.CACHE) + timings.nanos(Phase.UPSTREAM) <= timings.totalNanos());
+    }
+
+    @Test
+    void record_ShouldBeNoOpWithoutBoundTimings() {
+        RequestTimings.restore(null);
+
+        RequestTimings.record(Phase.UPSTREAM, 50 * MILLIS);
+        assertEquals("done", RequestTimings.time(Phase.CACHE, () -> "done"));
+
+        assertNull(RequestTimings.current());
+        assertEquals(0, timings.nanos(Phase.UPSTREAM));
+    }
+
+    @Test
+    void propagate_ShouldRecordIntoCallersTimingsOnOtherThread() throws Exception {
+        Supplier<RequestTimings> task = RequestTimings.propagate(() -> {
+            RequestTimings.record(Phase.QUEUE, 5 * MILLIS);
+            return RequestTimings.current();
+        });
+
+        RequestTimings seen = CompletableFuture.supplyAsync(task).get();
+
+        assertSame(timings, seen);
+        assertEquals(5 * MILLIS, timings.nanos(Phase.QUEUE));
+    }
+
+    @Test
+    void toHeaderValue_ShouldListPhasesWithTimeThenTotal() {
+        RequestTimings.record(Phase.UPSTREAM, 12_340_000L);
+        RequestTimings.record(Phase.RETRY, 3_000_000L);
+
+        String header = timings.toHeaderValue();
+
+        assertTrue(
+                header.startsWith("upstream;dur=12.3;desc=\"Upstream I/O\", retry;dur=3.0;desc=\"Retry backoff\", "),
+                header);
+        assertTrue(header.matches(".*, total;dur=\\d+\\.\\d$"), header);
+    }
+
+    @Test
+    void markSerializationEnd_ShouldOnlyCountStartedSerialization() {
+        timings.markSerializationEnd();
+        assertEquals(0, timings.nanos(Phase.SERIALIZATION));
+
+        timings.markSerializationStart();
+        sleep(5);
+        timings.markSerializationEnd();
+        assertTrue(timings.nanos(Phase.SERIALIZATION) >= 5 * MILLIS);
+    }
+
+    private static Void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
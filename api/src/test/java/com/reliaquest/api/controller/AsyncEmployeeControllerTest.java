@@ -0,0 +1,93 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.testdata.EmployeeTestData.ALICE;
+import static com.reliaquest.api.testdata.EmployeeTestData.allEmployees;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import com.reliaquest.api.service.EmployeeCacheService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+@WebMvcTest(AsyncEmployeeController.class)
+class AsyncEmployeeControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    AsyncEmployeeService asyncEmployeeService;
+
+    @MockBean
+    EmployeeCacheService employeeCacheService;
+
+    @Test
+    void getAllEmployees_ShouldCompleteAsynchronously() throws Exception {
+        when(asyncEmployeeService.getAllEmployees()).thenReturn(CompletableFuture.completedFuture(allEmployees()));
+
+        mockMvc.perform(dispatched(get("/api/v2/employee")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Alice"))
+                .andExpect(jsonPath("$[1].employee_name").value("Bob"));
+    }
+
+    @Test
+    void getEmployeeById_ShouldReturnNotFoundWhenLookupFails() throws Exception {
+        when(asyncEmployeeService.getEmployeeById("999"))
+                .thenReturn(CompletableFuture.failedFuture(new EmployeeNotFoundException("999")));
+
+        mockMvc.perform(dispatched(get("/api/v2/employee/999"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getEmployeeById_ShouldHonourFieldsParameter() throws Exception {
+        when(asyncEmployeeService.getEmployeeById("1")).thenReturn(CompletableFuture.completedFuture(ALICE));
+
+        mockMvc.perform(dispatched(get("/api/v2/employee/1").param("fields", "employee_name")))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"employee_name\":\"Alice\"}", true));
+    }
+
+    @Test
+    void createEmployee_ShouldReturnBadRequestWhenNothingCreated() throws Exception {
+        when(asyncEmployeeService.createEmployee(any(EmployeeInput.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        mockMvc.perform(dispatched(post("/api/v2/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Charlie\",\"salary\":1,\"age\":20,\"title\":\"QA\"}")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_ShouldReturnNoContentWhenEmpty() throws Exception {
+        when(asyncEmployeeService.getTopTenHighestEarningEmployeeNames())
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        mockMvc.perform(dispatched(get("/api/v2/employee/topTenHighestEarningEmployeeNames")))
+                .andExpect(status().isNoContent());
+    }
+
+    private RequestBuilder dispatched(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return asyncDispatch(started);
+    }
+}
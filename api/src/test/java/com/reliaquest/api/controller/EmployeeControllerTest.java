@@ -8,16 +8,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.EmployeeInput;
+import com.reliaquest.api.dto.EmployeePage;
 import com.reliaquest.api.exception.EmployeeDeletionFailedException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidCursorException;
 import com.reliaquest.api.exception.InvalidEmployeeInputException;
+import com.reliaquest.api.exception.StaleCursorException;
+import com.reliaquest.api.filter.ServerTimingFilter;
+import com.reliaquest.api.model.AutocompleteRank;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeAutocompleteService;
 import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.EmployeePagingService;
 import com.reliaquest.api.service.EmployeeService;
 import java.util.Collections;
 import java.util.List;
@@ -40,6 +48,12 @@ class EmployeeControllerTest {
     @MockBean
     EmployeeCacheService employeeCacheService;
 
+    @MockBean
+    EmployeeAutocompleteService employeeAutocompleteService;
+
+    @MockBean
+    EmployeePagingService employeePagingService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -94,6 +108,15 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.employee_name").value("Alice"));
     }
 
+    @Test
+    void getEmployeeById_ShouldNotReportServerTimingUnlessEnabled() throws Exception {
+        when(employeeService.getEmployeeById("1")).thenReturn(ALICE);
+
+        mockMvc.perform(get("/api/v1/employee/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ServerTimingFilter.SERVER_TIMING));
+    }
+
     @Test
     void getEmployeeById_ShouldReturn404IfNotFound() throws Exception {
         when(employeeService.getEmployeeById("999")).thenReturn(null);
@@ -120,6 +143,84 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    void getAllEmployees_ShouldProjectRequestedFields() throws Exception {
+        when(employeeCacheService.getAllEmployees()).thenReturn(allEmployees());
+
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id,employee_name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":\"1\",\"employee_name\":\"Alice\"},"
+                        + "{\"id\":\"2\",\"employee_name\":\"Bob\"}]", true));
+    }
+
+    @Test
+    void getEmployeeById_ShouldProjectRequestedFields() throws Exception {
+        when(employeeService.getEmployeeById("1")).thenReturn(ALICE);
+
+        mockMvc.perform(get("/api/v1/employee/1").param("fields", "employee_salary"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"employee_salary\":1000}", true));
+    }
+
+    @Test
+    void getEmployeesPage_ShouldProjectRequestedFields() throws Exception {
+        when(employeePagingService.getEmployeesPage(null, null)).thenReturn(new EmployeePage(List.of(ALICE), "next"));
+
+        mockMvc.perform(get("/api/v1/employee/page").param("fields", "employee_name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"data\":[{\"employee_name\":\"Alice\"}],\"nextCursor\":\"next\"}", true));
+    }
+
+    @Test
+    void getAllEmployees_ShouldRejectUnknownField() throws Exception {
+        when(employeeCacheService.getAllEmployees()).thenReturn(allEmployees());
+
+        mockMvc.perform(get("/api/v1/employee").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeesPage_ShouldReturnPageWithCursor() throws Exception {
+        when(employeePagingService.getEmployeesPage(null, 1)).thenReturn(new EmployeePage(List.of(ALICE), "next"));
+
+        mockMvc.perform(get("/api/v1/employee/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].employee_name").value("Alice"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void searchEmployeesPage_ShouldRejectInvalidCursor() throws Exception {
+        when(employeePagingService.searchEmployeesPage("a", "bogus", null))
+                .thenThrow(new InvalidCursorException("bogus"));
+
+        mockMvc.perform(get("/api/v1/employee/search/a/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getEmployeesPage_ShouldReturnGoneForStaleCursor() throws Exception {
+        when(employeePagingService.getEmployeesPage("old", null)).thenThrow(new StaleCursorException(1, 2));
+
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", "old")).andExpect(status().isGone());
+    }
+
+    @Test
+    void autocompleteEmployeeNames_ShouldReturnSuggestions() throws Exception {
+        when(employeeAutocompleteService.autocompleteNames("al", 5, AutocompleteRank.SALARY))
+                .thenReturn(List.of("Alice"));
+
+        mockMvc.perform(get("/api/v1/employee/autocomplete/al").param("limit", "5").param("rank", "SALARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Alice"));
+    }
+
+    @Test
+    void autocompleteEmployeeNames_ShouldRejectUnknownRank() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/autocomplete/al").param("rank", "SHOE_SIZE"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnHighestSalary() throws Exception {
         when(employeeService.getHighestSalaryOfEmployees()).thenReturn(100000);
@@ -0,0 +1,54 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.client.HttpRateLeaseSource;
+import com.reliaquest.api.client.RateLease;
+import com.reliaquest.api.client.RateLeaseSource;
+import com.reliaquest.api.client.UpstreamPriority;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(RateBudgetController.class)
+class RateBudgetControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    RateLeaseSource leaseSource;
+
+    @Test
+    void lease_ShouldGrantForRequestedPriority() throws Exception {
+        when(leaseSource.lease("node-2", 10, UpstreamPriority.BACKGROUND)).thenReturn(new RateLease(4, 1000));
+
+        mockMvc.perform(post(HttpRateLeaseSource.LEASES_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nodeId\":\"node-2\",\"requested\":10,\"priority\":\"BACKGROUND\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granted").value(4))
+                .andExpect(jsonPath("$.validForMillis").value(1000));
+    }
+
+    @Test
+    void lease_ShouldRejectMissingPriority() throws Exception {
+        mockMvc.perform(post(HttpRateLeaseSource.LEASES_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nodeId\":\"node-2\",\"requested\":10}"))
+                .andExpect(status().isBadRequest());
+
+        verify(leaseSource, never()).lease(anyString(), anyInt(), any());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeField;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class EmployeeProjectionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeProjectionTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serialize_ShouldMatchDefaultSerializationWhenAllFieldsRequested() throws Exception {
+        List<Employee> employees = employees(3);
+        employees.add(new Employee("x", null, null, null, null, null));
+        EmployeeField[] allFields = EmployeeField.parse("employee_email,id,employee_name,employee_salary,"
+                + "employee_age,employee_title");
+
+        assertEquals(
+                objectMapper.writeValueAsString(employees),
+                objectMapper.writeValueAsString(new EmployeeProjection(employees, allFields)));
+    }
+
+    @Test
+    void serialize_ShouldShrinkNarrowProjections() throws Exception {
+        List<Employee> employees = employees(100);
+
+        int full = objectMapper.writeValueAsBytes(employees).length;
+        int narrow = objectMapper
+                .writeValueAsBytes(new EmployeeProjection(employees, EmployeeField.parse("id,employee_name")))
+                .length;
+
+        assertTrue(narrow * 2 < full, "narrow=" + narrow + " full=" + full);
+    }
+
+    /**
+     * Run with {@code ./gradlew :api:test -Dbenchmarks=true --tests '*EmployeeProjectionTest'}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_NarrowProjection() throws Exception {
+        List<Employee> employees = employees(10_000);
+        EmployeeProjection narrow = new EmployeeProjection(employees, EmployeeField.parse("id,employee_name"));
+
+        for (int warmup = 0; warmup < 50; warmup++) {
+            objectMapper.writeValueAsBytes(employees);
+            objectMapper.writeValueAsBytes(narrow);
+        }
+        int rounds = 200;
+        long fullStart = System.nanoTime();
+        int fullBytes = 0;
+        for (int i = 0; i < rounds; i++) {
+            fullBytes = objectMapper.writeValueAsBytes(employees).length;
+        }
+        long fullNanos = (System.nanoTime() - fullStart) / rounds;
+        long narrowStart = System.nanoTime();
+        int narrowBytes = 0;
+        for (int i = 0; i < rounds; i++) {
+            narrowBytes = objectMapper.writeValueAsBytes(narrow).length;
+        }
+        long narrowNanos = (System.nanoTime() - narrowStart) / rounds;
+
+        log.info(
+                "Projection of {} employees: full {} bytes in {} ms, narrow {} bytes in {} ms",
+                employees.size(),
+                fullBytes,
+                "%.2f".formatted(fullNanos / 1e6),
+                narrowBytes,
+                "%.2f".formatted(narrowNanos / 1e6));
+        assertTrue(narrowNanos < fullNanos);
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new Employee(
+                    "4a3a170b-22cd-4ac2-aad1-f" + String.format("%011d", i),
+                    "Employee " + i,
+                    50_000 + i,
+                    20 + i % 40,
+                    "Senior Software Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,93 @@
+package com.reliaquest.api.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.reliaquest.api.client.HttpRateLeaseSource;
+import com.reliaquest.api.config.ClusterConfig;
+import com.reliaquest.api.service.impl.HttpClusterBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class InternalEndpointFilterTest {
+
+    private static final String SECRET = "s3cret";
+
+    @Test
+    void doFilter_ShouldPassRequestsWithClusterSecret() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(filter(SECRET), HttpClusterBroadcaster.PATCHES_PATH, SECRET, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseRequestsWithoutClusterSecret() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(filter(SECRET), HttpClusterBroadcaster.PATCHES_PATH, null, chain);
+
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseRequestsWithWrongClusterSecret() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response =
+                perform(filter(SECRET), HttpClusterBroadcaster.PATCHES_PATH, "s3cret-guess", chain);
+
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseRateBudgetLeasesWithoutClusterSecret() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(filter(SECRET), HttpRateLeaseSource.LEASES_PATH, null, chain);
+
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseEverythingWhileNoSecretIsConfigured() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(filter(null), HttpClusterBroadcaster.PATCHES_PATH, "", chain);
+
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldLeavePublicEndpointsAlone() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = perform(filter(SECRET), "/api/v1/employee", null, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    private static InternalEndpointFilter filter(String secret) {
+        ClusterConfig config = new ClusterConfig();
+        config.setSecret(secret);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("clusterConfig", config);
+        return new InternalEndpointFilter(beans.getBeanProvider(ClusterConfig.class));
+    }
+
+    private static MockHttpServletResponse perform(
+            InternalEndpointFilter filter, String path, String secret, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        if (secret != null) {
+            request.addHeader(InternalEndpointFilter.SECRET_HEADER, secret);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,206 @@
+package com.reliaquest.api.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.service.EmployeeCacheService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PreEncodedResponseFilterTest {
+
+    private static final String BODY = "[{\"id\":\"1\",\"employee_name\":\"Alice\"}]";
+
+    private EmployeeCacheService employeeCacheService;
+    private PreEncodedResponseFilter filter;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        employeeCacheService = mock(EmployeeCacheService.class);
+        filter = new PreEncodedResponseFilter(employeeCacheService);
+        chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+                    ServletResponse response = invocation.getArgument(1);
+                    response.setContentType("application/json");
+                    response.getOutputStream().write(BODY.repeat(100).getBytes());
+                    return null;
+                })
+                .when(chain)
+                .doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldReplayEncodedBytesForSameSnapshotVersion() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+
+        MockHttpServletResponse first = perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+        MockHttpServletResponse second = perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        verify(chain, times(1)).doFilter(any(), any());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("application/json", second.getContentType());
+    }
+
+    @Test
+    void doFilter_ShouldRenderAgainWhenSnapshotVersionChanges() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L, 1L, 2L, 2L);
+
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldNotCacheWhenNoSnapshotIsLoaded() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(0L);
+
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee/highestSalary"));
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee/highestSalary"));
+
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldServeGzipVariantWhenAccepted() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = perform(request);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(BODY.repeat(100).getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void doFilter_ShouldNotServeGzipRefusedWithZeroQuality() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate");
+        MockHttpServletResponse response = perform(request);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(BODY.repeat(100), response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldShareResponseAcrossIgnoredParametersAndEquivalentHeaders() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/v1/employee");
+        first.setParameter("fields", "employee_name,id");
+        perform(first);
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/v1/employee");
+        second.setParameter("fields", "id, employee_name");
+        second.setParameter("cacheBuster", "42");
+        second.addHeader(HttpHeaders.ACCEPT, "application/json, */*;q=0.5");
+        perform(second);
+
+        verify(chain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldRenderEachProjectionSeparately() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+
+        perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+        MockHttpServletRequest projected = new MockHttpServletRequest("GET", "/api/v1/employee");
+        projected.setParameter("fields", "id");
+        perform(projected);
+
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_ShouldNotCacheInvalidProjectionOrUnacceptableType() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/v1/employee");
+            invalid.setParameter("fields", "height");
+            perform(invalid);
+            MockHttpServletRequest unacceptable = new MockHttpServletRequest("GET", "/api/v1/employee");
+            unacceptable.addHeader(HttpHeaders.ACCEPT, "text/html");
+            perform(unacceptable);
+        }
+
+        verify(chain, times(4)).doFilter(any(), any());
+        verify(employeeCacheService, never()).getSnapshotVersion();
+    }
+
+    @Test
+    void doFilter_ShouldNotCacheBodyRenderedAsOtherTypeThanNegotiated() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+            request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+            perform(request);
+        }
+
+        verify(chain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourQualityValues() {
+        assertTrue(PreEncodedResponseFilter.acceptsGzip("gzip"));
+        assertTrue(PreEncodedResponseFilter.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(PreEncodedResponseFilter.acceptsGzip("br, *"));
+        assertFalse(PreEncodedResponseFilter.acceptsGzip(null));
+        assertFalse(PreEncodedResponseFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(PreEncodedResponseFilter.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(PreEncodedResponseFilter.acceptsGzip("*;q=0"));
+        assertFalse(PreEncodedResponseFilter.acceptsGzip("deflate, identity"));
+    }
+
+    @Test
+    void negotiate_ShouldPickHighestQualityProducibleType() {
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+
+        assertEquals(MediaType.APPLICATION_JSON, PreEncodedResponseFilter.negotiate(null));
+        assertEquals(MediaType.APPLICATION_JSON, PreEncodedResponseFilter.negotiate("*/*"));
+        assertEquals(smile, PreEncodedResponseFilter.negotiate("application/x-jackson-smile, application/json;q=0.9"));
+        assertEquals(smile, PreEncodedResponseFilter.negotiate("application/json;q=0, */*"));
+        assertNull(PreEncodedResponseFilter.negotiate("text/html"));
+        assertNull(PreEncodedResponseFilter.negotiate("not a media type"));
+    }
+
+    @Test
+    void doFilter_ShouldSkipOtherEndpoints() throws Exception {
+        MockHttpServletResponse response = perform(new MockHttpServletRequest("GET", "/api/v1/employee/1"));
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        verify(employeeCacheService, never()).getSnapshotVersion();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,155 @@
+package com.reliaquest.api.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
+import com.reliaquest.api.config.ServerTimingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class ServerTimingFilterTest {
+
+    private static final String BODY = "[{\"id\":\"1\",\"employee_name\":\"Alice\"}]";
+
+    private ServerTimingConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ServerTimingFilter filter;
+
+    /** Stands in for the controller: goes upstream, then serializes the body. */
+    private final FilterChain chain = (request, response) -> {
+        RequestTimings.record(Phase.UPSTREAM, TimeUnit.MILLISECONDS.toNanos(40));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/{id}");
+        RequestTimings.current().markSerializationStart();
+        response.setContentType("application/json");
+        response.getOutputStream().write(BODY.getBytes());
+    };
+
+    @BeforeEach
+    void setUp() {
+        config = new ServerTimingConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("serverTimingConfig", config);
+        beans.addBean("meterRegistry", meterRegistry);
+        filter = new ServerTimingFilter(
+                beans.getBeanProvider(ServerTimingConfig.class), beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void doFilter_ShouldReportPhasesInServerTimingHeader() throws Exception {
+        config.setHeaderEnabled(true);
+
+        MockHttpServletResponse response = perform();
+
+        String header = response.getHeader(ServerTimingFilter.SERVER_TIMING);
+        assertNotNull(header);
+        assertTrue(header.startsWith("upstream;dur=40.0;desc=\"Upstream I/O\", serialization;dur="), header);
+        assertTrue(header.contains(", total;dur="), header);
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldRecordPhaseTimersByRoute() throws Exception {
+        perform();
+
+        Timer upstream = meterRegistry
+                .find(ServerTimingFilter.PHASE_METRIC)
+                .tags("phase", "upstream", "uri", "/api/v1/employee/{id}", "method", "GET")
+                .timer();
+        assertNotNull(upstream);
+        assertEquals(1, upstream.count());
+        assertEquals(40, upstream.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertNull(meterRegistry
+                .find(ServerTimingFilter.PHASE_METRIC)
+                .tags("phase", "retry")
+                .timer());
+    }
+
+    @Test
+    void doFilter_ShouldAddHeaderBeforeBodyIsStreamed() throws Exception {
+        config.setHeaderEnabled(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<String> headerAtFirstByte = new ArrayList<>();
+        FilterChain streaming = (request, wrapped) -> {
+            RequestTimings.current().markSerializationStart();
+            wrapped.getOutputStream().write('[');
+            headerAtFirstByte.add(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+            wrapped.flushBuffer();
+            wrapped.getOutputStream().write(']');
+        };
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), response, streaming);
+
+        assertTrue(headerAtFirstByte.get(0).startsWith("serialization;dur="), headerAtFirstByte.get(0));
+        assertTrue(response.isCommitted());
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldAddHeaderToBodilessResponse() throws Exception {
+        config.setHeaderEnabled(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(
+                new MockHttpServletRequest("DELETE", "/api/v1/employee/1"),
+                response,
+                (request, wrapped) -> ((HttpServletResponse) wrapped).setStatus(204));
+
+        assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING).startsWith("total;dur="));
+    }
+
+    @Test
+    void doFilter_ShouldLeaveHeaderOutByDefault() throws Exception {
+        MockHttpServletResponse response = perform();
+
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+        assertNotNull(meterRegistry
+                .find(ServerTimingFilter.PHASE_METRIC)
+                .tags("phase", "serialization")
+                .timer());
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldStillRecordMetricsWhenHeaderIsDisabled() throws Exception {
+        config.setHeaderEnabled(false);
+
+        MockHttpServletResponse response = perform();
+
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+        assertNotNull(meterRegistry
+                .find(ServerTimingFilter.PHASE_METRIC)
+                .tags("phase", "serialization")
+                .timer());
+        assertEquals(BODY, response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldUnbindTimingsAfterRequest() throws Exception {
+        perform();
+
+        assertNull(RequestTimings.current());
+    }
+
+    private MockHttpServletResponse perform() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employee/1"), response, chain);
+        return response;
+    }
+}
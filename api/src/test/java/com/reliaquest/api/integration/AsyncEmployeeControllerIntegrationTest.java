@@ -0,0 +1,158 @@
+package com.reliaquest.api.integration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.ApiApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the api with only four Tomcat worker threads against an upstream that stalls on the employee list, and checks
+ * that the async controller keeps accepting requests far beyond the thread count while the load is pending.
+ */
+class AsyncEmployeeControllerIntegrationTest {
+
+    private static final int TOMCAT_THREADS = 4;
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final String EMPLOYEES = "{\"data\":["
+            + "{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":1000,\"employee_age\":30},"
+            + "{\"id\":\"2\",\"employee_name\":\"Bob\",\"employee_salary\":900,\"employee_age\":25}]}";
+
+    private final AtomicInteger upstreamListRequests = new AtomicInteger();
+    private final CountDownLatch upstreamCalled = new CountDownLatch(1);
+    private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+    private final AtomicInteger asyncRequestsEntered = new AtomicInteger();
+    private ExecutorService upstreamExecutor;
+    private HttpServer upstream;
+    private ConfigurableApplicationContext api;
+    private int port;
+
+    @BeforeEach
+    void start() throws IOException {
+        upstreamExecutor = Executors.newCachedThreadPool();
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.setExecutor(upstreamExecutor);
+        upstream.createContext("/api/v1/employee", this::handleUpstream);
+        upstream.start();
+
+        port = freePort();
+        Filter countAsyncRequests = (ServletRequest request, ServletResponse response, FilterChain chain) -> {
+            if (((HttpServletRequest) request).getRequestURI().startsWith("/api/v2/")) {
+                asyncRequestsEntered.incrementAndGet();
+            }
+            chain.doFilter(request, response);
+        };
+        api = new SpringApplicationBuilder(ApiApplication.class)
+                .initializers(context ->
+                        context.getBeanFactory().registerSingleton("countAsyncRequests", countAsyncRequests))
+                .run(
+                        "--server.port=" + port,
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+                        "--mock.employee.api.url=http://localhost:" + upstream.getAddress().getPort()
+                                + "/api/v1/employee",
+                        "--employee.cache-refresh.warm-up=false",
+                        "--employee.cache-refresh.enabled=false");
+    }
+
+    @AfterEach
+    void stop() {
+        releaseUpstream.countDown();
+        api.close();
+        upstream.stop(0);
+        upstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    void getAllEmployees_ShouldHoldManyMoreRequestsThanThreadsWhileUpstreamStalls() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(get("/api/v2/employee"), HttpResponse.BodyHandlers.ofString()));
+        }
+        assertTrue(upstreamCalled.await(10, TimeUnit.SECONDS), "snapshot load should reach upstream");
+
+        // Every request has been dispatched into the api and parked, although only four threads serve them...
+        awaitEntered(CONCURRENT_REQUESTS);
+        // ...and the server still has threads to spare for anything else.
+        HttpResponse<String> health = client.send(get("/actuator/health"), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, health.statusCode());
+
+        releaseUpstream.countDown();
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            HttpResponse<String> completed = response.get(10, TimeUnit.SECONDS);
+            assertEquals(200, completed.statusCode());
+            assertTrue(completed.body().contains("Alice") && completed.body().contains("Bob"), completed.body());
+        }
+        assertEquals(1, upstreamListRequests.get(), "all requests should share one snapshot load");
+    }
+
+    private void awaitEntered(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (asyncRequestsEntered.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, asyncRequestsEntered.get(), "requests dispatched while upstream stalls");
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private void handleUpstream(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        upstreamListRequests.incrementAndGet();
+        upstreamCalled.countDown();
+        try {
+            releaseUpstream.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = EMPLOYEES.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
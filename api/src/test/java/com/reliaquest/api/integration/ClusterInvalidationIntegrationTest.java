@@ -0,0 +1,163 @@
+package com.reliaquest.api.integration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.service.EmployeeCacheService;
+import com.reliaquest.api.service.impl.HttpClusterBroadcaster;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs three api replicas in-process against one mock upstream and checks that writes through one replica patch the
+ * snapshots of the others without any of them refetching.
+ */
+class ClusterInvalidationIntegrationTest {
+
+    private static final String ALICE =
+            "{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":1000,\"employee_age\":30}";
+    private static final String BOB =
+            "{\"id\":\"2\",\"employee_name\":\"Bob\",\"employee_salary\":900,\"employee_age\":25}";
+    private static final String CHARLIE =
+            "{\"id\":\"3\",\"employee_name\":\"Charlie\",\"employee_salary\":800,\"employee_age\":28}";
+
+    private static final String CLUSTER_SECRET = "test-secret";
+
+    private final AtomicInteger upstreamListRequests = new AtomicInteger();
+    private final List<ConfigurableApplicationContext> replicas = new ArrayList<>();
+    private final List<Integer> ports = new ArrayList<>();
+    private HttpServer upstream;
+
+    @BeforeEach
+    void startCluster() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/api/v1/employee", this::handleUpstream);
+        upstream.start();
+
+        for (int i = 0; i < 3; i++) {
+            ports.add(freePort());
+        }
+        for (int port : ports) {
+            String peers = ports.stream()
+                    .filter(peer -> peer != port)
+                    .map(peer -> "http://localhost:" + peer)
+                    .collect(Collectors.joining(","));
+            replicas.add(new SpringApplicationBuilder(ApiApplication.class)
+                    .run(
+                            "--server.port=" + port,
+                            "--mock.employee.api.url=http://localhost:" + upstream.getAddress().getPort()
+                                    + "/api/v1/employee",
+                            "--employee.cluster.peers=" + peers,
+                            "--employee.cluster.secret=" + CLUSTER_SECRET,
+                            "--employee.cache-refresh.warm-up=false",
+                            "--employee.cache-refresh.enabled=false"));
+        }
+    }
+
+    @AfterEach
+    void stopCluster() {
+        replicas.forEach(ConfigurableApplicationContext::close);
+        upstream.stop(0);
+    }
+
+    @Test
+    void writesThroughOneReplica_ShouldPatchAllReplicasWithoutRefetching() throws Exception {
+        replicas.forEach(replica -> assertEquals(List.of("Alice", "Bob"), names(replica)));
+        assertEquals(3, upstreamListRequests.get());
+
+        RestTemplate client = new RestTemplate();
+        client.delete("http://localhost:" + ports.get(0) + "/api/v1/employee/1");
+        awaitNames(List.of("Bob"));
+
+        client.postForObject(
+                "http://localhost:" + ports.get(1) + "/api/v1/employee",
+                Map.of("name", "Charlie", "salary", 800, "age", 28, "title", "QA"),
+                String.class);
+        awaitNames(List.of("Bob", "Charlie"));
+
+        assertEquals(3, upstreamListRequests.get());
+    }
+
+    @Test
+    void patchesWithoutClusterSecret_ShouldBeRefused() {
+        RestTemplate client = new RestTemplate();
+        String url = "http://localhost:" + ports.get(0) + HttpClusterBroadcaster.PATCHES_PATH;
+        EmployeePatch patch = EmployeePatch.deleted("1");
+
+        HttpClientErrorException refused =
+                assertThrows(HttpClientErrorException.class, () -> client.postForLocation(url, patch));
+
+        assertEquals(HttpStatus.FORBIDDEN, refused.getStatusCode());
+        assertEquals(List.of("Alice", "Bob"), names(replicas.get(0)));
+    }
+
+    private void awaitNames(List<String> expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (replicas.stream().allMatch(replica -> names(replica).equals(expected))) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("Replicas did not converge on " + expected + ": " + replicas.stream().map(this::names).toList());
+    }
+
+    private List<String> names(ConfigurableApplicationContext replica) {
+        return replica.getBean(EmployeeCacheService.class).getAllEmployees().stream()
+                .map(Employee::getName)
+                .toList();
+    }
+
+    private void handleUpstream(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String path = exchange.getRequestURI().getPath();
+        String body;
+        switch (exchange.getRequestMethod()) {
+            case "GET" -> {
+                if (path.endsWith("/1")) {
+                    body = "{\"data\":" + ALICE + "}";
+                } else {
+                    upstreamListRequests.incrementAndGet();
+                    body = "{\"data\":[" + ALICE + "," + BOB + "]}";
+                }
+            }
+            case "POST" -> body = "{\"data\":" + CHARLIE + "}";
+            case "DELETE" -> body = "{\"data\":true}";
+            default -> body = "{}";
+        }
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.reliaquest.api.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -23,7 +24,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.SimpleKey;
 
-@SpringBootTest
+@SpringBootTest(properties = {"employee.cache-refresh.warm-up=false", "employee.cache-refresh.enabled=false"})
 @EnableCaching
 class EmployeeCacheServiceIntegrationTest {
 
@@ -50,54 +51,55 @@ class EmployeeCacheServiceIntegrationTest {
     @Test
     void getAllEmployees_isCached() {
         List<Employee> employees = List.of(new Employee("1", "Alice", 1000, 30, "Proj. Mgr", "alice@test.com"));
-        when(apiClient.getAllEmployees()).thenReturn(employees);
+        when(apiClient.fetchAllEmployees()).thenReturn(employees);
 
         List<Employee> firstCall = cacheService.getAllEmployees();
 
         List<Employee> secondCall = cacheService.getAllEmployees();
 
         assertEquals(firstCall, secondCall);
-        verify(apiClient, times(1)).getAllEmployees();
+        verify(apiClient, times(1)).fetchAllEmployees();
 
         Cache cache = cacheManager.getCache("employees");
         assertNotNull(cache.get(SimpleKey.EMPTY));
     }
 
     @Test
-    void createEmployee_ShouldEvictCache() {
+    void createEmployee_ShouldPatchCachedSnapshot() {
         List<Employee> employees = List.of(new Employee("1", "Alice", 1000, 30, "PM", "alice@test.com"));
-        when(apiClient.getAllEmployees()).thenReturn(employees);
+        when(apiClient.fetchAllEmployees()).thenReturn(employees);
 
         cacheService.getAllEmployees();
-        verify(apiClient, times(1)).getAllEmployees();
+        verify(apiClient, times(1)).fetchAllEmployees();
 
         Employee newEmp = new Employee("2", "Bob", 900, 25, "Dev", "bob@test.com");
         when(apiClient.createEmployee(any())).thenReturn(newEmp);
         employeeService.createEmployee(new EmployeeInput("Bob", 900, 25, "Dev"));
 
-        cacheService.getAllEmployees();
-        verify(apiClient, times(2)).getAllEmployees();
+        List<String> names = cacheService.getAllEmployees().stream().map(Employee::getName).toList();
+        assertEquals(List.of("Alice", "Bob"), names);
+        verify(apiClient, times(1)).fetchAllEmployees();
     }
 
     @Test
-    void deleteEmployee_ShouldEvictCache() {
+    void deleteEmployee_ShouldPatchCachedSnapshot() {
         List<Employee> employees = List.of(new Employee("1", "Alice", 1000, 30, "PM", "alice@test.com"));
-        when(apiClient.getAllEmployees()).thenReturn(employees);
+        when(apiClient.fetchAllEmployees()).thenReturn(employees);
 
         cacheService.getAllEmployees();
-        verify(apiClient, times(1)).getAllEmployees();
+        verify(apiClient, times(1)).fetchAllEmployees();
 
         when(apiClient.deleteEmployeeById("1")).thenReturn("Alice");
         employeeService.deleteEmployeeById("1");
 
-        cacheService.getAllEmployees();
-        verify(apiClient, times(2)).getAllEmployees();
+        assertTrue(cacheService.getAllEmployees().isEmpty());
+        verify(apiClient, times(1)).fetchAllEmployees();
     }
 
     @Test
     void getAllEmployees_ConcurrentAccess_ShouldCallApiOnce() throws InterruptedException {
         List<Employee> employees = List.of(new Employee("1", "Alice", 1000, 30, "PM", "alice@test.com"));
-        when(apiClient.getAllEmployees()).thenReturn(employees);
+        when(apiClient.fetchAllEmployees()).thenReturn(employees);
 
         Runnable task = () -> cacheService.getAllEmployees();
 
@@ -112,6 +114,6 @@ class EmployeeCacheServiceIntegrationTest {
         t2.join();
         t3.join();
 
-        verify(apiClient, times(1)).getAllEmployees();
+        verify(apiClient, times(1)).fetchAllEmployees();
     }
 }
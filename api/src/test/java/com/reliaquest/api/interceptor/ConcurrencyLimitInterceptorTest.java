@@ -0,0 +1,113 @@
+package com.reliaquest.api.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.AdaptiveConcurrencyLimiter;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.exception.UpstreamOverloadedException;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private ClientHttpRequestExecution execution;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        limiter = mock(AdaptiveConcurrencyLimiter.class);
+        execution = mock(ClientHttpRequestExecution.class);
+        interceptor = new ConcurrencyLimitInterceptor(limiter);
+    }
+
+    @Test
+    void intercept_ShouldReleasePermitAsSuccessOnOk() throws Exception {
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        ClientHttpResponse response = interceptor.intercept(getRequest(), new byte[0], execution);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(limiter).acquire(UpstreamPriority.USER_READ);
+        verify(limiter).release(eq(UpstreamPriority.USER_READ), eq(false), anyLong());
+    }
+
+    @Test
+    void intercept_ShouldReleasePermitAsOverloadOn429() throws Exception {
+        when(execution.execute(any(), any()))
+                .thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS));
+
+        interceptor.intercept(getRequest(), new byte[0], execution);
+
+        verify(limiter).release(eq(UpstreamPriority.USER_READ), eq(true), anyLong());
+    }
+
+    @Test
+    void intercept_ShouldReleasePermitAsOverloadOnIoError() throws Exception {
+        when(execution.execute(any(), any())).thenThrow(new IOException("connection reset"));
+
+        assertThrows(IOException.class, () -> interceptor.intercept(getRequest(), new byte[0], execution));
+
+        verify(limiter).release(eq(UpstreamPriority.USER_READ), eq(true), anyLong());
+    }
+
+    @Test
+    void intercept_ShouldNotCallUpstreamWhenShed() throws Exception {
+        doThrow(new UpstreamOverloadedException("queue is full")).when(limiter).acquire(any());
+
+        assertThrows(
+                UpstreamOverloadedException.class, () -> interceptor.intercept(getRequest(), new byte[0], execution));
+
+        verify(execution, never()).execute(any(), any());
+        verify(limiter, never()).release(any(), anyBoolean(), anyLong());
+    }
+
+    @Test
+    void intercept_ShouldScheduleWritesAboveReads() throws Exception {
+        HttpRequest delete = mock(HttpRequest.class);
+        when(delete.getMethod()).thenReturn(HttpMethod.DELETE);
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        interceptor.intercept(delete, new byte[0], execution);
+
+        verify(limiter).acquire(UpstreamPriority.USER_WRITE);
+    }
+
+    @Test
+    void intercept_ShouldUseExplicitPriority() throws Exception {
+        when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        UpstreamPriority.callAs(UpstreamPriority.BACKGROUND, () -> {
+            try {
+                return interceptor.intercept(getRequest(), new byte[0], execution);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(limiter).acquire(UpstreamPriority.BACKGROUND);
+    }
+
+    private HttpRequest getRequest() {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        return request;
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+class PreferBinaryInterceptorTest {
+
+    private final PreferBinaryInterceptor interceptor = new PreferBinaryInterceptor();
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+    @Test
+    void intercept_ShouldPutSmileAheadOfJson() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/test"));
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON, MediaType.valueOf("application/*+json")));
+
+        interceptor.intercept(request, new byte[0], execution);
+
+        assertEquals(PreferBinaryInterceptor.PREFERRED, request.getHeaders().getAccept());
+    }
+
+    @Test
+    void intercept_ShouldLeaveNonJsonRequestsAlone() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/test"));
+        request.getHeaders().setAccept(List.of(MediaType.TEXT_PLAIN));
+
+        interceptor.intercept(request, new byte[0], execution);
+
+        assertEquals(List.of(MediaType.TEXT_PLAIN), request.getHeaders().getAccept());
+    }
+}
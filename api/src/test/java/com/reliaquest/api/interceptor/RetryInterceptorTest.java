@@ -1,16 +1,27 @@
 package com.reliaquest.api.interceptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.common.RequestTimings;
+import com.reliaquest.api.common.RequestTimings.Phase;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpRequestExecution;
@@ -20,13 +31,15 @@ import org.springframework.mock.http.client.MockClientHttpResponse;
 
 class RetryInterceptorTest {
 
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
     private ClientHttpRequestInterceptor interceptor;
     private ClientHttpRequestExecution execution;
     private final URI testUri = URI.create("http://localhost/test");
 
     @BeforeEach
     void setUp() {
-        interceptor = new RetryInterceptor(3, 0);
+        interceptor = new RetryInterceptor(3, 0, Duration.ofSeconds(5));
         execution = mock(ClientHttpRequestExecution.class);
     }
 
@@ -68,6 +81,89 @@ class RetryInterceptorTest {
         verify(execution, times(4)).execute(any(), any());
     }
 
+    @Test
+    void intercept_ShouldRecordBackoffAsRetryPhase() throws IOException {
+        ClientHttpResponse tooManyRequests = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        ClientHttpResponse success = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(tooManyRequests).thenReturn(success);
+        interceptor = new RetryInterceptor(3, 20, Duration.ofSeconds(5));
+
+        RequestTimings timings = new RequestTimings();
+        RequestTimings previous = RequestTimings.bind(timings);
+        try {
+            interceptor.intercept(mockRequest(), new byte[0], execution);
+        } finally {
+            RequestTimings.restore(previous);
+        }
+
+        assertTrue(timings.nanos(Phase.RETRY) >= 20_000_000L);
+    }
+
+    @Test
+    void intercept_ShouldWaitAsLongAsRetryAfterAsks() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(tooManyRequests("2")).thenReturn(ok());
+        List<Long> slept = new ArrayList<>();
+        interceptor = new RetryInterceptor(3, 0, Duration.ofSeconds(5), slept::add, CLOCK);
+
+        interceptor.intercept(mockRequest(), new byte[0], execution);
+
+        assertEquals(1, slept.size());
+        assertTrue(slept.get(0) >= 2_000 && slept.get(0) < 2_500, "slept " + slept);
+    }
+
+    @Test
+    void intercept_ShouldWaitUntilRetryAfterDate() throws IOException {
+        String inThreeSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                CLOCK.instant().plusSeconds(3).atZone(ZoneOffset.UTC));
+        when(execution.execute(any(), any())).thenReturn(tooManyRequests(inThreeSeconds)).thenReturn(ok());
+        List<Long> slept = new ArrayList<>();
+        interceptor = new RetryInterceptor(3, 0, Duration.ofSeconds(5), slept::add, CLOCK);
+
+        interceptor.intercept(mockRequest(), new byte[0], execution);
+
+        assertTrue(slept.get(0) >= 3_000 && slept.get(0) < 3_500, "slept " + slept);
+    }
+
+    @Test
+    void intercept_ShouldNotLetJitterTakeWaitPastMaxRetryAfter() throws IOException {
+        when(execution.execute(any(), any())).thenReturn(tooManyRequests("5")).thenReturn(ok());
+        List<Long> slept = new ArrayList<>();
+        interceptor = new RetryInterceptor(3, 0, Duration.ofSeconds(5), slept::add, CLOCK);
+
+        interceptor.intercept(mockRequest(), new byte[0], execution);
+
+        assertEquals(List.of(5_000L), slept);
+    }
+
+    @Test
+    void intercept_ShouldKeepRetryingWithCappedBackoffWhenRetryAfterExceedsMax() throws IOException {
+        when(execution.execute(any(), any()))
+                .thenReturn(tooManyRequests("60"))
+                .thenReturn(tooManyRequests("60"))
+                .thenReturn(tooManyRequests("60"))
+                .thenReturn(ok());
+        List<Long> slept = new ArrayList<>();
+        interceptor = new RetryInterceptor(3, 3_000, Duration.ofSeconds(5), slept::add, CLOCK);
+
+        ClientHttpResponse response = interceptor.intercept(mockRequest(), new byte[0], execution);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, slept.size());
+        assertTrue(slept.get(0) >= 3_000 && slept.get(0) < 3_500, "slept " + slept);
+        assertEquals(List.of(5_000L, 5_000L), slept.subList(1, 3));
+        verify(execution, times(4)).execute(any(), any());
+    }
+
+    private static ClientHttpResponse tooManyRequests(String retryAfter) {
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return response;
+    }
+
+    private static ClientHttpResponse ok() {
+        return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    }
+
     private org.springframework.http.HttpRequest mockRequest() {
         org.springframework.http.HttpRequest request = mock(org.springframework.http.HttpRequest.class);
         when(request.getURI()).thenReturn(testUri);
@@ -0,0 +1,117 @@
+package com.reliaquest.api.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.jfr.RecordingSummary.Latencies;
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordingSummaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void of_ShouldSummarizeUpstreamCallsByOperation() throws Exception {
+        Path file = record(() -> {
+            for (int i = 0; i < 3; i++) {
+                call("getAllEmployees", 200, 1_000);
+            }
+            call("createEmployee", 201, 100);
+            call("createEmployee", 429, 0);
+        });
+
+        RecordingSummary summary = RecordingSummary.of(file);
+
+        Latencies all = summary.upstreamCalls().get("getAllEmployees");
+        assertEquals(3, all.count());
+        assertEquals(0, all.failures());
+        Latencies create = summary.upstreamCalls().get("createEmployee");
+        assertEquals(2, create.count());
+        assertEquals(1, create.failures());
+        assertTrue(summary.render().contains("getAllEmployees"));
+    }
+
+    @Test
+    void of_ShouldRecordNestedCallsSeparately() throws Exception {
+        Path file = record(() -> {
+            UpstreamCallEvent delete = UpstreamCallEvent.begin("deleteEmployee");
+            call("getEmployeeById", 200, 10);
+            UpstreamCallEvent.addBytes(5);
+            delete.end(200);
+        });
+
+        RecordingSummary summary = RecordingSummary.of(file);
+
+        assertEquals(1, summary.upstreamCalls().get("getEmployeeById").count());
+        assertEquals(1, summary.upstreamCalls().get("deleteEmployee").count());
+        assertTrue(summary.render().contains("deleteEmployee"));
+    }
+
+    @Test
+    void of_ShouldSummarizeRetryBackoffAndSnapshotLoads() throws Exception {
+        Path file = record(() -> {
+            RetryBackoffEvent backoff = new RetryBackoffEvent("GET", "http://localhost/api", 1, 5);
+            backoff.begin();
+            sleep(5);
+            backoff.commit();
+            SnapshotLoadEvent load = new SnapshotLoadEvent();
+            load.begin();
+            load.set(1, 50, false);
+            load.commit();
+        });
+
+        RecordingSummary summary = RecordingSummary.of(file);
+
+        Latencies retries = summary.retryBackoffs().get("attempt 1");
+        assertEquals(1, retries.count());
+        assertTrue(retries.percentile(1.0).compareTo(Duration.ofMillis(5)) >= 0);
+        assertEquals(1, summary.snapshotLoads().get("snapshot").count());
+    }
+
+    @Test
+    void percentile_ShouldUseNearestRank() throws Exception {
+        Path file = record(() -> {
+            for (int i = 0; i < 10; i++) {
+                call("getAllEmployees", 200, 0);
+            }
+        });
+
+        Latencies latencies = RecordingSummary.of(file).upstreamCalls().get("getAllEmployees");
+
+        assertTrue(latencies.percentile(0.5).compareTo(latencies.percentile(1.0)) <= 0);
+        assertEquals(10, latencies.count());
+    }
+
+    private Path record(Runnable events) throws Exception {
+        Path file = tempDir.resolve("api.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(UpstreamCallEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(RetryBackoffEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(SnapshotLoadEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            events.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static void call(String operation, int status, long bytes) {
+        UpstreamCallEvent event = UpstreamCallEvent.begin(operation);
+        UpstreamCallEvent.addBytes(bytes);
+        event.end(status);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.api.model;
+
+import static com.reliaquest.api.testdata.EmployeeTestData.ALICE;
+import static com.reliaquest.api.testdata.EmployeeTestData.BOB;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class CompactEmployeeListTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactEmployeeListTest.class);
+
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "Dave", "Erin", "Frank", "Grace", "Heidi"};
+    private static final String[] LAST_NAMES = {"Smith", "Jones", "Brown", "Taylor", "Wilson", "Evans", "Walker"};
+
+    @Test
+    void copyOf_ShouldKeepEveryField() {
+        Employee uuidEmployee =
+                new Employee(UUID.randomUUID().toString(), "Carol", 1200, 41, "Proj. Mgr", "carol@test.com");
+        Employee blank = new Employee(UUID.randomUUID().toString(), null, null, null, null, null);
+        List<Employee> employees = List.of(uuidEmployee, blank);
+
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(employees);
+
+        assertEquals(employees, compact);
+        assertEquals(uuidEmployee.getId(), compact.get(0).getId());
+        assertEquals(uuidEmployee.getSalary(), compact.get(0).getSalary());
+        assertEquals(blank, compact.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> compact.get(2));
+    }
+
+    @Test
+    void copyOf_ShouldKeepIdsThatAreNotUuids() {
+        Employee upperCase = new Employee(UUID.randomUUID().toString().toUpperCase(), "Carol", 1, 1, null, null);
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID().toString(), "Dave", 1, 1, null, null), ALICE, upperCase, BOB);
+
+        assertEquals(employees, CompactEmployeeList.copyOf(employees));
+    }
+
+    @Test
+    void copyOf_ShouldShareDictionaryTitlesAndDeduplicatedStrings() {
+        List<Employee> employees = List.of(
+                new Employee("1", new String("Alice"), 1, 1, new String("Dev"), "a@test.com"),
+                new Employee("2", new String("Alice"), 1, 1, new String("Dev"), "b@test.com"));
+
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(employees);
+
+        assertSame(compact.get(0).getTitle(), compact.get(1).getTitle());
+        assertSame(compact.get(0).getName(), compact.get(1).getName());
+    }
+
+    @Test
+    void copyOf_ShouldReturnCompactListsAsIs() {
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(List.of(ALICE, BOB));
+
+        assertSame(compact, CompactEmployeeList.copyOf(compact));
+    }
+
+    @Test
+    void replacing_ShouldDropMatchingRowsAndAppendReplacement() {
+        String id = UUID.randomUUID().toString();
+        Employee carol = new Employee(id, "Carol", 1200, 41, "Dev", "carol@test.com");
+        Employee dave = new Employee(UUID.randomUUID().toString(), "Dave", 800, 22, "Dev", "dave@test.com");
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(List.of(carol, dave));
+        Employee renamed = new Employee(id, "Caroline", 1200, 41, "Proj. Mgr", "carol@test.com");
+
+        CompactEmployeeList replaced = compact.replacing(id, renamed);
+
+        assertEquals(List.of(dave, renamed), replaced);
+        assertEquals(List.of(dave), compact.replacing(id, null));
+        assertEquals(List.of(carol, dave), compact);
+        assertEquals(1, replaced.indexOfId(id));
+        assertEquals(-1, replaced.indexOfId("missing"));
+    }
+
+    @Test
+    void replacing_ShouldAcceptIdsThatAreNotUuids() {
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(List.of(
+                new Employee(UUID.randomUUID().toString(), "Carol", 1, 1, null, null), ALICE, BOB));
+
+        assertEquals(List.of(compact.get(0), BOB), compact.replacing(ALICE.getId(), null));
+    }
+
+    @Test
+    void nameContains_ShouldMatchIgnoringCase() {
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(
+                List.of(new Employee("1", "Alice Smith", 1, 1, null, null), new Employee("2", null, 1, 1, null, null)));
+
+        assertEquals("Alice Smith", compact.nameAt(0));
+        assertTrue(compact.nameContains(0, "smith"));
+        assertTrue(compact.nameContains(0, "E S"));
+        assertTrue(compact.nameContains(0, ""));
+        assertFalse(compact.nameContains(0, "smithson"));
+        assertFalse(compact.nameContains(1, ""));
+        assertThrows(IndexOutOfBoundsException.class, () -> compact.nameAt(2));
+    }
+
+    @Test
+    void withNameContaining_ShouldReturnMatchesInListOrder() {
+        Employee carol = new Employee("3", "Carol", 1, 1, null, null);
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(List.of(ALICE, carol, BOB));
+
+        assertEquals(List.of(ALICE, carol), compact.withNameContaining("L"));
+        assertEquals(List.of(), compact.withNameContaining("zed"));
+    }
+
+    @Test
+    void maxSalary_ShouldSkipMissingSalaries() {
+        Employee unpaid = new Employee("3", "Carol", null, 1, null, null);
+        Employee negative = new Employee("4", "Dave", -5, 1, null, null);
+
+        assertEquals(OptionalInt.of(-5), CompactEmployeeList.copyOf(List.of(unpaid, negative)).maxSalary());
+        assertEquals(OptionalInt.empty(), CompactEmployeeList.copyOf(List.of(unpaid)).maxSalary());
+        assertEquals(OptionalInt.empty(), CompactEmployeeList.copyOf(List.of()).maxSalary());
+    }
+
+    @Test
+    void indexesOfTopSalaries_ShouldOrderHighestFirstAndTiesByDescendingId() {
+        int[] salaries = {300, 100, 500, 300, 200, 500};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < salaries.length; i++) {
+            employees.add(new Employee(String.valueOf(i), "Emp" + i, salaries[i], 30, null, null));
+        }
+        employees.add(new Employee("unpaid", "Unpaid", null, 30, null, null));
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(employees);
+
+        assertArrayEquals(new int[] {5, 2, 3, 0}, compact.indexesOfTopSalaries(4));
+        assertArrayEquals(new int[] {5, 2, 3, 0, 4, 1}, compact.indexesOfTopSalaries(10));
+        assertArrayEquals(new int[] {5}, compact.indexesOfTopSalaries(1));
+        assertArrayEquals(new int[0], compact.indexesOfTopSalaries(0));
+    }
+
+    @Test
+    void indexesOfTopSalaries_ShouldBreakTiesAsUuidCompareToDoes() {
+        List<UUID> ids = new ArrayList<>();
+        List<Employee> employees = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 12; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            ids.add(id);
+            employees.add(new Employee(id.toString(), "Emp" + i, 100, 30, null, null));
+        }
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(employees);
+
+        List<UUID> expected = ids.stream().sorted(Comparator.reverseOrder()).limit(10).toList();
+        List<UUID> actual = Arrays.stream(compact.indexesOfTopSalaries(10))
+                .mapToObj(index -> ids.get(index))
+                .toList();
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Compares scans that materialize every employee with the same scans over the columns, by throughput and by bytes
+     * allocated per scan.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_ColumnScans() {
+        CompactEmployeeList compact = CompactEmployeeList.copyOf(generate(1_000_000, new Random(42)));
+
+        Scan materializedMax = list -> {
+            int max = Integer.MIN_VALUE;
+            for (Employee employee : list) {
+                max = Math.max(max, employee.getSalary());
+            }
+            return max;
+        };
+        Scan materializedSearch = list -> {
+            int matches = 0;
+            for (Employee employee : list) {
+                matches += employee.getName().toLowerCase().contains("smith 12") ? 1 : 0;
+            }
+            return matches;
+        };
+        Scan columnMax = list -> list.maxSalary().orElseThrow();
+        Scan columnSearch = list -> list.withNameContaining("smith 12").size();
+
+        assertEquals(materializedMax.applyAsInt(compact), columnMax.applyAsInt(compact));
+        assertEquals(materializedSearch.applyAsInt(compact), columnSearch.applyAsInt(compact));
+        Measurement before = measure(compact, materializedMax, materializedSearch);
+        Measurement after = measure(compact, columnMax, columnSearch);
+
+        log.info(
+                "Max salary and name search over {} employees: {} scans/s allocating {} MB each materialized, "
+                        + "{} scans/s allocating {} MB each over columns",
+                compact.size(),
+                "%.1f".formatted(before.scansPerSecond()),
+                before.bytesPerScan() / 1_000_000,
+                "%.1f".formatted(after.scansPerSecond()),
+                after.bytesPerScan() / 1_000_000);
+        assertTrue(after.bytesPerScan() < before.bytesPerScan() / 10);
+        assertTrue(after.scansPerSecond() > before.scansPerSecond());
+    }
+
+    private interface Scan extends ToIntFunction<CompactEmployeeList> {}
+
+    private record Measurement(double scansPerSecond, long bytesPerScan) {}
+
+    private static Measurement measure(CompactEmployeeList list, Scan... scans) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int sink = 0;
+        for (int warmUp = 0; warmUp < 5; warmUp++) {
+            for (Scan scan : scans) {
+                sink += scan.applyAsInt(list);
+            }
+        }
+        int rounds = 10;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (Scan scan : scans) {
+                sink += scan.applyAsInt(list);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertTrue(sink != 0);
+        return new Measurement(rounds * 1e9 / elapsed, allocated / rounds);
+    }
+
+    /**
+     * Compares the retained heap of a million employees as upstream returns them with the same employees held compact.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_FootprintPerEmployee() {
+        int count = 1_000_000;
+        List<Employee> employees = generate(count, new Random(42));
+
+        long before = GraphLayout.parseInstance(employees).totalSize();
+        long after = GraphLayout.parseInstance(CompactEmployeeList.copyOf(employees)).totalSize();
+
+        log.info(
+                "{} employees: {} bytes/employee as beans, {} bytes/employee compact",
+                count,
+                "%.1f".formatted((double) before / count),
+                "%.1f".formatted((double) after / count));
+        assertTrue(after < before * 6 / 10);
+    }
+
+    /**
+     * Employees shaped like the mock server's: random UUIDs, names from a small pool, titles from a small vocabulary
+     * and each string a separate copy, as they are after JSON decoding.
+     */
+    private static List<Employee> generate(int count, Random random) {
+        String[] titles = new String[200];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = "Title " + i;
+        }
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + random.nextInt(10_000);
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    name,
+                    30_000 + random.nextInt(200_000),
+                    16 + random.nextInt(55),
+                    new String(titles[random.nextInt(titles.length)]),
+                    "user" + i + "@company.com"));
+        }
+        return employees;
+    }
+}
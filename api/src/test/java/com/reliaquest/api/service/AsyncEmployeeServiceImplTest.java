@@ -0,0 +1,115 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.exception.SnapshotUnavailableException;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.impl.AsyncEmployeeServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEmployeeServiceImplTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeCacheService employeeCacheService;
+
+    /** Tasks handed to the executor, run by the test one at a time. */
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private AsyncEmployeeServiceImpl asyncService;
+
+    @BeforeEach
+    void setUp() {
+        asyncService = new AsyncEmployeeServiceImpl(employeeService, employeeCacheService, tasks::add);
+    }
+
+    @Test
+    void failedLoad_failsEveryParkedCaller_withoutAskingUpstreamAgain() {
+        CompletableFuture<List<String>> topTen = asyncService.getTopTenHighestEarningEmployeeNames();
+        CompletableFuture<Integer> highest = asyncService.getHighestSalaryOfEmployees();
+        CompletableFuture<?> search = asyncService.getEmployeesByNameSearch("ali");
+        assertEquals(1, tasks.size());
+
+        runTasks();
+
+        for (CompletableFuture<?> caller : List.of(topTen, highest, search)) {
+            ExecutionException e = assertThrows(ExecutionException.class, caller::get);
+            assertInstanceOf(SnapshotUnavailableException.class, e.getCause());
+        }
+        verify(employeeCacheService, times(1)).getSnapshot();
+        verify(employeeService, never()).getTopTenHighestEarningEmployeeNames();
+        verify(employeeService, never()).getHighestSalaryOfEmployees();
+        verify(employeeService, never()).getEmployeesByNameSearch("ali");
+    }
+
+    @Test
+    void failedLoad_isRetriedByTheNextCaller() {
+        asyncService.getHighestSalaryOfEmployees();
+        runTasks();
+
+        asyncService.getHighestSalaryOfEmployees();
+        runTasks();
+
+        verify(employeeCacheService, times(2)).getSnapshot();
+    }
+
+    @Test
+    void parkedReads_runAsTheirOwnTasks_afterTheLoad() throws Exception {
+        when(employeeCacheService.getSnapshotVersion())
+                .thenReturn(EmployeeSnapshot.NO_VERSION, EmployeeSnapshot.NO_VERSION, EmployeeSnapshot.NO_VERSION, 1L);
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(300);
+        when(employeeService.getTopTenHighestEarningEmployeeNames()).thenReturn(List.of("Alice"));
+
+        CompletableFuture<Integer> first = asyncService.getHighestSalaryOfEmployees();
+        CompletableFuture<Integer> second = asyncService.getHighestSalaryOfEmployees();
+        CompletableFuture<List<String>> third = asyncService.getTopTenHighestEarningEmployeeNames();
+
+        Runnable load = tasks.remove(0);
+        assertTrue(tasks.isEmpty());
+        load.run();
+
+        assertEquals(3, tasks.size());
+        assertFalse(first.isDone());
+        runTasks();
+
+        assertEquals(300, first.get());
+        assertEquals(300, second.get());
+        assertEquals(List.of("Alice"), third.get());
+        verify(employeeCacheService, times(1)).getSnapshot();
+    }
+
+    @Test
+    void loadedSnapshot_answersWithoutAnExecutorHop() throws Exception {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(300);
+
+        assertEquals(300, asyncService.getHighestSalaryOfEmployees().get());
+        assertTrue(tasks.isEmpty());
+        verify(employeeCacheService, never()).getSnapshot();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.testdata.EmployeeTestData.ALICE;
+import static com.reliaquest.api.testdata.EmployeeTestData.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.AutocompleteConfig;
+import com.reliaquest.api.model.AutocompleteRank;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.impl.EmployeeAutocompleteServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeAutocompleteServiceImplTest {
+
+    private static final Employee ALBERT = new Employee("3", "Albert", 5000, 60, "CEO", "albert@test.com");
+
+    @Mock
+    private EmployeeCacheService employeeCacheService;
+
+    private final AutocompleteConfig config = new AutocompleteConfig();
+    /** Index builds queued while {@link #holdBuilds} is set; builds otherwise run on the calling thread. */
+    private final List<Runnable> heldBuilds = new ArrayList<>();
+    private boolean holdBuilds;
+    private EmployeeAutocompleteServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        config.setMaxLimit(2);
+        service = new EmployeeAutocompleteServiceImpl(employeeCacheService, config, build -> {
+            if (holdBuilds) {
+                heldBuilds.add(build);
+            } else {
+                build.run();
+            }
+        });
+    }
+
+    @Test
+    void autocompleteNames_ShouldUseConfiguredDefaults() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, List.of(ALICE, ALBERT, BOB)));
+        config.setDefaultRank(AutocompleteRank.SALARY);
+        config.setDefaultLimit(1);
+
+        assertEquals(List.of("Albert"), service.autocompleteNames("al", null, null));
+        assertEquals(List.of("Alice"), service.autocompleteNames("al", 1, AutocompleteRank.NAME));
+    }
+
+    @Test
+    void autocompleteNames_ShouldCapLimit() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, List.of(ALICE, ALBERT, BOB)));
+
+        assertEquals(List.of("Albert", "Alice"), service.autocompleteNames("", 10, AutocompleteRank.NAME));
+        assertEquals(List.of(), service.autocompleteNames("", 0, AutocompleteRank.NAME));
+    }
+
+    @Test
+    void autocompleteNames_ShouldReindexNewSnapshotVersion() {
+        when(employeeCacheService.getSnapshot())
+                .thenReturn(new EmployeeSnapshot(1, List.of(ALICE, BOB)))
+                .thenReturn(new EmployeeSnapshot(2, List.of(ALICE, ALBERT, BOB)));
+
+        assertEquals(List.of("Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+        assertEquals(List.of("Albert", "Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+    }
+
+    @Test
+    void autocompleteNames_ShouldServePreviousIndexUntilNewOneIsBuilt() {
+        when(employeeCacheService.getSnapshot())
+                .thenReturn(new EmployeeSnapshot(1, List.of(ALICE, BOB)))
+                .thenReturn(new EmployeeSnapshot(2, List.of(ALICE, ALBERT, BOB)));
+        assertEquals(List.of("Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+
+        holdBuilds = true;
+        assertEquals(List.of("Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+        assertEquals(List.of("Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+        assertEquals(1, heldBuilds.size());
+
+        heldBuilds.forEach(Runnable::run);
+        assertEquals(List.of("Albert", "Alice"), service.autocompleteNames("al", 2, AutocompleteRank.NAME));
+    }
+}
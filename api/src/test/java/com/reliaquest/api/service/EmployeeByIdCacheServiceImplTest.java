@@ -0,0 +1,233 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.testdata.EmployeeTestData.ALICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.EmployeeByIdCacheConfig;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
+import com.reliaquest.api.service.impl.EmployeeByIdCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class EmployeeByIdCacheServiceImplTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeByIdCacheServiceImplTest.class);
+
+    private EmployeeApiClient apiClient;
+    private EmployeeByIdCacheConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeByIdCacheServiceImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = mock(EmployeeApiClient.class);
+        config = new EmployeeByIdCacheConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployeeByIdCacheServiceImpl(apiClient, config, meterRegistry);
+    }
+
+    @Test
+    void getEmployeeById_ShouldAnswerRepeatedLookupsFromCache() {
+        when(apiClient.findEmployeeById("1")).thenReturn(Optional.of(ALICE));
+
+        for (int i = 0; i < 5; i++) {
+            assertSame(ALICE, cache.getEmployeeById("1"));
+        }
+
+        verify(apiClient, times(1)).findEmployeeById("1");
+        assertEquals(0.8, cache.stats().hitRate(), 1e-9);
+        assertEquals(0.8, meterRegistry.get("cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void getEmployeeById_ShouldRememberMissingIdsForNegativeTtl() throws Exception {
+        config.setNegativeTtl(Duration.ofMillis(50));
+        cache = new EmployeeByIdCacheServiceImpl(apiClient, config, meterRegistry);
+        when(apiClient.findEmployeeById("404")).thenReturn(Optional.empty());
+
+        assertNull(cache.getEmployeeById("404"));
+        assertNull(cache.getEmployeeById("404"));
+        verify(apiClient, times(1)).findEmployeeById("404");
+
+        Thread.sleep(150);
+        assertNull(cache.getEmployeeById("404"));
+        verify(apiClient, times(2)).findEmployeeById("404");
+    }
+
+    @Test
+    void getEmployeeById_ShouldNotCacheFailures() {
+        when(apiClient.findEmployeeById("1"))
+                .thenThrow(new IllegalStateException("upstream down"))
+                .thenReturn(Optional.of(ALICE));
+
+        assertNull(cache.getEmployeeById("1"));
+        assertSame(ALICE, cache.getEmployeeById("1"));
+        verify(apiClient, times(2)).findEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeeById_ShouldShareOneUpstreamCallBetweenConcurrentLookups() throws Exception {
+        CountDownLatch upstreamCalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(apiClient.findEmployeeById("1")).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            upstreamCalled.countDown();
+            release.await();
+            return Optional.of(ALICE);
+        });
+
+        CompletableFuture<Employee> first = CompletableFuture.supplyAsync(() -> cache.getEmployeeById("1"));
+        assertTrue(upstreamCalled.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Employee> second = CompletableFuture.supplyAsync(() -> cache.getEmployeeById("1"));
+        release.countDown();
+
+        assertSame(ALICE, first.get(5, TimeUnit.SECONDS));
+        assertSame(ALICE, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void applyPatch_ShouldForgetDeletedAndCacheCreatedEmployees() {
+        when(apiClient.findEmployeeById("1")).thenReturn(Optional.of(ALICE));
+        assertSame(ALICE, cache.getEmployeeById("1"));
+
+        cache.applyPatch(EmployeePatch.deleted("1"));
+        assertNull(cache.getEmployeeById("1"));
+
+        Employee created = new Employee("2", "Bob", 900, 25, "Dev", "bob@test.com");
+        cache.applyPatch(EmployeePatch.created(created));
+        assertSame(created, cache.getEmployeeById("2"));
+
+        verify(apiClient, times(1)).findEmployeeById("1");
+        verify(apiClient, never()).findEmployeeById("2");
+    }
+
+    @Test
+    void metrics_ShouldBeRegisteredForCache() {
+        when(apiClient.findEmployeeById("1")).thenReturn(Optional.of(ALICE));
+        cache.getEmployeeById("1");
+
+        assertNotNull(meterRegistry
+                .find("cache.gets")
+                .tag("cache", EmployeeByIdCacheServiceImpl.CACHE_NAME)
+                .functionCounter());
+    }
+
+    /**
+     * Replays a skewed lookup trace, hot employees opened from dashboards mixed with scans of one-off and missing
+     * IDs, against this cache and against a plain LRU of the same size.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_HitRatioAgainstLru() {
+        int capacity = 1_000;
+        int hotIds = 50_000;
+        int lookups = 1_000_000;
+        String[] trace = zipfTraceWithScans(hotIds, lookups, 0.9, new Random(42));
+
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        EmployeeApiClient countingClient = new EmployeeApiClient(null, null, null) {
+            @Override
+            public Optional<Employee> findEmployeeById(String id) {
+                upstreamCalls.incrementAndGet();
+                return id.startsWith("scan-") ? Optional.empty() : Optional.of(ALICE);
+            }
+        };
+        config.setMaximumSize(capacity);
+        EmployeeByIdCacheServiceImpl tinyLfu =
+                new EmployeeByIdCacheServiceImpl(countingClient, config, new SimpleMeterRegistry());
+        Lru lru = new Lru(capacity);
+
+        long start = System.nanoTime();
+        for (String id : trace) {
+            tinyLfu.getEmployeeById(id);
+        }
+        long elapsed = System.nanoTime() - start;
+        int lruMisses = 0;
+        for (String id : trace) {
+            if (!lru.touch(id)) {
+                lruMisses++;
+            }
+        }
+
+        double tinyLfuHitRatio = 1 - (double) upstreamCalls.get() / lookups;
+        double lruHitRatio = 1 - (double) lruMisses / lookups;
+        log.info(
+                "W-TinyLFU hit ratio {} ({} ns/lookup), LRU hit ratio {}",
+                "%.3f".formatted(tinyLfuHitRatio),
+                elapsed / lookups,
+                "%.3f".formatted(lruHitRatio));
+        assertTrue(tinyLfuHitRatio > lruHitRatio);
+    }
+
+    /**
+     * Zipf-distributed lookups of {@code hotIds} IDs, except that ten of every hundred lookups scan IDs that are never
+     * looked up again.
+     */
+    private static String[] zipfTraceWithScans(int hotIds, int lookups, double skew, Random random) {
+        double[] cdf = new double[hotIds];
+        double sum = 0;
+        for (int rank = 0; rank < hotIds; rank++) {
+            sum += 1 / Math.pow(rank + 1, skew);
+            cdf[rank] = sum;
+        }
+        String[] trace = new String[lookups];
+        for (int i = 0; i < lookups; i++) {
+            if (i % 100 < 10) {
+                trace[i] = "scan-" + i;
+            } else {
+                int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+                trace[i] = "id-" + (rank < 0 ? -rank - 1 : rank);
+            }
+        }
+        return trace;
+    }
+
+    private static final class Lru extends LinkedHashMap<String, Boolean> {
+
+        private final int capacity;
+
+        private Lru(int capacity) {
+            super(capacity * 2, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return whether {@code id} was cached, caching it either way
+         */
+        private boolean touch(String id) {
+            return put(id, Boolean.TRUE) != null;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+}
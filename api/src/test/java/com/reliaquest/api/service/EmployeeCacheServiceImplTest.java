@@ -1,19 +1,24 @@
 package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
 import com.reliaquest.api.service.impl.EmployeeCacheServiceImpl;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeCacheServiceImplTest {
@@ -21,31 +26,175 @@ class EmployeeCacheServiceImplTest {
     @Mock
     private EmployeeApiClient apiClient;
 
-    @InjectMocks
     private EmployeeCacheServiceImpl cacheService;
 
+    @BeforeEach
+    void setUp() {
+        cacheService = new EmployeeCacheServiceImpl(apiClient, new ConcurrentMapCacheManager("employees"));
+    }
+
     @Test
     void getAllEmployees_returnsList_whenApiSucceeds() {
         List<Employee> employees = List.of(
                 new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com"),
                 new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com"));
 
-        when(apiClient.getAllEmployees()).thenReturn(employees);
+        when(apiClient.fetchAllEmployees()).thenReturn(employees);
 
         List<Employee> result = cacheService.getAllEmployees();
 
         assertEquals(2, result.size());
         assertEquals("Alice", result.get(0).getName());
-        verify(apiClient).getAllEmployees();
+        verify(apiClient).fetchAllEmployees();
     }
 
     @Test
     void getAllEmployees_returnsEmptyList_whenApiThrowsException() {
-        when(apiClient.getAllEmployees()).thenThrow(new RuntimeException("API error"));
+        when(apiClient.fetchAllEmployees()).thenThrow(new RuntimeException("API error"));
 
         List<Employee> result = cacheService.getAllEmployees();
 
         assertTrue(result.isEmpty());
-        verify(apiClient).getAllEmployees();
+        assertEquals(0, cacheService.getSnapshotVersion());
+        verify(apiClient).fetchAllEmployees();
+    }
+
+    @Test
+    void getAllEmployees_fetchesAgain_afterFailedFetch() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        when(apiClient.fetchAllEmployees())
+                .thenThrow(new RuntimeException("API error"))
+                .thenReturn(List.of(alice));
+
+        assertTrue(cacheService.getAllEmployees().isEmpty());
+        assertEquals(List.of(alice), cacheService.getAllEmployees());
+        assertEquals(List.of(alice), cacheService.getAllEmployees());
+
+        verify(apiClient, times(2)).fetchAllEmployees();
+        verify(apiClient, never()).getAllEmployees();
+    }
+
+    @Test
+    void getSnapshot_keepsVersionUntilReloaded() {
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of());
+
+        assertEquals(0, cacheService.getSnapshotVersion());
+
+        long first = cacheService.getSnapshot().version();
+        assertEquals(first, cacheService.getSnapshotVersion());
+        assertEquals(first, cacheService.getSnapshot().version());
+        assertTrue(first > 0);
+    }
+
+    @Test
+    void applyPatch_publishesPatchedSnapshotWithoutRefetching() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        Employee bob = new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com");
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(alice));
+        long loadedVersion = cacheService.getSnapshot().version();
+
+        cacheService.applyPatch(EmployeePatch.created(bob));
+        assertEquals(List.of(alice, bob), cacheService.getAllEmployees());
+
+        cacheService.applyPatch(EmployeePatch.deleted("1"));
+        assertEquals(List.of(bob), cacheService.getAllEmployees());
+
+        assertEquals(loadedVersion + 2, cacheService.getSnapshotVersion());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void applyPatch_ignoredWhenNothingIsCached() {
+        cacheService.applyPatch(EmployeePatch.deleted("1"));
+
+        assertEquals(0, cacheService.getSnapshotVersion());
+        verify(apiClient, never()).fetchAllEmployees();
+    }
+
+    @Test
+    void getSnapshot_replaysPatchesAppliedDuringInitialLoad() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        Employee bob = new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com");
+        // Upstream answers with the directory as it was before Bob was created and Alice deleted.
+        when(apiClient.fetchAllEmployees()).thenAnswer(invocation -> {
+            cacheService.applyPatch(EmployeePatch.created(bob));
+            cacheService.applyPatch(EmployeePatch.deleted("1"));
+            return List.of(alice);
+        });
+
+        assertEquals(List.of(bob), cacheService.getAllEmployees());
+        assertEquals(List.of(bob), cacheService.getAllEmployees());
+        verify(apiClient, times(1)).fetchAllEmployees();
+    }
+
+    @Test
+    void getSnapshot_dropsPatchesAppliedDuringFailedLoad() {
+        Employee bob = new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com");
+        when(apiClient.fetchAllEmployees())
+                .thenAnswer(invocation -> {
+                    cacheService.applyPatch(EmployeePatch.created(bob));
+                    throw new RuntimeException("API error");
+                })
+                .thenReturn(List.of(bob));
+
+        assertTrue(cacheService.getAllEmployees().isEmpty());
+        cacheService.applyPatch(EmployeePatch.deleted("2"));
+
+        assertEquals(List.of(bob), cacheService.getAllEmployees());
+    }
+
+    @Test
+    void refresh_swapsInNewSnapshotVersion() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        Employee bob = new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com");
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(alice)).thenReturn(List.of(alice, bob));
+        long loadedVersion = cacheService.getSnapshot().version();
+
+        assertTrue(cacheService.refresh());
+
+        assertEquals(List.of(alice, bob), cacheService.getAllEmployees());
+        assertTrue(cacheService.getSnapshotVersion() > loadedVersion);
+        verify(apiClient, times(2)).fetchAllEmployees();
+    }
+
+    @Test
+    void refresh_keepsSnapshotWhenFetchFails() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(alice)).thenThrow(new RuntimeException("API error"));
+        long loadedVersion = cacheService.getSnapshot().version();
+
+        assertFalse(cacheService.refresh());
+
+        assertEquals(loadedVersion, cacheService.getSnapshotVersion());
+        assertEquals(List.of(alice), cacheService.getAllEmployees());
+    }
+
+    @Test
+    void refresh_replaysPatchesAppliedDuringFetch() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        Employee bob = new Employee("2", "Bob", 90_000, 25, "Dev", "bob@test.com");
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(alice));
+        cacheService.getSnapshot();
+        // Upstream answers with the directory as it was before Bob was created and Alice deleted.
+        when(apiClient.fetchAllEmployees()).thenAnswer(invocation -> {
+            cacheService.applyPatch(EmployeePatch.created(bob));
+            cacheService.applyPatch(EmployeePatch.deleted("1"));
+            return List.of(alice);
+        });
+
+        assertTrue(cacheService.refresh());
+
+        assertEquals(List.of(bob), cacheService.getAllEmployees());
+    }
+
+    @Test
+    void refresh_populatesEmptyCache() {
+        Employee alice = new Employee("1", "Alice", 100_000, 30, "Proj. Mgr", "alice@test.com");
+        when(apiClient.fetchAllEmployees()).thenReturn(List.of(alice));
+
+        assertTrue(cacheService.refresh());
+
+        assertEquals(List.of(alice), cacheService.getAllEmployees());
+        verify(apiClient, times(1)).fetchAllEmployees();
     }
 }
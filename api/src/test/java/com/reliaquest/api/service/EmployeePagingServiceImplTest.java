@@ -0,0 +1,111 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.PaginationConfig;
+import com.reliaquest.api.dto.EmployeePage;
+import com.reliaquest.api.exception.InvalidCursorException;
+import com.reliaquest.api.exception.StaleCursorException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.impl.EmployeePagingServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePagingServiceImplTest {
+
+    private static final List<Employee> EMPLOYEES = IntStream.range(0, 23)
+            .mapToObj(i -> new Employee(
+                    String.valueOf(i), (i % 3 == 0 ? "Anna " : "Bob ") + i, 1000 + i, 30, "Dev", i + "@test.com"))
+            .toList();
+
+    @Mock
+    private EmployeeCacheService employeeCacheService;
+
+    private final PaginationConfig config = new PaginationConfig();
+    private EmployeePagingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        config.setDefaultPageSize(5);
+        config.setMaxPageSize(10);
+        service = new EmployeePagingServiceImpl(employeeCacheService, config);
+    }
+
+    @Test
+    void getEmployeesPage_ShouldWalkEveryEmployeeOnce() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, EMPLOYEES));
+
+        List<Employee> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeePage page = service.getEmployeesPage(cursor, null);
+            seen.addAll(page.getData());
+            pageSizes.add(page.getData().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(EMPLOYEES, seen);
+        assertEquals(List.of(5, 5, 5, 5, 3), pageSizes);
+    }
+
+    @Test
+    void searchEmployeesPage_ShouldMatchUnpagedSearch() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, EMPLOYEES));
+        List<Employee> expected = EMPLOYEES.stream()
+                .filter(e -> e.getName().toLowerCase().contains("anna"))
+                .toList();
+
+        EmployeePage first = service.searchEmployeesPage("ANNA", null, 4);
+        EmployeePage second = service.searchEmployeesPage("ANNA", first.getNextCursor(), 4);
+
+        assertEquals(expected.subList(0, 4), first.getData());
+        assertEquals(expected.subList(4, 8), second.getData());
+        assertNull(second.getNextCursor(), "the last match ends the listing");
+    }
+
+    @Test
+    void getEmployeesPage_ShouldCapPageSize() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, EMPLOYEES));
+
+        assertEquals(10, service.getEmployeesPage(null, 1_000_000).getData().size());
+        assertEquals(1, service.getEmployeesPage(null, -5).getData().size());
+    }
+
+    @Test
+    void getEmployeesPage_ShouldRejectCursorFromOlderSnapshot() {
+        when(employeeCacheService.getSnapshot())
+                .thenReturn(new EmployeeSnapshot(1, EMPLOYEES))
+                .thenReturn(new EmployeeSnapshot(2, EMPLOYEES));
+        String cursor = service.getEmployeesPage(null, null).getNextCursor();
+
+        assertThrows(StaleCursorException.class, () -> service.getEmployeesPage(cursor, null));
+    }
+
+    @Test
+    void searchEmployeesPage_ShouldRejectCursorFromAnotherQuery() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, EMPLOYEES));
+        String cursor = service.getEmployeesPage(null, null).getNextCursor();
+
+        assertThrows(InvalidCursorException.class, () -> service.searchEmployeesPage("anna", cursor, null));
+    }
+
+    @Test
+    void getEmployeesPage_ShouldRejectMalformedCursor() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, EMPLOYEES));
+
+        assertThrows(InvalidCursorException.class, () -> service.getEmployeesPage("not-a-cursor!", null));
+        assertThrows(InvalidCursorException.class, () -> service.getEmployeesPage("AAAA", null));
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.testdata.EmployeeTestData.ALICE;
+import static com.reliaquest.api.testdata.EmployeeTestData.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.SearchCacheConfig;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.impl.EmployeeSearchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSearchServiceImplTest {
+
+    private static final Employee ALBERT = new Employee("3", "Albert", 1100, 45, "Dev", "albert@test.com");
+
+    private EmployeeCacheService employeeCacheService;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeSearchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        employeeCacheService = mock(EmployeeCacheService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new EmployeeSearchServiceImpl(employeeCacheService, new SearchCacheConfig(), meterRegistry);
+    }
+
+    @Test
+    void searchByName_ShouldMatchAnyPartOfNameIgnoringCase() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, List.of(ALICE, BOB, ALBERT)));
+
+        assertEquals(List.of(ALICE, ALBERT), service.searchByName("AL"));
+        assertEquals(List.of(BOB), service.searchByName("ob"));
+        assertEquals(List.of(), service.searchByName("Charlie"));
+    }
+
+    @Test
+    void searchByName_ShouldAnswerRepeatedQueriesFromCache() {
+        when(employeeCacheService.getSnapshot()).thenReturn(new EmployeeSnapshot(1, List.of(ALICE, BOB)));
+
+        List<Employee> first = service.searchByName("alice");
+        List<Employee> second = service.searchByName("ALICE");
+
+        assertSame(first, second);
+        assertEquals(0.5, service.stats().hitRate(), 1e-9);
+        assertEquals(
+                0.5,
+                meterRegistry
+                        .get("cache.hit.ratio")
+                        .tag("cache", EmployeeSearchServiceImpl.CACHE_NAME)
+                        .gauge()
+                        .value(),
+                1e-9);
+    }
+
+    @Test
+    void searchByName_ShouldSearchAgainOnceSnapshotChanges() {
+        when(employeeCacheService.getSnapshot())
+                .thenReturn(new EmployeeSnapshot(1, List.of(ALICE, BOB)))
+                .thenReturn(new EmployeeSnapshot(2, List.of(ALICE, BOB, ALBERT)));
+
+        assertEquals(List.of(ALICE), service.searchByName("al"));
+        assertEquals(List.of(ALICE, ALBERT), service.searchByName("al"));
+        assertEquals(2, service.stats().missCount());
+    }
+}
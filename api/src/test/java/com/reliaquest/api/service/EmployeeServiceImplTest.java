@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,16 +16,19 @@ import com.reliaquest.api.dto.EmployeeInput;
 import com.reliaquest.api.exception.EmployeeDeletionFailedException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePatch;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceImplTest {
@@ -31,9 +36,18 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeCacheService employeeCacheService;
 
+    @Mock
+    private EmployeeByIdCacheService employeeByIdCacheService;
+
+    @Mock
+    private EmployeeSearchService employeeSearchService;
+
     @Mock
     private EmployeeApiClient apiClient;
 
+    @Mock
+    private ClusterBroadcaster clusterBroadcaster;
+
     @InjectMocks
     private EmployeeServiceImpl service;
 
@@ -61,32 +75,49 @@ class EmployeeServiceImplTest {
 
         assertNull(result);
         verify(apiClient).createEmployee(input);
+        verify(employeeCacheService, never()).applyPatch(any());
+        verify(clusterBroadcaster, never()).broadcast(any());
+    }
+
+    @Test
+    void createEmployee_ShouldPatchLocalAndPeerSnapshots() {
+        EmployeeInput input = new EmployeeInput("Charlie", 80_000, 28, "QA Engineer");
+        Employee createdEmployee = new Employee("3", "Charlie", 80_000, 28, "QA Engineer", "charlie@test.com");
+        when(apiClient.createEmployee(input)).thenReturn(createdEmployee);
+
+        service.createEmployee(input);
+
+        EmployeePatch patch = EmployeePatch.created(createdEmployee);
+        verify(employeeCacheService).applyPatch(patch);
+        verify(employeeByIdCacheService).applyPatch(patch);
+        verify(clusterBroadcaster).broadcast(patch);
     }
 
     @Test
-    void getEmployeeById_ShouldDelegateToApiClient() {
-        when(apiClient.getEmployeeById("1")).thenReturn(ALICE);
+    void getEmployeeById_ShouldDelegateToByIdCache() {
+        when(employeeByIdCacheService.getEmployeeById("1")).thenReturn(ALICE);
 
         Employee result = service.getEmployeeById("1");
 
         assertEquals("Alice", result.getName());
-        verify(apiClient).getEmployeeById("1");
+        verify(employeeByIdCacheService).getEmployeeById("1");
     }
 
     @Test
     void getEmployeeById_ShouldThrowNotFoundException() {
-        when(apiClient.getEmployeeById("999")).thenReturn(null);
+        when(employeeByIdCacheService.getEmployeeById("999")).thenReturn(null);
 
         EmployeeNotFoundException ex =
                 assertThrows(EmployeeNotFoundException.class, () -> service.getEmployeeById("999"));
 
         assertEquals("Employee with ID '999' not found", ex.getMessage());
-        verify(apiClient).getEmployeeById("999");
+        verify(employeeByIdCacheService).getEmployeeById("999");
     }
 
     @Test
-    void getEmployeesByNameSearch_ShouldFilterCorrectly() {
-        when(employeeCacheService.getAllEmployees()).thenReturn(allEmployees());
+    void getEmployeesByNameSearch_ShouldDelegateToSearchService() {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
+        when(employeeSearchService.searchByName("Alice")).thenReturn(List.of(ALICE));
 
         List<Employee> result = service.getEmployeesByNameSearch("Alice");
 
@@ -96,6 +127,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnMaxSalary() {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
         when(employeeCacheService.getAllEmployees()).thenReturn(allEmployees());
 
         Integer maxSalary = service.getHighestSalaryOfEmployees();
@@ -105,6 +137,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void getHighestSalaryOfEmployees_ShouldReturnZeroIfEmpty() {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
         when(employeeCacheService.getAllEmployees()).thenReturn(Collections.emptyList());
 
         Integer maxSalary = service.getHighestSalaryOfEmployees();
@@ -114,6 +147,7 @@ class EmployeeServiceImplTest {
 
     @Test
     void getTopTenHighestEarningEmployeeNames_ShouldReturnTopNames() {
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
         when(employeeCacheService.getAllEmployees()).thenReturn(allEmployees());
 
         List<String> topNames = service.getTopTenHighestEarningEmployeeNames();
@@ -128,6 +162,7 @@ class EmployeeServiceImplTest {
             employees.add(new Employee(String.valueOf(i), "Emp" + i, i * 1000, 25, "Dev", "emp" + i + "@test.com"));
         }
 
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(1L);
         when(employeeCacheService.getAllEmployees()).thenReturn(employees);
 
         List<String> top10 = service.getTopTenHighestEarningEmployeeNames();
@@ -142,6 +177,69 @@ class EmployeeServiceImplTest {
         assertEquals(expectedTop10, top10);
     }
 
+    @Test
+    void getEmployeesByNameSearch_ShouldPushDownWhileCacheIsCold() {
+        when(apiClient.searchEmployeesByName("Alice")).thenReturn(List.of(ALICE));
+
+        List<Employee> result = service.getEmployeesByNameSearch("Alice");
+
+        assertEquals(List.of(ALICE), result);
+        verify(employeeSearchService, never()).searchByName(any());
+    }
+
+    @Test
+    void getEmployeesByNameSearch_ShouldFallBackToSnapshotIfPushDownFails() {
+        when(apiClient.searchEmployeesByName("Alice")).thenThrow(new RestClientException("down"));
+        when(employeeSearchService.searchByName("Alice")).thenReturn(List.of(ALICE));
+
+        List<Employee> result = service.getEmployeesByNameSearch("Alice");
+
+        assertEquals(List.of(ALICE), result);
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees_ShouldPushDownWhileCacheIsCold() {
+        when(apiClient.findHighestSalary()).thenReturn(1000);
+
+        Integer maxSalary = service.getHighestSalaryOfEmployees();
+
+        assertEquals(1000, maxSalary);
+        verify(employeeCacheService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_ShouldPushDownWhileCacheIsCold() {
+        when(apiClient.findTopEmployeesBySalary(10)).thenReturn(allEmployees());
+
+        List<String> topNames = service.getTopTenHighestEarningEmployeeNames();
+
+        assertEquals(List.of("Alice", "Bob"), topNames);
+        verify(employeeCacheService, never()).getAllEmployees();
+    }
+
+    @Test
+    void getTopTenHighestEarningEmployeeNames_ShouldBreakSalaryTiesTheSameWarmOrCold() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            employees.add(new Employee(UUID.randomUUID().toString(), "Emp" + i, 5000, 25, "Dev", null));
+        }
+        // The mock server ranks equal salaries by descending ID.
+        List<Employee> ranked = employees.stream()
+                .sorted(Comparator.comparing((Employee employee) -> UUID.fromString(employee.getId()))
+                        .reversed())
+                .limit(10)
+                .toList();
+        when(apiClient.findTopEmployeesBySalary(10)).thenReturn(ranked);
+        when(employeeCacheService.getSnapshotVersion()).thenReturn(0L, 1L);
+        when(employeeCacheService.getAllEmployees()).thenReturn(employees);
+
+        List<String> cold = service.getTopTenHighestEarningEmployeeNames();
+        List<String> warm = service.getTopTenHighestEarningEmployeeNames();
+
+        assertEquals(ranked.stream().map(Employee::getName).toList(), cold);
+        assertEquals(cold, warm);
+    }
+
     @Test
     void deleteEmployeeById_ShouldThrowDeletionFailedException() {
         when(apiClient.deleteEmployeeById("1")).thenReturn(null);
@@ -153,4 +251,15 @@ class EmployeeServiceImplTest {
         assertEquals("Failed to delete employee with ID '1'", ex.getMessage());
         verify(apiClient).deleteEmployeeById("1");
     }
+
+    @Test
+    void deleteEmployeeById_ShouldPatchLocalAndPeerSnapshots() {
+        when(apiClient.deleteEmployeeById("1")).thenReturn("Alice");
+
+        assertEquals("Alice", service.deleteEmployeeById("1"));
+
+        verify(employeeCacheService).applyPatch(EmployeePatch.deleted("1"));
+        verify(employeeByIdCacheService).applyPatch(EmployeePatch.deleted("1"));
+        verify(clusterBroadcaster).broadcast(EmployeePatch.deleted("1"));
+    }
 }
@@ -0,0 +1,89 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CallerLoadedCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallerLoadedCache<String, String> cache = new CallerLoadedCache<>(
+            "test", Caffeine.newBuilder().recordStats().<String, String>buildAsync(), meterRegistry);
+
+    @Test
+    void get_ShouldRethrowFailedLoadAndLoadAgainNextTime() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> cache.get("key", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        }));
+        assertEquals("value", cache.get("key", () -> {
+            loads.incrementAndGet();
+            return "value";
+        }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldRethrowFailedLoadToLookupsSharingIt() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second =
+                CompletableFuture.supplyAsync(() -> cache.get("key", () -> "loaded by the second lookup"));
+        // The second lookup counts as a hit once it has found the load under way.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.stats().hitCount() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException, failure.getCause().toString());
+        failure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException, failure.getCause().toString());
+    }
+
+    @Test
+    void get_ShouldRethrowErrorAndLoadAgainNextTime() {
+        assertThrows(StackOverflowError.class, () -> cache.get("key", () -> {
+            throw new StackOverflowError();
+        }));
+
+        assertEquals("value", cache.get("key", () -> "value"));
+    }
+
+    @Test
+    void hitRatio_ShouldBePublishedForCache() {
+        cache.get("key", () -> "value");
+        cache.get("key", () -> "value");
+
+        assertEquals(
+                0.5,
+                meterRegistry.find("cache.hit.ratio").tag("cache", "test").gauge().value(),
+                1e-9);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
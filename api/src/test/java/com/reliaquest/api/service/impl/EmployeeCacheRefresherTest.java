@@ -0,0 +1,102 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.PrepaidPermit;
+import com.reliaquest.api.client.RateBudget;
+import com.reliaquest.api.client.UpstreamPriority;
+import com.reliaquest.api.config.CacheRefreshConfig;
+import com.reliaquest.api.service.EmployeeCacheService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.scheduling.TaskScheduler;
+
+class EmployeeCacheRefresherTest {
+
+    private EmployeeCacheService employeeCacheService;
+    private CacheRefreshConfig config;
+    private RateBudget rateBudget;
+    private TaskScheduler scheduler;
+    private EmployeeCacheRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        employeeCacheService = mock(EmployeeCacheService.class);
+        config = new CacheRefreshConfig();
+        rateBudget = mock(RateBudget.class);
+        scheduler = mock(TaskScheduler.class);
+        refresher = new EmployeeCacheRefresher(employeeCacheService, config, rateBudget, scheduler);
+    }
+
+    @Test
+    void start_ShouldWarmUpAndScheduleRefresh() {
+        when(employeeCacheService.refresh()).thenReturn(true);
+
+        refresher.start();
+
+        verify(employeeCacheService).refresh();
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void start_ShouldDoNothingWhenDisabled() {
+        config.setWarmUp(false);
+        config.setEnabled(false);
+
+        refresher.start();
+
+        verify(employeeCacheService, never()).refresh();
+        verify(scheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any());
+    }
+
+    @Test
+    void refresh_ShouldSkipWithoutSpareRateBudget() {
+        when(rateBudget.tryAcquire(UpstreamPriority.BACKGROUND)).thenReturn(false);
+
+        refresher.refresh();
+
+        verify(employeeCacheService, never()).refresh();
+    }
+
+    @Test
+    void refresh_ShouldRunAsPrepaidBackgroundWork() {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getMethod()).thenReturn(HttpMethod.GET);
+        AtomicReference<UpstreamPriority> priority = new AtomicReference<>();
+        AtomicBoolean prepaid = new AtomicBoolean();
+        when(rateBudget.tryAcquire(UpstreamPriority.BACKGROUND)).thenReturn(true);
+        when(employeeCacheService.refresh()).thenAnswer(invocation -> {
+            priority.set(UpstreamPriority.of(request));
+            prepaid.set(PrepaidPermit.consume());
+            return true;
+        });
+
+        refresher.refresh();
+
+        assertEquals(UpstreamPriority.BACKGROUND, priority.get());
+        assertTrue(prepaid.get());
+    }
+
+    @Test
+    void refresh_ShouldSurviveFailures() {
+        when(rateBudget.tryAcquire(UpstreamPriority.BACKGROUND)).thenReturn(true);
+        when(employeeCacheService.refresh()).thenThrow(new IllegalStateException("upstream down"));
+
+        refresher.refresh();
+
+        verify(employeeCacheService).refresh();
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.AutocompleteRank;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class NamePrefixIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NamePrefixIndexTest.class);
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Alan", "Albert", "Alexandra", "Amy", "Anna", "Anne", "Bob", "Bobby", "Carla", "Carl", "Dana", "Dan",
+        "Eve", "Evelyn", "Frank", "Grace", "Hank", "Ivy", "Jack", "Jackie", "Kim", "Leo", "Mia", "Noah", "Olga"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Smithers", "Smyth", "Jones", "Johnson", "Johns", "Brown", "Browning", "Taylor", "Tailor", "Lee",
+        "Leeds", "Allen", "Allenby", "Anderson", "Andrews", "Walker", "Wall", "Young", "Youngblood"
+    };
+
+    @ParameterizedTest
+    @EnumSource(AutocompleteRank.class)
+    void complete_ShouldMatchLinearScan(AutocompleteRank rank) {
+        List<Employee> employees = randomEmployees(5_000, new Random(42));
+        NamePrefixIndex index = new NamePrefixIndex(employees, rank, 20, 16);
+
+        List<String> prefixes = new ArrayList<>(List.of("", "a", "Al", "ALL", "smi", "smith", "jo", "x", "anne smi"));
+        for (String name : FIRST_NAMES) {
+            for (int length = 1; length <= name.length(); length++) {
+                prefixes.add(name.substring(0, length));
+            }
+        }
+        for (String prefix : prefixes) {
+            for (int limit : new int[] {1, 7, 20}) {
+                assertEquals(linearScan(employees, rank, prefix, limit), index.complete(prefix, limit), prefix);
+            }
+        }
+    }
+
+    @Test
+    void complete_ShouldMatchAnyWordCaseInsensitively() {
+        List<Employee> employees = List.of(
+                new Employee("1", "John Smith", 100, 40, "Dev", "john@test.com"),
+                new Employee("2", "Mary SMITHERS", 300, 30, "Dev", "mary@test.com"),
+                new Employee("3", "Smitty Jones", 200, 50, "Dev", "smitty@test.com"),
+                new Employee("4", null, 900, 20, "Dev", "nobody@test.com"));
+        NamePrefixIndex index = new NamePrefixIndex(employees, AutocompleteRank.SALARY, 10);
+
+        assertEquals(List.of("Mary SMITHERS", "Smitty Jones", "John Smith"), index.complete("smit", 10));
+        assertEquals(List.of("Mary SMITHERS", "John Smith"), index.complete("Smith", 10));
+        assertEquals(List.of("Mary SMITHERS"), index.complete("Smith", 1));
+        assertEquals(List.of(), index.complete("smithy", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void complete_ShouldCapLimitAtMaxResults() {
+        NamePrefixIndex index = new NamePrefixIndex(randomEmployees(1_000, new Random(7)), AutocompleteRank.NAME, 5);
+
+        assertEquals(5, index.complete("a", 50).size());
+    }
+
+    /**
+     * Run with {@code ./gradlew :api:test -Dbenchmarks=true --tests '*NamePrefixIndexTest'}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_OneMillionNames() {
+        Random random = new Random(1);
+        List<Employee> employees = randomEmployees(1_000_000, random);
+        String[] prefixes = new String[10_000];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = random.nextBoolean()
+                    ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                    : LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(4, name.length())));
+        }
+
+        for (AutocompleteRank rank : AutocompleteRank.values()) {
+            long buildStart = System.nanoTime();
+            NamePrefixIndex index = new NamePrefixIndex(employees, rank, 20);
+            long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+            for (int warmup = 0; warmup < 5; warmup++) {
+                for (String prefix : prefixes) {
+                    index.complete(prefix, 10);
+                }
+            }
+            long[] latencies = new long[prefixes.length];
+            for (int i = 0; i < prefixes.length; i++) {
+                long start = System.nanoTime();
+                index.complete(prefixes[i], 10);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            long p50 = latencies[latencies.length / 2];
+            long p99 = latencies[(int) (latencies.length * 0.99)];
+            log.info(
+                    "Autocomplete by {} over {} names: built in {} ms, p50 {} us, p99 {} us",
+                    rank,
+                    index.size(),
+                    buildMillis,
+                    "%.1f".formatted(p50 / 1_000.0),
+                    "%.1f".formatted(p99 / 1_000.0));
+            assertTrue(p99 < 1_000_000, "p99 should stay well under a millisecond, was " + p99 + " ns");
+        }
+    }
+
+    private static List<String> linearScan(List<Employee> employees, AutocompleteRank rank, String prefix, int limit) {
+        String key = prefix.strip().toLowerCase(Locale.ROOT);
+        return employees.stream()
+                .filter(employee -> employee.getName() != null)
+                .sorted(rank.order())
+                .filter(employee -> {
+                    String name = employee.getName().toLowerCase(Locale.ROOT);
+                    return name.startsWith(key) || name.contains(" " + key);
+                })
+                .limit(limit)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    private static List<Employee> randomEmployees(int count, Random random) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    String.valueOf(i),
+                    name,
+                    30_000 + random.nextInt(200_000),
+                    18 + random.nextInt(50),
+                    "Dev",
+                    "employee" + i + "@test.com"));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.LatencyDistribution;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionConfig {
+    private boolean enabled = false;
+    /** Seeds the faults injected, in the order requests arrive; random per start when unset. */
+    private Long seed;
+    /** Applied to the requests they match, the first matching one only. */
+    private List<Profile> profiles = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Profile {
+        /** HTTP method, or every method when unset. */
+        private String method;
+        /** Ant-style request path pattern, e.g. {@code /api/v1/employee/**}, or every path when unset. */
+        private String path;
+
+        private Latency latency = new Latency();
+        /** Share of requests answered with {@link #errorStatus} instead of being handled. */
+        private double errorRate;
+
+        private int errorStatus = 503;
+        /** Share of responses trickled out in {@link #slowBodyChunkBytes} chunks, {@link #slowBodyChunkDelay} apart. */
+        private double slowBodyRate;
+
+        private int slowBodyChunkBytes = 64;
+        private Duration slowBodyChunkDelay = Duration.ofMillis(100);
+        /**
+         * Share of responses cut off at a random point, short of the {@code Content-Length} they announce; at most 1
+         * together with {@link #slowBodyRate}.
+         */
+        private double partialBodyRate;
+    }
+
+    /**
+     * Delay added before a request is handled, drawn from {@link #distribution}.
+     */
+    @Getter
+    @Setter
+    public static class Latency {
+        private LatencyDistribution distribution = LatencyDistribution.NONE;
+        private Duration min = Duration.ZERO;
+        private Duration median = Duration.ZERO;
+        private Duration p99 = Duration.ZERO;
+        /** Upper bound of every distribution; unbounded when zero. */
+        private Duration max = Duration.ZERO;
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Binary file of mock employees, so large datasets can be generated once and reloaded in a fraction of the time.
+ *
+ * <p>The file starts with a magic number, a format version, the {@link Generation} the employees came from if they
+ * were generated, the employee count and a dictionary of the distinct titles, followed by one record per employee: the
+ * ID as two {@code long}s, the name, salary, age, title index and email. Missing values are written as flags or
+ * sentinels rather than dropped. Files of format version 1, which predate the generation, are still read.
+ */
+public final class MockEmployeeFixture {
+
+    private static final int MAGIC = 0x4D454D50;
+    private static final int FORMAT_VERSION = 2;
+    private static final int FORMAT_VERSION_WITHOUT_GENERATION = 1;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MockEmployeeFixture() {}
+
+    /**
+     * The parameters employees were generated with, which reproduce them given the same {@link MockEmployeeGenerator}.
+     *
+     * @param max the number of employees generated
+     * @param seed the seed they were generated with
+     */
+    public record Generation(int max, long seed) {}
+
+    /**
+     * Writes employees that were not generated, or whose generation is not known.
+     */
+    public static void write(Path path, List<MockEmployee> mockEmployees) throws IOException {
+        write(path, mockEmployees, null);
+    }
+
+    /**
+     * Writes to a temporary file next to {@code path} and moves it into place, so readers never see half a fixture.
+     *
+     * @param generation what the employees were generated with, or {@code null} if they were not
+     */
+    public static void write(Path path, List<MockEmployee> mockEmployees, Generation generation) throws IOException {
+        final var titleIndexes = new LinkedHashMap<String, Integer>();
+        mockEmployees.forEach(employee -> {
+            if (employee.getTitle() != null) {
+                titleIndexes.putIfAbsent(employee.getTitle(), titleIndexes.size());
+            }
+        });
+
+        final var absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final var temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try (final var out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeBoolean(generation != null);
+            if (generation != null) {
+                out.writeInt(generation.max());
+                out.writeLong(generation.seed());
+            }
+            out.writeInt(mockEmployees.size());
+            out.writeInt(titleIndexes.size());
+            for (final var title : titleIndexes.keySet()) {
+                out.writeUTF(title);
+            }
+            for (final var employee : mockEmployees) {
+                out.writeLong(employee.getId().getMostSignificantBits());
+                out.writeLong(employee.getId().getLeastSignificantBits());
+                writeNullable(out, employee.getName());
+                out.writeInt(employee.getSalary() == null ? NO_VALUE : employee.getSalary());
+                out.writeInt(employee.getAge() == null ? NO_VALUE : employee.getAge());
+                out.writeInt(employee.getTitle() == null ? NO_VALUE : titleIndexes.get(employee.getTitle()));
+                writeNullable(out, employee.getEmail());
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads only the header, so a fixture can be checked against the configured generation before loading it.
+     *
+     * @return what the employees were generated with, or empty if they were not or it was not recorded
+     */
+    public static Optional<Generation> readGeneration(Path path) throws IOException {
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return Optional.ofNullable(readHeader(in, path));
+        }
+    }
+
+    public static List<MockEmployee> read(Path path) throws IOException {
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            readHeader(in, path);
+            final var count = in.readInt();
+            final var titles = new String[in.readInt()];
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = in.readUTF();
+            }
+            final var mockEmployees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                final var id = new UUID(in.readLong(), in.readLong());
+                final var name = readNullable(in);
+                final var salary = in.readInt();
+                final var age = in.readInt();
+                final var title = in.readInt();
+                mockEmployees.add(MockEmployee.builder()
+                        .id(id)
+                        .name(name)
+                        .salary(salary == NO_VALUE ? null : salary)
+                        .age(age == NO_VALUE ? null : age)
+                        .title(title == NO_VALUE ? null : titles[title])
+                        .email(readNullable(in))
+                        .build());
+            }
+            return mockEmployees;
+        }
+    }
+
+    private static Generation readHeader(DataInputStream in, Path path) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a mock employee fixture: " + path);
+        }
+        final var formatVersion = in.readInt();
+        if (formatVersion == FORMAT_VERSION_WITHOUT_GENERATION) {
+            return null;
+        }
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported mock employee fixture version %d in %s".formatted(formatVersion, path));
+        }
+        return in.readBoolean() ? new Generation(in.readInt(), in.readLong()) : null;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
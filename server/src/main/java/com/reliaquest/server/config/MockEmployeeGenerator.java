@@ -0,0 +1,92 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates mock employees quickly and reproducibly. Faker is asked only once, up front, for pools of first names, last
+ * names and job titles; employees are then assembled from those pools in parallel chunks. Each chunk draws from its own
+ * random stream derived from the seed and its position, so the same seed always yields the same employees in the same
+ * order, however many threads do the work. Faker always uses {@link #LOCALE} rather than the default locale, which
+ * would give the same seed different names on differently configured machines.
+ */
+public class MockEmployeeGenerator {
+
+    public static final Locale LOCALE = Locale.US;
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int NAME_POOL_SIZE = 1_000;
+    private static final int TITLE_POOL_SIZE = 500;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final List<String> firstNames;
+    private final List<String> lastNames;
+    /** Last names reduced to what is allowed in the local part of an email address, by index. */
+    private final List<String> lastNameHandles;
+
+    private final List<String> titles;
+
+    public MockEmployeeGenerator(long seed) {
+        final var faker = new Faker(LOCALE, new Random(seed));
+        this.seed = seed;
+        this.firstNames = sample(NAME_POOL_SIZE, () -> faker.name().firstName());
+        this.lastNames = sample(NAME_POOL_SIZE, () -> faker.name().lastName());
+        this.lastNameHandles = lastNames.stream()
+                .map(lastName -> lastName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""))
+                .toList();
+        this.titles = sample(TITLE_POOL_SIZE, () -> faker.job().title());
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        final var random = new SplittableRandom(seed + (chunk + 1) * GOLDEN_GAMMA);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            final var first = random.nextInt(firstNames.size());
+            final var last = random.nextInt(lastNames.size());
+            final var handle = Character.toLowerCase(firstNames.get(first).charAt(0))
+                    + lastNameHandles.get(last)
+                    + random.nextInt(1_000);
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(firstNames.get(first) + " " + lastNames.get(last))
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(titles.get(random.nextInt(titles.size())))
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(handle))
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * @return a version 4 UUID drawn from {@code random} rather than from {@link UUID#randomUUID()}'s secure source
+     */
+    private static UUID randomUuid(SplittableRandom random) {
+        final var mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static List<String> sample(int size, Supplier<String> supplier) {
+        return IntStream.range(0, size).mapToObj(ignored -> supplier.get()).toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.persistence.FsyncPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mock.persistence")
+public class PersistenceConfig {
+    /** Journals creates and deletes to {@link #directory} and restores them on the next start. */
+    private boolean enabled = false;
+
+    private Path directory = Path.of("build", "mock-data");
+    private FsyncPolicy fsync = FsyncPolicy.ALWAYS;
+    /** How often {@link FsyncPolicy#INTERVAL} forces the journal to disk. */
+    private Duration fsyncInterval = Duration.ofMillis(100);
+    /** Journal records after which a compacted snapshot is written, bounding how much a restart has to replay. */
+    private long snapshotEvery = 100_000;
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.web.RateLimitMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mock.rate-limit")
+public class RateLimitConfig {
+    private RateLimitMode mode = RateLimitMode.RANDOM;
+    /** Seeds the request limit and backoff of {@link RateLimitMode#RANDOM}, which are random per start when unset. */
+    private Long seed;
+    /** Request header naming the client; requests without it are limited by their remote address. */
+    private String clientKeyHeader = "X-Client-Id";
+
+    private Limit defaults = new Limit();
+    /** Limits of particular clients, by client key; these take precedence over route limits. */
+    private Map<String, Limit> clients = new HashMap<>();
+    /** Limits of particular routes, counted apart from the requests to every other route. */
+    private List<RouteLimit> routes = new ArrayList<>();
+
+    /**
+     * Allows bursts of {@link #requests} requests and refills at {@code requests} per {@link #period}.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private long requests = 10;
+        private Duration period = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit extends Limit {
+        /** HTTP method, or every method when unset. */
+        private String method;
+        /** Path pattern as mapped by the controller, e.g. {@code /api/v1/employee/{id}}. */
+        private String path;
+    }
+}
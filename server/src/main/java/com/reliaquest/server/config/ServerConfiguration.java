@@ -1,59 +1,150 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.FileMockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionFilter;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RateLimitConfig rateLimitConfig;
+
     @Bean
     public Faker faker() {
-        return new Faker(Locale.getDefault());
+        return new Faker(MockEmployeeGenerator.LOCALE);
+    }
+
+    /*
+     * Initial employees only; MockEmployeeStore indexes them and takes all later CRUD operations. With a fixture
+     * configured, the employees are read from it if it holds as many as configured, generated with the configured seed
+     * (with any seed if none is configured). Otherwise they are generated and written to it, replacing what it held.
+     */
+    @Bean
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.fixture:#{null}}") String fixture)
+            throws IOException {
+        final var fixturePath = fixture == null ? null : Path.of(fixture);
+        if (fixturePath != null && Files.exists(fixturePath)) {
+            final var generation = MockEmployeeFixture.readGeneration(fixturePath);
+            if (generation.isPresent()
+                    && generation.get().max() == maxEmployees
+                    && (seed == null || generation.get().seed() == seed)) {
+                final var start = System.nanoTime();
+                final var mockEmployees = MockEmployeeFixture.read(fixturePath);
+                log.info(
+                        "Loaded {} employees generated with seed {} from {} in {} ms",
+                        mockEmployees.size(),
+                        generation.get().seed(),
+                        fixturePath,
+                        millisSince(start));
+                return mockEmployees;
+            }
+            log.warn(
+                    "Regenerating {}, which holds {} rather than {} employees generated with seed {}",
+                    fixturePath,
+                    generation
+                            .map(held -> "%d employees generated with seed %d".formatted(held.max(), held.seed()))
+                            .orElse("employees of unknown origin"),
+                    maxEmployees,
+                    seed == null ? "any" : seed);
+        }
+
+        // Without a configured seed every start still gets new data, but the seed is logged to reproduce the run.
+        final var effectiveSeed = seed == null ? RandomGenerator.getDefault().nextLong() : seed;
+        final var start = System.nanoTime();
+        final var mockEmployees = new MockEmployeeGenerator(effectiveSeed).generate(maxEmployees);
+        log.info("Generated {} employees with seed {} in {} ms", maxEmployees, effectiveSeed, millisSince(start));
+        if (fixturePath != null) {
+            MockEmployeeFixture.write(
+                    fixturePath, mockEmployees, new MockEmployeeFixture.Generation(maxEmployees, effectiveSeed));
+            log.info("Wrote employees to {}", fixturePath);
+        }
+        return mockEmployees;
+    }
+
+    @Bean
+    public MockEmployeeJournal mockEmployeeJournal(PersistenceConfig persistenceConfig) {
+        return persistenceConfig.isEnabled()
+                ? new FileMockEmployeeJournal(persistenceConfig)
+                : MockEmployeeJournal.NONE;
+    }
+
+    /*
+     * With persistence enabled, the store is restored from disk and the generated employees are only used on the very
+     * first start.
+     */
+    @Bean
+    public MockEmployeeStore mockEmployeeStore(
+            MockEmployeeJournal mockEmployeeJournal, ObjectProvider<List<MockEmployee>> mockEmployees)
+            throws IOException {
+        return mockEmployeeJournal.open(mockEmployees::getObject);
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Lets clients negotiate Smile (binary JSON) via the Accept header; JSON stays the default.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /*
+     * A filter rather than an interceptor next to the request limit, as slow and partial bodies need the response
+     * wrapped; filters run before interceptors, so the request limit sees requests after their injected latency.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "mock.faults", name = "enabled", havingValue = "true")
+    public FaultInjectionFilter faultInjectionFilter(
+            FaultInjectionConfig faultInjectionConfig, ObjectMapper objectMapper) {
+        final var seed = faultInjectionConfig.getSeed();
+        return new FaultInjectionFilter(
+                faultInjectionConfig, objectMapper, seed == null ? RandomGenerator.getDefault().nextLong() : seed);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        switch (rateLimitConfig.getMode()) {
+            case RANDOM -> {
+                final var seed = rateLimitConfig.getSeed();
+                registry.addInterceptor(new RandomRequestLimitInterceptor(
+                        seed == null ? RandomGenerator.getDefault() : new SplittableRandom(seed)));
+            }
+            case TOKEN_BUCKET -> registry.addInterceptor(new TokenBucketRequestLimitInterceptor(rateLimitConfig));
+            case NONE -> log.info("Not limiting requests");
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 }
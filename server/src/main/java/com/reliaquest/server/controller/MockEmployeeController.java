@@ -1,11 +1,14 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeSortField;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,13 +28,69 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int MAX_BATCH_SIZE = 1_000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final Validator validator;
+
     @GetMapping()
     public Response<List<MockEmployee>> getEmployees() {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    /*
+     * Filtering and aggregation evaluated here, so clients need not download every employee to answer them.
+     */
+    @GetMapping("/search")
+    public Response<List<MockEmployee>> searchEmployees(
+            @RequestParam(value = "name", required = false) String nameContains,
+            @RequestParam(value = "minSalary", required = false) Integer minSalary,
+            @RequestParam(value = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return Response.handledWith(mockEmployeeService.search(nameContains, minSalary, maxSalary, limit));
+    }
+
+    @GetMapping("/top")
+    public Response<List<MockEmployee>> getTopEmployees(
+            @RequestParam(value = "by", defaultValue = "salary") String field,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return Response.handledWith(mockEmployeeService.top(EmployeeSortField.of(field), limit));
+    }
+
+    @GetMapping("/max")
+    public Response<Integer> getMax(@RequestParam(value = "by", defaultValue = "salary") String field) {
+        return Response.handledWith(mockEmployeeService.max(EmployeeSortField.of(field)).orElse(null));
+    }
+
+    /*
+     * Batches are validated as a whole before any item is applied, then applied as one change to listings and the
+     * journal. A batch is one request to the request limit, however many items it has.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        final var violations = violations(inputs);
+        if (violations != null) {
+            return rejected(violations);
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs).stream()
+                .map(BatchItemResult::applied)
+                .toList()));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult<Boolean>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        final var violations = violations(inputs);
+        if (violations != null) {
+            return rejected(violations);
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAll(inputs).stream()
+                .map(BatchItemResult::applied)
+                .toList()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
         return mockEmployeeService
@@ -48,4 +108,32 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * @return per input, its constraint violations, or {@code null} if every input is valid
+     */
+    private List<List<String>> violations(List<?> inputs) {
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "Batch of %d items exceeds the maximum of %d".formatted(inputs.size(), MAX_BATCH_SIZE));
+        }
+        final var violations = inputs.stream()
+                .map(input -> input == null
+                        ? List.of("must not be null")
+                        : validator.validate(input).stream()
+                                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                .sorted()
+                                .toList())
+                .toList();
+        return violations.stream().allMatch(List::isEmpty) ? null : violations;
+    }
+
+    private static <T> ResponseEntity<Response<List<BatchItemResult<T>>>> rejected(List<List<String>> violations) {
+        final var invalid = violations.stream().filter(errors -> !errors.isEmpty()).count();
+        return ResponseEntity.badRequest()
+                .body(new Response<>(
+                        violations.stream().map(BatchItemResult::<T>invalid).toList(),
+                        Response.Status.ERROR,
+                        "%d of %d items are invalid, none were applied".formatted(invalid, violations.size())));
+    }
 }
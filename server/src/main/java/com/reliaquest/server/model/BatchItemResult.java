@@ -0,0 +1,20 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch request, at the item's position in the batch. When any item is invalid, the invalid
+ * items carry their errors, the valid ones neither data nor errors, and none of them is applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult<T>(T data, List<String> errors) {
+
+    public static <T> BatchItemResult<T> applied(T data) {
+        return new BatchItemResult<>(data, null);
+    }
+
+    public static <T> BatchItemResult<T> invalid(List<String> errors) {
+        return new BatchItemResult<>(null, errors.isEmpty() ? null : errors);
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.server.model;
+
+import java.util.Locale;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Numeric employee fields that queries can rank and aggregate by.
+ */
+public enum EmployeeSortField {
+    SALARY(MockEmployee::getSalary),
+    AGE(MockEmployee::getAge);
+
+    @Getter
+    private final Function<MockEmployee, Integer> extractor;
+
+    EmployeeSortField(Function<MockEmployee, Integer> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code name} does not name a field, ignoring case
+     */
+    public static EmployeeSortField of(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,544 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.config.MockEmployeeFixture;
+import com.reliaquest.server.config.PersistenceConfig;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of creates and deletes, kept in numbered segment files next to compacted snapshots of the whole
+ * store.
+ *
+ * <p>Appends are queued and written by a single thread, which takes everything queued since its last write and writes
+ * it with one gathering write and, depending on the {@link FsyncPolicy}, one fsync: concurrent writers share the cost
+ * of a commit. Each record is framed by its length and a CRC32C, so a record torn by a crash is recognized and ignored;
+ * the changes of a batch share one record, so a crash keeps all or none of them.
+ *
+ * <p>Every {@code snapshot-every} records the writer moves on to a new segment and the store is snapshotted in the
+ * background. A snapshot taken after segment {@code n} was closed may lack changes of records in segment {@code n}
+ * that were journaled but not yet applied, so it is named after {@code n} and recovery replays segments from {@code n}
+ * on; replaying is idempotent, as creates of known IDs and deletes of unknown ones are skipped. Older segments and
+ * snapshots are deleted once a newer snapshot is on disk, so a restart reads one snapshot and replays at most about
+ * two snapshot intervals of records, from memory-mapped segments, however long the history.
+ */
+@Slf4j
+public class FileMockEmployeeJournal implements MockEmployeeJournal, Closeable {
+
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+    private static final byte BATCH = 3;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int MAX_BATCH = 1_024;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final Pattern SEGMENT = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.bin");
+
+    private final PersistenceConfig config;
+    private final Path directory;
+    private final BlockingQueue<Append> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "journal-snapshotter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Thread writer = new Thread(this::writeLoop, "journal-writer");
+
+    private final SegmentOpener segmentOpener;
+
+    private volatile boolean closed;
+    /** Set once a failed write could not be taken back; the journal accepts no more changes from then on. */
+    private volatile IOException failure;
+
+    // Owned by the writer thread once the journal is open.
+    private MockEmployeeStore store;
+    private FileChannel segment;
+    private long segmentNumber;
+    /** End of the last record written successfully to the current segment. */
+    private long committedPosition;
+    private long recordsSinceSnapshot;
+    private boolean unforced;
+    private long lastForceNanos = System.nanoTime();
+
+    public FileMockEmployeeJournal(PersistenceConfig config) {
+        this(config, path -> FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    FileMockEmployeeJournal(PersistenceConfig config, SegmentOpener segmentOpener) {
+        this.config = config;
+        this.directory = config.getDirectory();
+        this.segmentOpener = segmentOpener;
+    }
+
+    @Override
+    public MockEmployeeStore open(Supplier<List<MockEmployee>> seed) throws IOException {
+        Files.createDirectories(directory);
+        final var start = System.nanoTime();
+        final var snapshots = numbers(SNAPSHOT);
+        final var segments = numbers(SEGMENT);
+
+        final long base;
+        if (snapshots.isEmpty()) {
+            store = new MockEmployeeStore(segments.isEmpty() ? seed.get() : List.of());
+            base = 0;
+        } else {
+            base = snapshots.get(snapshots.size() - 1);
+            store = new MockEmployeeStore(MockEmployeeFixture.read(snapshotPath(base)));
+        }
+        for (final var number : segments) {
+            if (number >= base) {
+                recordsSinceSnapshot += replay(segmentPath(number));
+            }
+        }
+        segmentNumber = segments.isEmpty() ? base + 1 : Math.max(base, segments.get(segments.size() - 1)) + 1;
+        if (snapshots.isEmpty()) {
+            // Nothing on disk stands for the seed or the replayed segments yet.
+            writeSnapshot(segmentNumber);
+            recordsSinceSnapshot = 0;
+        }
+        segment = segmentOpener.open(segmentPath(segmentNumber));
+        log.info(
+                "Restored {} employees from {} in {} ms, replaying {} journal records",
+                store.size(),
+                directory,
+                (System.nanoTime() - start) / 1_000_000,
+                recordsSinceSnapshot);
+
+        writer.setDaemon(true);
+        writer.start();
+        return store;
+    }
+
+    @Override
+    public CompletableFuture<Void> created(MockEmployee mockEmployee) {
+        return append(new Created(mockEmployee));
+    }
+
+    @Override
+    public CompletableFuture<Void> createdAll(List<MockEmployee> mockEmployees) {
+        return appendAll(mockEmployees.stream().map(Created::new).toList());
+    }
+
+    @Override
+    public CompletableFuture<Void> deleted(UUID id) {
+        return append(new Deleted(id));
+    }
+
+    @Override
+    public CompletableFuture<Void> deletedAll(List<UUID> ids) {
+        return appendAll(ids.stream().map(Deleted::new).toList());
+    }
+
+    /**
+     * Writes out everything appended so far, then stops the writer and waits for a running snapshot to finish.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writer.join();
+            snapshotter.shutdown();
+            snapshotter.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Appends that raced with closing arrived after the writer's last look at the queue.
+        final var closedException = new IllegalStateException("Journal is closed");
+        pending.forEach(append -> append.durable().completeExceptionally(closedException));
+        if (segment != null && segment.isOpen()) {
+            segment.force(false);
+            segment.close();
+        }
+    }
+
+    private CompletableFuture<Void> append(Entry entry) {
+        final var record = record(entry.size());
+        entry.put(record);
+        return append(record);
+    }
+
+    /**
+     * Appends the entries as a single record, which a crash either keeps or tears as a whole.
+     */
+    private CompletableFuture<Void> appendAll(List<? extends Entry> entries) {
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (entries.size() == 1) {
+            return append(entries.get(0));
+        }
+        final var record = record(1 + Integer.BYTES + entries.stream().mapToInt(Entry::size).sum());
+        record.put(BATCH).putInt(entries.size());
+        entries.forEach(entry -> entry.put(record));
+        return append(record);
+    }
+
+    private CompletableFuture<Void> append(ByteBuffer record) {
+        final var frame = record.flip();
+        final var crc = new CRC32C();
+        crc.update(frame.duplicate().position(HEADER_SIZE));
+        frame.putInt(0, frame.limit() - HEADER_SIZE).putInt(Integer.BYTES, (int) crc.getValue());
+
+        final var append = new Append(frame, new CompletableFuture<>());
+        if (closed) {
+            append.durable().completeExceptionally(new IllegalStateException("Journal is closed"));
+        } else if (failure != null) {
+            append.durable().completeExceptionally(failure);
+        } else {
+            pending.add(append);
+        }
+        return append.durable();
+    }
+
+    private void writeLoop() {
+        final var batch = new ArrayList<Append>(MAX_BATCH);
+        while (!closed || !pending.isEmpty()) {
+            try {
+                final var first = pending.poll(config.getFsyncInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch, MAX_BATCH - 1);
+                    if (failure == null) {
+                        commit(batch);
+                    } else {
+                        batch.forEach(append -> append.durable().completeExceptionally(failure));
+                    }
+                }
+                if (config.getFsync() == FsyncPolicy.INTERVAL) {
+                    forceIfDue();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.error("Failed to force or roll journal segment {}", segmentNumber, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<Append> batch) throws IOException {
+        try {
+            final var frames = batch.stream().map(Append::frame).toArray(ByteBuffer[]::new);
+            var remaining = 0L;
+            for (final var frame : frames) {
+                remaining += frame.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= segment.write(frames);
+            }
+            unforced = true;
+            if (config.getFsync() == FsyncPolicy.ALWAYS) {
+                force();
+            }
+            committedPosition = segment.position();
+        } catch (IOException e) {
+            log.error("Failed to write journal segment {}", segmentNumber, e);
+            batch.forEach(append -> append.durable().completeExceptionally(e));
+            discardFailedWrite(e);
+            return;
+        }
+        batch.forEach(append -> append.durable().complete(null));
+
+        recordsSinceSnapshot += batch.size();
+        if (recordsSinceSnapshot >= config.getSnapshotEvery()) {
+            rollSegment();
+        }
+    }
+
+    /**
+     * Takes back a write that failed, possibly part way, so that no later record ends up behind a torn or
+     * unacknowledged one, where replay would never reach it: truncates the segment to the last commit, or failing that
+     * moves on to a new segment, or failing that stops accepting changes.
+     */
+    private void discardFailedWrite(IOException cause) {
+        try {
+            segment.truncate(committedPosition);
+            segment.position(committedPosition);
+            return;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        try {
+            // Replay ignores the torn end of the abandoned segment and carries on with the next one.
+            segment = segmentOpener.open(segmentPath(segmentNumber + 1));
+            segmentNumber++;
+            committedPosition = 0;
+            return;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        failure = cause;
+        log.error("Journal segment {} cannot be written to, rejecting all further changes", segmentNumber, cause);
+    }
+
+    private void forceIfDue() throws IOException {
+        if (unforced && System.nanoTime() - lastForceNanos >= config.getFsyncInterval().toNanos()) {
+            force();
+        }
+    }
+
+    private void force() throws IOException {
+        segment.force(false);
+        unforced = false;
+        lastForceNanos = System.nanoTime();
+    }
+
+    private void rollSegment() throws IOException {
+        force();
+        segment.close();
+        final var closedSegment = segmentNumber;
+        segmentNumber++;
+        segment = segmentOpener.open(segmentPath(segmentNumber));
+        committedPosition = 0;
+        recordsSinceSnapshot = 0;
+        snapshotter.execute(() -> {
+            try {
+                writeSnapshot(closedSegment);
+            } catch (IOException e) {
+                log.error("Failed to snapshot employees after journal segment {}", closedSegment, e);
+            }
+        });
+    }
+
+    /**
+     * Writes a snapshot that recovery replays segments {@code base} and later on top of, then deletes what it replaces.
+     */
+    private void writeSnapshot(long base) throws IOException {
+        final var start = System.nanoTime();
+        final var snapshot = store.snapshot();
+        MockEmployeeFixture.write(snapshotPath(base), snapshot.employees());
+        for (final var number : numbers(SNAPSHOT)) {
+            if (number < base) {
+                Files.deleteIfExists(snapshotPath(number));
+            }
+        }
+        for (final var number : numbers(SEGMENT)) {
+            if (number < base) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+        log.info(
+                "Snapshotted {} employees before journal segment {} in {} ms",
+                snapshot.employees().size(),
+                base,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies the records of a segment to the store, stopping at the first one that is incomplete or corrupt.
+     *
+     * @return the number of records applied
+     */
+    private long replay(Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var crc = new CRC32C();
+            var records = 0L;
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final var offset = buffer.position();
+                final var length = buffer.getInt();
+                final var checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    buffer.position(offset);
+                    break;
+                }
+                final var payload = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    buffer.position(offset);
+                    break;
+                }
+                apply(payload);
+                buffer.position(buffer.position() + length);
+                records++;
+            }
+            if (buffer.hasRemaining()) {
+                log.warn("Ignoring {} bytes of torn journal records at the end of {}", buffer.remaining(), path);
+            }
+            return records;
+        }
+    }
+
+    private void apply(ByteBuffer payload) {
+        final var type = payload.get();
+        if (type != BATCH) {
+            apply(type, payload);
+            return;
+        }
+        for (var entries = payload.getInt(); entries > 0; entries--) {
+            apply(payload.get(), payload);
+        }
+    }
+
+    private void apply(byte type, ByteBuffer payload) {
+        final var id = new UUID(payload.getLong(), payload.getLong());
+        if (type == DELETED) {
+            store.removeById(id);
+            return;
+        }
+        final var name = string(payload);
+        final var salary = payload.getInt();
+        final var age = payload.getInt();
+        final var title = string(payload);
+        final var email = string(payload);
+        if (store.findById(id).isEmpty()) {
+            store.add(MockEmployee.builder()
+                    .id(id)
+                    .name(name)
+                    .salary(salary == NO_VALUE ? null : salary)
+                    .age(age == NO_VALUE ? null : age)
+                    .title(title)
+                    .email(email)
+                    .build());
+        }
+    }
+
+    private List<Long> numbers(Pattern pattern) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve("journal-%016d.log".formatted(number));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve("snapshot-%016d.bin".formatted(number));
+    }
+
+    /**
+     * @return a buffer for a record with the given payload size, positioned after room for its header
+     */
+    private static ByteBuffer record(int payloadSize) {
+        return ByteBuffer.allocate(HEADER_SIZE + payloadSize).position(HEADER_SIZE);
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void put(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String string(ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Append(ByteBuffer frame, CompletableFuture<Void> durable) {}
+
+    /**
+     * Opens a new segment file for writing.
+     */
+    @FunctionalInterface
+    interface SegmentOpener {
+        FileChannel open(Path path) throws IOException;
+    }
+
+    /**
+     * A create or delete as written to the journal, either as a record of its own or as part of a batch record.
+     */
+    private interface Entry {
+
+        /** @return the number of bytes {@link #put} writes, including the type */
+        int size();
+
+        void put(ByteBuffer record);
+    }
+
+    private record Created(MockEmployee mockEmployee, byte[] name, byte[] title, byte[] email) implements Entry {
+
+        private Created(MockEmployee mockEmployee) {
+            this(
+                    mockEmployee,
+                    bytes(mockEmployee.getName()),
+                    bytes(mockEmployee.getTitle()),
+                    bytes(mockEmployee.getEmail()));
+        }
+
+        @Override
+        public int size() {
+            return 1 + 2 * Long.BYTES + 5 * Integer.BYTES + length(name) + length(title) + length(email);
+        }
+
+        @Override
+        public void put(ByteBuffer record) {
+            record.put(CREATED);
+            record.putLong(mockEmployee.getId().getMostSignificantBits());
+            record.putLong(mockEmployee.getId().getLeastSignificantBits());
+            FileMockEmployeeJournal.put(record, name);
+            record.putInt(mockEmployee.getSalary() == null ? NO_VALUE : mockEmployee.getSalary());
+            record.putInt(mockEmployee.getAge() == null ? NO_VALUE : mockEmployee.getAge());
+            FileMockEmployeeJournal.put(record, title);
+            FileMockEmployeeJournal.put(record, email);
+        }
+    }
+
+    private record Deleted(UUID id) implements Entry {
+
+        @Override
+        public int size() {
+            return 1 + 2 * Long.BYTES;
+        }
+
+        @Override
+        public void put(ByteBuffer record) {
+            record.put(DELETED);
+            record.putLong(id.getMostSignificantBits());
+            record.putLong(id.getLeastSignificantBits());
+        }
+    }
+}
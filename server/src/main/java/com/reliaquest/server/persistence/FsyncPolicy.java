@@ -0,0 +1,13 @@
+package com.reliaquest.server.persistence;
+
+/**
+ * When the journal forces written records to disk, trading write latency for what a power loss can take with it.
+ */
+public enum FsyncPolicy {
+    /** Forces every group commit before acknowledging it; acknowledged writes survive a power loss. */
+    ALWAYS,
+    /** Acknowledges once written and forces at most every {@code fsync-interval}; a crash can lose that much. */
+    INTERVAL,
+    /** Leaves flushing to the operating system; survives a crash of the server, not of the machine. */
+    NEVER
+}
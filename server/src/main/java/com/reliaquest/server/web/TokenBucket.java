@@ -0,0 +1,49 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept in a single {@link AtomicLong}: the time at which the bucket is full again, as in the
+ * generic cell rate algorithm. Taking a token moves that time on by one refill interval, unless that would put it more
+ * than a full bucket's worth of intervals ahead of now. Contending requests retry a compare-and-set rather than queue
+ * on a lock, and no request is ever admitted beyond the bucket's capacity.
+ */
+final class TokenBucket {
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final AtomicLong fullAtNanos;
+
+    /**
+     * @param capacity the number of requests allowed in a burst
+     * @param period the time in which a drained bucket refills completely
+     */
+    TokenBucket(long capacity, Duration period, long nowNanos) {
+        if (capacity <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limits need positive requests and period");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    RequestLimitInterceptor.Decision tryAcquire(long nowNanos) {
+        final var burstNanos = capacity * intervalNanos;
+        while (true) {
+            final var fullAt = fullAtNanos.get();
+            // A bucket that filled up in the past is simply full now.
+            final var from = fullAt - nowNanos > 0 ? fullAt : nowNanos;
+            final var next = from + intervalNanos;
+            final var untilFull = next - nowNanos;
+            if (untilFull > burstNanos) {
+                return RequestLimitInterceptor.Decision.rejected(
+                        capacity, Duration.ofNanos(from - nowNanos), Duration.ofNanos(untilFull - burstNanos));
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return RequestLimitInterceptor.Decision.allowed(
+                        capacity, (burstNanos - untilFull) / intervalNanos, Duration.ofNanos(untilFull));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.server.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.server.config.RateLimitConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Keeps a {@link TokenBucket} per client and route: one per configured route, and one for all other routes. Buckets
+ * are created on a client's first request and dropped once unused for the longest configured period, by which time
+ * they are full again and no different from a new one. At most {@value #MAX_BUCKETS} are kept; past that the least
+ * recently used go first, which at worst hands a long idle client a full bucket a little early.
+ */
+public class TokenBucketRequestLimitInterceptor extends RequestLimitInterceptor {
+
+    static final int MAX_BUCKETS = 10_000;
+
+    private final RateLimitConfig config;
+    private final LongSupplier nanoClock;
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public TokenBucketRequestLimitInterceptor(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    TokenBucketRequestLimitInterceptor(RateLimitConfig config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(MAX_BUCKETS)
+                .expireAfterAccess(longestPeriod(config))
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    @Override
+    protected Decision acquire(HttpServletRequest request) {
+        final var now = nanoClock.getAsLong();
+        final var clientKey = clientKey(request);
+        final var route = route(request);
+        final var limit = config.getClients().getOrDefault(clientKey, route == null ? config.getDefaults() : route);
+        return buckets.get(
+                        new BucketKey(clientKey, route),
+                        key -> new TokenBucket(limit.getRequests(), limit.getPeriod(), now))
+                .tryAcquire(now);
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        final var header = request.getHeader(config.getClientKeyHeader());
+        return header == null || header.isBlank() ? request.getRemoteAddr() : header;
+    }
+
+    /**
+     * @return the configured route the request was mapped to, or {@code null} if it is not one
+     */
+    private RateLimitConfig.RouteLimit route(HttpServletRequest request) {
+        final var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        for (final var route : config.getRoutes()) {
+            if (Objects.equals(route.getPath(), pattern)
+                    && (route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static Duration longestPeriod(RateLimitConfig config) {
+        return Stream.concat(
+                        Stream.of(config.getDefaults()),
+                        Stream.concat(config.getClients().values().stream(), config.getRoutes().stream()))
+                .map(RateLimitConfig.Limit::getPeriod)
+                .max(Duration::compareTo)
+                .orElseThrow();
+    }
+
+    /**
+     * @param route the configured route, or {@code null} for all other routes
+     */
+    private record BucketKey(String clientKey, RateLimitConfig.RouteLimit route) {}
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeFixtureTest {
+
+    private static final MockEmployee ALICE = MockEmployee.builder()
+            .id(UUID.randomUUID())
+            .name("Alice")
+            .salary(50_000)
+            .age(30)
+            .title("Engineer")
+            .email("alice@company.com")
+            .build();
+    private static final MockEmployee BOB = ALICE.toBuilder()
+            .id(UUID.randomUUID())
+            .name("Bob")
+            .email("bob@company.com")
+            .build();
+    private static final MockEmployee NOBODY =
+            MockEmployee.builder().id(UUID.randomUUID()).build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_ShouldRoundTripEmployeesAndMissingValues() throws IOException {
+        final var fixture = directory.resolve("employees.bin");
+        final var generation = new MockEmployeeFixture.Generation(3, 42);
+
+        MockEmployeeFixture.write(fixture, List.of(ALICE, NOBODY, BOB), generation);
+
+        assertEquals(List.of(ALICE, NOBODY, BOB), MockEmployeeFixture.read(fixture));
+        assertEquals(Optional.of(generation), MockEmployeeFixture.readGeneration(fixture));
+    }
+
+    @Test
+    void write_ShouldRoundTripEmployeesThatWereNotGenerated() throws IOException {
+        final var fixture = directory.resolve("nested/employees.bin");
+
+        MockEmployeeFixture.write(fixture, List.of(NOBODY));
+
+        assertEquals(List.of(NOBODY), MockEmployeeFixture.read(fixture));
+        assertEquals(Optional.empty(), MockEmployeeFixture.readGeneration(fixture));
+    }
+
+    @Test
+    void read_ShouldAcceptFormatVersionWithoutGeneration() throws IOException {
+        final var fixture = directory.resolve("employees.bin");
+        try (final var out = new DataOutputStream(Files.newOutputStream(fixture))) {
+            out.writeInt(0x4D454D50);
+            out.writeInt(1);
+            out.writeInt(1);
+            out.writeInt(0);
+            out.writeLong(NOBODY.getId().getMostSignificantBits());
+            out.writeLong(NOBODY.getId().getLeastSignificantBits());
+            out.writeBoolean(false);
+            out.writeInt(Integer.MIN_VALUE);
+            out.writeInt(Integer.MIN_VALUE);
+            out.writeInt(Integer.MIN_VALUE);
+            out.writeBoolean(false);
+        }
+
+        assertEquals(List.of(NOBODY), MockEmployeeFixture.read(fixture));
+        assertEquals(Optional.empty(), MockEmployeeFixture.readGeneration(fixture));
+    }
+
+    @Test
+    void read_ShouldRejectOtherFiles() throws IOException {
+        final var fixture = directory.resolve("employees.bin");
+        Files.writeString(fixture, "name,salary\n");
+
+        assertThrows(IOException.class, () -> MockEmployeeFixture.read(fixture));
+        assertThrows(IOException.class, () -> MockEmployeeFixture.readGeneration(fixture));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    /** Spans three chunks, the last of them partial. */
+    private static final int COUNT = 25_000;
+
+    @Test
+    void generate_ShouldYieldSameEmployeesForSeedHoweverManyThreadsDoTheWork()
+            throws ExecutionException, InterruptedException {
+        final var expected = new MockEmployeeGenerator(42).generate(COUNT);
+
+        assertEquals(COUNT, expected.size());
+        assertEquals(expected, generateIn(new ForkJoinPool(1), 42));
+        assertEquals(expected, generateIn(new ForkJoinPool(4), 42));
+    }
+
+    @Test
+    void generate_ShouldYieldOtherEmployeesForOtherSeed() {
+        assertNotEquals(new MockEmployeeGenerator(42).generate(10), new MockEmployeeGenerator(43).generate(10));
+    }
+
+    @Test
+    void generate_ShouldNotDependOnDefaultLocale() {
+        final var expected = new MockEmployeeGenerator(42).generate(100);
+        final var defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.JAPAN);
+
+            assertEquals(expected, new MockEmployeeGenerator(42).generate(100));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Parallel streams run their tasks in the pool they are started from, so the pool decides how many threads work.
+     */
+    private static List<MockEmployee> generateIn(ForkJoinPool pool, long seed)
+            throws ExecutionException, InterruptedException {
+        try {
+            return pool.submit(() -> new MockEmployeeGenerator(seed).generate(COUNT)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private static final MockEmployee ALICE_SMITH = employee("Alice Smith", 50_000, 30);
+    private static final MockEmployee ALICE_JONES = employee("alice jones", 70_000, 40);
+    private static final MockEmployee BOB = employee("Bob", 70_000, 25);
+    private static final MockEmployee CAROL = employee("Carol", null, null);
+    private static final MockEmployee NAMELESS = employee(null, 90_000, 50);
+    private static final MockEmployee DAVE = employee("Dave", 30_000, 60);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockEmployeeService mockEmployeeService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        setUp(List.of(ALICE_SMITH, ALICE_JONES, BOB, CAROL, NAMELESS, DAVE));
+    }
+
+    private void setUp(List<MockEmployee> mockEmployees) {
+        mockEmployeeService =
+                new MockEmployeeService(new Faker(), new MockEmployeeStore(mockEmployees), MockEmployeeJournal.NONE);
+        final var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(mockEmployeeService, validator))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void search_ShouldMatchNamesIgnoringCase() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "ALICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_name", containsInAnyOrder("Alice Smith", "alice jones")));
+
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "carol"))
+                .andExpect(jsonPath("$.data[*].employee_name", contains("Carol")));
+    }
+
+    @Test
+    void search_ShouldStopAtLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "alice").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/employee/search").param("limit", "0"))
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    void search_ShouldIncludeSalaryBoundsAndSortBySalary() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("minSalary", "50000").param("maxSalary", "70000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_salary", contains(50_000, 70_000, 70_000)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Alice Smith"));
+    }
+
+    @Test
+    void search_ShouldSkipEmployeesWithoutSalaryOrNameWhenFilteringOnThem() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("minSalary", "0"))
+                .andExpect(jsonPath("$.data[*].employee_salary", contains(30_000, 50_000, 70_000, 70_000, 90_000)));
+
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "o").param("minSalary", "60000"))
+                .andExpect(jsonPath("$.data[*].employee_name", containsInAnyOrder("alice jones", "Bob")));
+    }
+
+    @Test
+    void search_ShouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("minSalary", "70000").param("maxSalary", "50000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Failed to process request."));
+        mockMvc.perform(get("/api/v1/employee/search").param("limit", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/search").param("minSalary", "lots"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void top_ShouldReturnHighestFirstIncludingTies() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/top").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_salary", contains(90_000, 70_000, 70_000)));
+
+        mockMvc.perform(get("/api/v1/employee/top").param("by", "age").param("limit", "2"))
+                .andExpect(jsonPath("$.data[*].employee_age", contains(60, 50)));
+    }
+
+    @Test
+    void top_ShouldLeaveOutEmployeesWithoutValue() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/top").param("limit", "100"))
+                .andExpect(jsonPath("$.data", hasSize(5)));
+        mockMvc.perform(get("/api/v1/employee/top").param("limit", "0")).andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    void top_ShouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/top").param("by", "height")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/top").param("limit", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/top").param("limit", "ten")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void max_ShouldFollowWrites() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/max")).andExpect(jsonPath("$.data").value(90_000));
+        mockMvc.perform(get("/api/v1/employee/max").param("by", "AGE")).andExpect(jsonPath("$.data").value(60));
+
+        final var dave = new DeleteMockEmployeeInput();
+        dave.setName("Dave");
+        mockEmployeeService.delete(dave);
+
+        mockMvc.perform(get("/api/v1/employee/max").param("by", "age")).andExpect(jsonPath("$.data").value(50));
+    }
+
+    @Test
+    void max_ShouldBeEmptyWithoutValues() throws Exception {
+        setUp(List.of(CAROL));
+
+        mockMvc.perform(get("/api/v1/employee/max"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void max_ShouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/max").param("by", "height"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void createEmployees_ShouldReturnEachCreatedEmployeeInOrder() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(List.of(input("Erin"), input("Frank")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].data.employee_name", contains("Erin", "Frank")))
+                .andExpect(jsonPath("$.data[0].errors").doesNotExist());
+
+        assertEquals(8, mockEmployeeService.getMockEmployees().size());
+    }
+
+    @Test
+    void createEmployees_ShouldRejectWholeBatchWithErrorsPerItem() throws Exception {
+        final var invalid = input("Frank");
+        invalid.put("age", 12);
+        final var inputs = new ArrayList<Map<String, Object>>(List.of(input("Erin"), invalid));
+        inputs.add(null);
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(inputs)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("2 of 3 items are invalid, none were applied"))
+                .andExpect(jsonPath("$.data[0]").isEmpty())
+                .andExpect(jsonPath("$.data[1].errors", contains("age: must be greater than or equal to 16")))
+                .andExpect(jsonPath("$.data[2].errors", contains("must not be null")));
+
+        assertEquals(6, mockEmployeeService.getMockEmployees().size());
+    }
+
+    @Test
+    void createEmployees_ShouldCapBatchSize() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Collections.nCopies(1_001, input("Erin")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch of 1001 items exceeds the maximum of 1000"));
+        assertEquals(6, mockEmployeeService.getMockEmployees().size());
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Collections.nCopies(1_000, input("Erin")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1_000)));
+    }
+
+    @Test
+    void deleteEmployees_ShouldRemoveOneEmployeePerRepeatedName() throws Exception {
+        final var inputs = List.of(Map.of("name", "ALICE SMITH"), Map.of("name", "alice smith"), Map.of("name", "Bob"));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(inputs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].data", contains(true, false, true)));
+
+        assertEquals(4, mockEmployeeService.getMockEmployees().size());
+    }
+
+    @Test
+    void deleteEmployees_ShouldRejectWholeBatchWithBlankName() throws Exception {
+        final var inputs = List.of(Map.of("name", "Bob"), Map.of("name", " "));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(inputs)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("1 of 2 items are invalid, none were applied"))
+                .andExpect(jsonPath("$.data[1].errors", contains("name: must not be blank")));
+
+        assertEquals(6, mockEmployeeService.getMockEmployees().size());
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private static Map<String, Object> input(String name) {
+        final var input = new HashMap<String, Object>();
+        input.put("name", name);
+        input.put("salary", 60_000);
+        input.put("age", 30);
+        input.put("title", "Engineer");
+        return input;
+    }
+
+    private static MockEmployee employee(String name, Integer salary, Integer age) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,360 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.config.MockEmployeeFixture;
+import com.reliaquest.server.config.PersistenceConfig;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileMockEmployeeJournalTest {
+
+    private static final MockEmployee ALICE = employee("Alice");
+    private static final MockEmployee BOB = employee("Bob");
+    private static final MockEmployee CAROL = employee("Carol");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void open_ShouldRestoreSnapshotAndJournaledChanges() throws IOException {
+        final var config = config(3);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(() -> List.of(ALICE));
+            for (int i = 0; i < 10; i++) {
+                create(journal, store, employee("Employee " + i));
+            }
+            delete(journal, store, ALICE);
+            create(journal, store, BOB);
+        }
+
+        final var restored = reopen(config);
+
+        assertEquals(11, restored.size());
+        assertTrue(restored.contains(BOB));
+        assertTrue(!restored.contains(ALICE));
+        assertTrue(numbered(config, "snapshot-") > 0);
+    }
+
+    @Test
+    void open_ShouldIgnoreTornTail() throws IOException {
+        final var config = config(100);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            create(journal, store, BOB);
+        }
+        // The header of a record whose payload never made it to disk.
+        Files.write(lastSegment(config), new byte[] {0, 0, 0, 50, 1, 2}, StandardOpenOption.APPEND);
+
+        assertEquals(Set.of(ALICE, BOB), reopen(config));
+    }
+
+    @Test
+    void open_ShouldStopAtRecordWithBadChecksum() throws IOException {
+        final var config = config(100);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            create(journal, store, BOB);
+            create(journal, store, CAROL);
+        }
+        final var segment = lastSegment(config);
+        final var bytes = Files.readAllBytes(segment);
+        // The last byte belongs to the last record's email.
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(segment, bytes);
+
+        assertEquals(Set.of(ALICE, BOB), reopen(config));
+    }
+
+    @Test
+    void open_ShouldReplaySegmentOverSnapshotTakenPartWayThroughIt() throws IOException {
+        final var config = config(100);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            create(journal, store, BOB);
+            delete(journal, store, ALICE);
+        }
+        final var snapshot = config.getDirectory().resolve("snapshot-%016d.bin".formatted(1));
+
+        // Snapshots taken before, between and after the records of the segment all restore the same store.
+        final var snapshots = List.of(List.<MockEmployee>of(), List.of(ALICE), List.of(ALICE, BOB), List.of(BOB));
+        for (final var snapshotted : snapshots) {
+            MockEmployeeFixture.write(snapshot, snapshotted);
+
+            assertEquals(Set.of(BOB), reopen(config), "snapshot of " + snapshotted);
+        }
+    }
+
+    @Test
+    void createdAll_ShouldBeRestoredCompletelyOrNotAtAll() throws IOException {
+        final var config = config(100);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            journal.createdAll(List.of(BOB, CAROL)).join();
+            store.addAll(List.of(BOB, CAROL));
+        }
+        assertEquals(Set.of(ALICE, BOB, CAROL), reopen(config));
+
+        final var segment = segment(config, 1);
+        try (final var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 10);
+        }
+
+        assertEquals(Set.of(ALICE), reopen(config));
+    }
+
+    @Test
+    void deletedAll_ShouldBeRestored() throws IOException {
+        final var config = config(100);
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(() -> List.of(ALICE, BOB, CAROL));
+            store.removeAllByName(List.of("alice", "carol"));
+            journal.deletedAll(List.of(ALICE.getId(), CAROL.getId())).join();
+        }
+
+        assertEquals(Set.of(BOB), reopen(config));
+    }
+
+    @Test
+    void created_ShouldKeepLaterRecordsAfterFailedWrite() throws IOException {
+        final var config = config(100);
+        final var channels = new FailingChannels(2, false);
+        try (final var journal = new FileMockEmployeeJournal(config, channels::open)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            assertThrows(CompletionException.class, () -> journal.created(BOB).join());
+            create(journal, store, CAROL);
+        }
+
+        assertEquals(Set.of(ALICE, CAROL), reopen(config));
+    }
+
+    @Test
+    void created_ShouldMoveToNewSegmentIfFailedWriteCannotBeTruncated() throws IOException {
+        final var config = config(100);
+        final var channels = new FailingChannels(2, true);
+        try (final var journal = new FileMockEmployeeJournal(config, channels::open)) {
+            final var store = journal.open(List::of);
+            create(journal, store, ALICE);
+            assertThrows(CompletionException.class, () -> journal.created(BOB).join());
+            create(journal, store, CAROL);
+        }
+
+        assertEquals(Set.of(ALICE, CAROL), reopen(config));
+        assertEquals(2, channels.opened.get());
+    }
+
+    private PersistenceConfig config(long snapshotEvery) {
+        final var config = new PersistenceConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory);
+        config.setFsync(FsyncPolicy.ALWAYS);
+        config.setSnapshotEvery(snapshotEvery);
+        return config;
+    }
+
+    private static void create(FileMockEmployeeJournal journal, MockEmployeeStore store, MockEmployee mockEmployee) {
+        journal.created(mockEmployee).join();
+        store.add(mockEmployee);
+    }
+
+    private static void delete(FileMockEmployeeJournal journal, MockEmployeeStore store, MockEmployee mockEmployee) {
+        store.removeById(mockEmployee.getId());
+        journal.deleted(mockEmployee.getId()).join();
+    }
+
+    private static Set<MockEmployee> reopen(PersistenceConfig config) throws IOException {
+        try (final var journal = new FileMockEmployeeJournal(config)) {
+            final var store = journal.open(() -> {
+                throw new AssertionError("Restored store must not be seeded");
+            });
+            final var employees = new HashSet<>(store.findAll());
+            assertEquals(store.size(), employees.size(), "employees restored more than once");
+            return employees;
+        }
+    }
+
+    private static Path segment(PersistenceConfig config, long number) {
+        return config.getDirectory().resolve("journal-%016d.log".formatted(number));
+    }
+
+    /**
+     * @return the newest segment that has records, as the newest one is created empty on every open
+     */
+    private static Path lastSegment(PersistenceConfig config) throws IOException {
+        try (final var files = Files.list(config.getDirectory())) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-"))
+                    .filter(file -> file.toFile().length() > 0)
+                    .max(Path::compareTo)
+                    .orElseThrow();
+        }
+    }
+
+    private static long numbered(PersistenceConfig config, String prefix) throws IOException {
+        try (final var files = Files.list(config.getDirectory())) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .count();
+        }
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(name.length() * 1_000)
+                .age(30)
+                .title(name.startsWith("B") ? null : "Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    /**
+     * Opens segments whose {@code failingWrite}-th write writes half a record and fails, and optionally cannot be
+     * truncated afterwards.
+     */
+    private static final class FailingChannels {
+
+        private final int failingWrite;
+        private final boolean failTruncate;
+        private final AtomicInteger opened = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        private FailingChannels(int failingWrite, boolean failTruncate) {
+            this.failingWrite = failingWrite;
+            this.failTruncate = failTruncate;
+        }
+
+        private FileChannel open(Path path) throws IOException {
+            opened.incrementAndGet();
+            return new FailingChannel(FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        }
+
+        private final class FailingChannel extends FileChannel {
+
+            private final FileChannel delegate;
+
+            private FailingChannel(FileChannel delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+                if (writes.incrementAndGet() == failingWrite) {
+                    final var source = sources[offset];
+                    delegate.write(source.slice(source.position(), source.remaining() / 2));
+                    throw new IOException("Disk full");
+                }
+                return delegate.write(sources, offset, length);
+            }
+
+            @Override
+            public FileChannel truncate(long size) throws IOException {
+                if (failTruncate) {
+                    throw new IOException("Read-only file system");
+                }
+                delegate.truncate(size);
+                return this;
+            }
+
+            @Override
+            public int write(ByteBuffer source) throws IOException {
+                return delegate.write(source);
+            }
+
+            @Override
+            public int read(ByteBuffer destination) throws IOException {
+                return delegate.read(destination);
+            }
+
+            @Override
+            public long read(ByteBuffer[] destinations, int offset, int length) throws IOException {
+                return delegate.read(destinations, offset, length);
+            }
+
+            @Override
+            public long position() throws IOException {
+                return delegate.position();
+            }
+
+            @Override
+            public FileChannel position(long newPosition) throws IOException {
+                delegate.position(newPosition);
+                return this;
+            }
+
+            @Override
+            public long size() throws IOException {
+                return delegate.size();
+            }
+
+            @Override
+            public void force(boolean metaData) throws IOException {
+                delegate.force(metaData);
+            }
+
+            @Override
+            public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+                return delegate.transferTo(position, count, target);
+            }
+
+            @Override
+            public long transferFrom(ReadableByteChannel source, long position, long count) throws IOException {
+                return delegate.transferFrom(source, position, count);
+            }
+
+            @Override
+            public int read(ByteBuffer destination, long position) throws IOException {
+                return delegate.read(destination, position);
+            }
+
+            @Override
+            public int write(ByteBuffer source, long position) throws IOException {
+                return delegate.write(source, position);
+            }
+
+            @Override
+            public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+                return delegate.map(mode, position, size);
+            }
+
+            @Override
+            public FileLock lock(long position, long size, boolean shared) throws IOException {
+                return delegate.lock(position, size, shared);
+            }
+
+            @Override
+            public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+                return delegate.tryLock(position, size, shared);
+            }
+
+            @Override
+            protected void implCloseChannel() throws IOException {
+                delegate.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.config.PersistenceConfig;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures journaled creates per second under each {@link FsyncPolicy}, with concurrent writers sharing group commits.
+ *
+ * <p>Usage: {@code ./gradlew server:journalBenchmark --args="[writers] [creates per writer]"}
+ */
+public final class JournalBenchmark {
+
+    private JournalBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        final var writers = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        final var createsPerWriter = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        System.out.printf("%-10s %12s %14s%n", "fsync", "creates/s", "avg create us");
+        for (final var policy : FsyncPolicy.values()) {
+            final var config = new PersistenceConfig();
+            config.setEnabled(true);
+            config.setDirectory(Files.createTempDirectory("journal-benchmark-"));
+            config.setFsync(policy);
+
+            final var executor = Executors.newFixedThreadPool(writers);
+            try (final var journal = new FileMockEmployeeJournal(config)) {
+                final var store = journal.open(List::of);
+                final var start = System.nanoTime();
+                final var done = new ArrayList<CompletableFuture<Void>>();
+                for (int w = 0; w < writers; w++) {
+                    done.add(CompletableFuture.runAsync(
+                            () -> {
+                                for (int i = 0; i < createsPerWriter; i++) {
+                                    final var mockEmployee = employee(i);
+                                    journal.created(mockEmployee).join();
+                                    store.add(mockEmployee);
+                                }
+                            },
+                            executor));
+                }
+                CompletableFuture.allOf(done.toArray(CompletableFuture[]::new)).join();
+                final var elapsedNanos = System.nanoTime() - start;
+                final var creates = (long) writers * createsPerWriter;
+                System.out.printf(
+                        "%-10s %12.0f %14.1f%n",
+                        policy,
+                        creates * 1e9 / elapsedNanos,
+                        elapsedNanos / 1e3 / createsPerWriter);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static MockEmployee employee(int i) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark Employee " + i)
+                .salary(50_000 + i)
+                .age(30)
+                .title("Load Tester")
+                .email("benchmark" + i + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final MockEmployee ALICE = employee("Alice");
+    private static final MockEmployee OTHER_ALICE = employee("alice");
+    private static final MockEmployee BOB = employee("Bob");
+
+    private MockEmployeeJournal journal;
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        journal = mock(MockEmployeeJournal.class);
+        when(journal.createdAll(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        when(journal.deletedAll(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+        store = new MockEmployeeStore(List.of(ALICE, OTHER_ALICE, BOB));
+        service = new MockEmployeeService(new Faker(), store, journal);
+    }
+
+    @Test
+    void createAll_ShouldJournalBatchOnceAndReturnEmployeesInOrder() {
+        final var created = service.createAll(List.of(input("Carol"), input("Dave"), input("Carol")));
+
+        assertEquals(List.of("Carol", "Dave", "Carol"), created.stream().map(MockEmployee::getName).toList());
+        assertEquals(3, new HashSet<>(created.stream().map(MockEmployee::getId).toList()).size());
+        verify(journal).createdAll(created);
+        assertTrue(store.findAll().containsAll(created));
+    }
+
+    @Test
+    void createAll_ShouldAddNothingIfBatchCannotBeJournaled() {
+        when(journal.createdAll(anyList())).thenReturn(CompletableFuture.failedFuture(new IOException("Disk full")));
+
+        assertThrows(CompletionException.class, () -> service.createAll(List.of(input("Carol"), input("Dave"))));
+
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void createAll_ShouldSkipEmptyBatch() {
+        assertEquals(List.of(), service.createAll(List.of()));
+
+        verify(journal, never()).createdAll(any());
+    }
+
+    @Test
+    void deleteAll_ShouldReportEachItemAndRemoveOneEmployeePerRepeatedName() {
+        final var deleted =
+                service.deleteAll(List.of(delete("ALICE"), delete("Carol"), delete("alice"), delete("Alice")));
+
+        assertEquals(List.of(true, false, true, false), deleted);
+        assertEquals(List.of(BOB), store.findAll());
+        verify(journal).deletedAll(List.of(ALICE.getId(), OTHER_ALICE.getId()));
+    }
+
+    @Test
+    void deleteAll_ShouldNotJournalWhenNothingWasDeleted() {
+        assertEquals(List.of(false), service.deleteAll(List.of(delete("Carol"))));
+
+        verify(journal, never()).deletedAll(any());
+    }
+
+    @Test
+    void deleteAll_ShouldPutEmployeesBackIfDeletesCannotBeJournaled() {
+        when(journal.deletedAll(anyList())).thenReturn(CompletableFuture.failedFuture(new IOException("Disk full")));
+
+        assertThrows(CompletionException.class, () -> service.deleteAll(List.of(delete("alice"), delete("bob"))));
+
+        assertEquals(new HashSet<>(List.of(ALICE, OTHER_ALICE, BOB)), new HashSet<>(store.findAll()));
+    }
+
+    @Test
+    void deleteAll_ShouldPutEmployeesBackAsTheOldestMatchesIfDeletesCannotBeJournaled() {
+        final var youngestAlice = employee("ALICE");
+        store.add(youngestAlice);
+        when(journal.deletedAll(anyList())).thenReturn(CompletableFuture.failedFuture(new IOException("Disk full")));
+
+        assertThrows(CompletionException.class, () -> service.deleteAll(List.of(delete("alice"), delete("alice"))));
+
+        assertEquals(List.of(ALICE, OTHER_ALICE, youngestAlice), store.search("alice", null, null, 10));
+    }
+
+    @Test
+    void delete_ShouldPutEmployeeBackAsTheOldestMatchIfDeleteCannotBeJournaled() {
+        when(journal.deleted(any())).thenReturn(CompletableFuture.failedFuture(new IOException("Disk full")));
+
+        assertThrows(CompletionException.class, () -> service.delete(delete("alice")));
+
+        assertEquals(3, store.size());
+        assertEquals(Optional.of(ALICE), store.removeByName("alice"));
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,311 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class MockEmployeeStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MockEmployeeStoreTest.class);
+    private static final int THREADS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void removeByName_ShouldRemoveOldestMatchIgnoringCase() {
+        final var first = employee("Alice");
+        final var second = employee("alice");
+        final var store = new MockEmployeeStore(List.of(first, employee("Bob"), second));
+
+        assertEquals(Optional.of(first), store.removeByName("ALICE"));
+        assertEquals(Optional.of(second), store.removeByName("Alice"));
+        assertEquals(Optional.empty(), store.removeByName("alice"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removeByName_ShouldSkipEmployeesAlreadyRemovedById() {
+        final var first = employee("Alice");
+        final var second = employee("Alice");
+        final var store = new MockEmployeeStore(List.of(first, second));
+
+        store.removeById(first.getId());
+
+        assertEquals(Optional.of(second), store.removeByName("Alice"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void search_ShouldListEmployeesWithTheSameNameOldestFirst() {
+        final var first = employee("Alice");
+        final var second = employee("ALICE");
+        final var third = employee("alice");
+        final var store = new MockEmployeeStore(List.of(first, employee("Bob"), second));
+        store.add(third);
+
+        assertEquals(List.of(first, second, third), store.search("alice", null, null, 10));
+        assertEquals(List.of(first, second), store.search("ALI", null, null, 2));
+    }
+
+    @Test
+    void restore_ShouldPutEmployeesBackAsTheOldestMatches() {
+        final var first = employee("Alice");
+        final var second = employee("alice");
+        final var third = employee("ALICE");
+        final var store = new MockEmployeeStore(List.of(first, second, third));
+
+        final var taken = store.removeAllByName(List.of("Alice", "Alice")).stream()
+                .flatMap(Optional::stream)
+                .toList();
+        assertEquals(List.of(first, second), taken);
+        store.restore(taken);
+
+        assertEquals(List.of(first, second, third), store.search("alice", null, null, 10));
+        assertEquals(Optional.of(first), store.removeByName("alice"));
+        assertEquals(Optional.of(second), store.removeByName("alice"));
+        assertEquals(Optional.of(third), store.removeByName("alice"));
+    }
+
+    @Test
+    void snapshot_ShouldSeeEachCompletedWrite() {
+        final var alice = employee("Alice");
+        final var bob = employee("Bob");
+        final var store = new MockEmployeeStore(List.of(alice));
+
+        store.addAll(List.of(bob));
+        assertEquals(new HashSet<>(List.of(alice, bob)), new HashSet<>(store.snapshot().employees()));
+
+        store.removeByName("alice");
+        assertEquals(List.of(bob), store.snapshot().employees());
+
+        store.restore(List.of(alice));
+        assertEquals(new HashSet<>(List.of(alice, bob)), new HashSet<>(store.snapshot().employees()));
+
+        store.removeById(bob.getId());
+        assertEquals(List.of(alice), store.findAll());
+    }
+
+    @Test
+    void snapshot_ShouldOnlyBeCopiedAfterChanges() {
+        final var store = new MockEmployeeStore(List.of(employee("Alice")));
+
+        final var snapshot = store.snapshot();
+        assertSame(snapshot, store.snapshot());
+
+        store.add(employee("Bob"));
+        final var changed = store.snapshot();
+        assertTrue(changed.version() > snapshot.version());
+        assertEquals(2, changed.employees().size());
+        assertEquals(1, snapshot.employees().size());
+    }
+
+    @Test
+    void emptyBatches_ShouldNotInvalidateSnapshot() {
+        final var store = new MockEmployeeStore(List.of(employee("Alice")));
+        final var snapshot = store.snapshot();
+
+        store.addAll(List.of());
+        assertEquals(List.of(Optional.empty()), store.removeAllByName(List.of("Bob")));
+
+        assertSame(snapshot, store.snapshot());
+    }
+
+    @Test
+    void removeByName_ShouldRemoveEachEmployeeOnceUnderConcurrentDeletes() throws Exception {
+        final var count = 20_000;
+        final var alices = IntStream.range(0, count).mapToObj(i -> employee("Alice")).toList();
+        final var bob = employee("Bob");
+        final var store = new MockEmployeeStore(concat(alices, List.of(bob)));
+
+        // Every thread deletes by name until there is nothing left; some also delete the same employees by ID.
+        final var removed = runConcurrently(thread -> {
+            final var mine = new ArrayList<MockEmployee>();
+            while (true) {
+                if (thread % 4 == 0) {
+                    store.removeById(alices.get(ThreadLocalRandom.current().nextInt(count)).getId())
+                            .ifPresent(mine::add);
+                }
+                final var next = store.removeByName(thread % 2 == 0 ? "alice" : "ALICE");
+                if (next.isEmpty()) {
+                    return mine;
+                }
+                mine.add(next.get());
+            }
+        });
+
+        final var ids = new HashSet<UUID>();
+        removed.forEach(mine -> mine.forEach(employee -> assertTrue(ids.add(employee.getId()), "removed twice")));
+        assertEquals(count, ids.size());
+        assertEquals(List.of(bob), store.findAll());
+    }
+
+    @Test
+    void snapshot_ShouldSeeEveryCompletedWriteAndNoHalfBatches() throws Exception {
+        final var store = new MockEmployeeStore(List.of());
+        final var done = new AtomicBoolean();
+        final var writers = THREADS / 2;
+
+        final var failures = runConcurrently(thread -> {
+            final var problems = new ArrayList<String>();
+            if (thread < writers) {
+                for (int i = 0; i < 2_000; i++) {
+                    final var single = employee("single-" + thread + "-" + i);
+                    store.add(single);
+                    if (!store.findAll().contains(single)) {
+                        problems.add("missing own write " + single.getName());
+                    }
+                    if (i % 10 == 0) {
+                        final var pair = "pair-" + thread + "-" + i;
+                        store.addAll(List.of(employee(pair), employee(pair)));
+                    }
+                    if (i % 3 == 0) {
+                        store.removeByName(single.getName());
+                    }
+                }
+                done.set(true);
+            } else {
+                while (!done.get()) {
+                    final var pairs = new ConcurrentHashMap<String, Integer>();
+                    store.findAll().stream()
+                            .filter(employee -> employee.getName().startsWith("pair-"))
+                            .forEach(employee -> pairs.merge(employee.getName(), 1, Integer::sum));
+                    pairs.forEach((name, seen) -> {
+                        if (seen != 2) {
+                            problems.add("half of batch " + name);
+                        }
+                    });
+                }
+            }
+            return problems;
+        });
+
+        failures.forEach(problems -> assertEquals(List.of(), problems));
+        final var all = store.findAll();
+        assertEquals(store.size(), all.size());
+        assertEquals(all.size(), new HashSet<>(all).size());
+    }
+
+    /**
+     * Reads take no locks while the directory is unchanged, so read throughput should grow with every core.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmark_ReadThroughputScalesWithCores() throws Exception {
+        final var employees = IntStream.range(0, 100_000).mapToObj(i -> employee("Employee " + i)).toList();
+        final var store = new MockEmployeeStore(employees);
+        final var cores = Runtime.getRuntime().availableProcessors();
+
+        final var single = readsPerSecond(store, employees, 1);
+        for (int threads = 2; threads <= cores; threads *= 2) {
+            final var parallel = readsPerSecond(store, employees, threads);
+            final var speedup = parallel / single;
+            log.info("{} readers: {} reads/s, {}x one reader", threads, (long) parallel, "%.2f".formatted(speedup));
+            assertTrue(speedup >= threads * 0.7, threads + " readers only sped reads up " + speedup + "x");
+        }
+    }
+
+    private static double readsPerSecond(MockEmployeeStore store, List<MockEmployee> employees, int threads)
+            throws Exception {
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            final var reads = new LongAdder();
+            final var start = new CountDownLatch(1);
+            final var stopAt = new long[1];
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final var random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < stopAt[0]) {
+                        for (int i = 0; i < 1_000; i++) {
+                            store.findById(employees.get(random.nextInt(employees.size())).getId());
+                        }
+                        store.findAll();
+                        reads.add(1_001);
+                    }
+                    return null;
+                }));
+            }
+            final var duration = TimeUnit.SECONDS.toNanos(2);
+            stopAt[0] = System.nanoTime() + duration;
+            start.countDown();
+            for (final var future : futures) {
+                future.get();
+            }
+            return reads.sum() * 1e9 / duration;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PerThread<T> {
+        T run(int thread) throws Exception;
+    }
+
+    /**
+     * Starts {@value #THREADS} threads at once, each running {@code task} with its own number.
+     */
+    private <T> List<T> runConcurrently(PerThread<T> task) throws Exception {
+        final var start = new CountDownLatch(1);
+        final var futures = new ArrayList<Future<T>>();
+        for (int t = 0; t < THREADS; t++) {
+            final var thread = t;
+            futures.add(executor.submit((Callable<T>) () -> {
+                start.await();
+                return task.run(thread);
+            }));
+        }
+        start.countDown();
+        final var results = new ArrayList<T>();
+        for (final var future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static List<MockEmployee> concat(List<MockEmployee> first, List<MockEmployee> second) {
+        final var all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(ThreadLocalRandom.current().nextInt(10_000, 500_000))
+                .age(ThreadLocalRandom.current().nextInt(16, 75))
+                .title("Engineer")
+                .email(UUID.randomUUID() + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final byte[] BODY =
+            "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\"}]}".getBytes(StandardCharsets.UTF_8);
+
+    private final FaultInjectionConfig config = new FaultInjectionConfig();
+    private final AtomicInteger handled = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> {
+        handled.incrementAndGet();
+        response.setContentType("application/json");
+        response.getOutputStream().write(BODY);
+    };
+
+    @Test
+    void doFilter_ShouldPassRequestsMatchingNoProfileThrough() throws ServletException, IOException {
+        profile("GET", "/api/v1/employee/**").setErrorRate(1);
+
+        final var response = perform(new MockHttpServletRequest("POST", "/api/v1/employee"));
+
+        assertEquals(1, handled.get());
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_ShouldApplyFirstMatchingProfileOnly() throws ServletException, IOException {
+        final var search = profile("GET", "/api/v1/employee/search");
+        search.setErrorRate(1);
+        search.setErrorStatus(500);
+        profile(null, "/api/v1/employee/**").setErrorRate(1);
+
+        assertEquals(500, perform(new MockHttpServletRequest("GET", "/api/v1/employee/search")).getStatus());
+        assertEquals(503, perform(new MockHttpServletRequest("DELETE", "/api/v1/employee/1")).getStatus());
+        assertEquals(0, handled.get());
+    }
+
+    @Test
+    void doFilter_ShouldAnswerWithInjectedError() throws ServletException, IOException {
+        profile(null, null).setErrorRate(1);
+
+        final var response = perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        assertEquals(0, handled.get());
+        assertEquals(503, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Injected fault"), response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldTrickleOutSlowBodyInFull() throws ServletException, IOException {
+        final var profile = profile(null, null);
+        profile.setSlowBodyRate(1);
+        profile.setSlowBodyChunkBytes(4);
+        profile.setSlowBodyChunkDelay(Duration.ZERO);
+
+        final var response = perform(new MockHttpServletRequest("GET", "/api/v1/employee"));
+
+        assertEquals(1, handled.get());
+        assertEquals(BODY.length, response.getContentLength());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_ShouldAbortPartialBodyAndCloseConnection() {
+        profile(null, null).setPartialBodyRate(1);
+        final var response = new MockHttpServletResponse();
+
+        assertThrows(IOException.class, () -> filter()
+                .doFilter(new MockHttpServletRequest("GET", "/api/v1/employee"), response, chain));
+
+        final var written = response.getContentAsByteArray();
+        assertTrue(written.length < BODY.length, "wrote " + written.length + " bytes");
+        assertArrayEquals(Arrays.copyOf(BODY, written.length), written);
+        assertEquals(BODY.length, response.getContentLength());
+        assertEquals("close", response.getHeader("Connection"));
+        assertTrue(response.isCommitted());
+    }
+
+    @Test
+    void doFilter_ShouldNotAnnounceLengthOfBodiesThatMayBeGzipped() throws ServletException, IOException {
+        final var profile = profile(null, null);
+        profile.setSlowBodyRate(1);
+        profile.setSlowBodyChunkDelay(Duration.ZERO);
+
+        final var gzip = new MockHttpServletRequest("GET", "/api/v1/employee");
+        gzip.addHeader("Accept-Encoding", "deflate, GZIP;q=0.5");
+        final var noGzip = new MockHttpServletRequest("GET", "/api/v1/employee");
+        noGzip.addHeader("Accept-Encoding", "deflate, gzip;q=0");
+
+        assertNull(perform(gzip).getHeader("Content-Length"));
+        assertEquals(BODY.length, perform(noGzip).getContentLength());
+    }
+
+    @Test
+    void new_ShouldRejectInvalidRates() {
+        final var profile = profile(null, null);
+        profile.setSlowBodyRate(0.6);
+        profile.setPartialBodyRate(0.5);
+
+        assertThrows(IllegalArgumentException.class, this::filter);
+
+        profile.setPartialBodyRate(0.4);
+        profile.setErrorRate(-0.1);
+
+        assertThrows(IllegalArgumentException.class, this::filter);
+    }
+
+    private FaultInjectionConfig.Profile profile(String method, String path) {
+        final var profile = new FaultInjectionConfig.Profile();
+        profile.setMethod(method);
+        profile.setPath(path);
+        config.getProfiles().add(profile);
+        return profile;
+    }
+
+    private FaultInjectionFilter filter() {
+        return new FaultInjectionFilter(config, new ObjectMapper(), 42);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws ServletException, IOException {
+        final var response = new MockHttpServletResponse();
+        filter().doFilter(request, response, chain);
+        return response;
+    }
+}
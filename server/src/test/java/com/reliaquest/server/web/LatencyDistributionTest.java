@@ -0,0 +1,84 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.config.FaultInjectionConfig;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void logNormal_ShouldBeCalibratedToMedianAndP99() {
+        final var samples = sample(latency(LatencyDistribution.LOG_NORMAL, 0, 20, 500, 0));
+
+        assertEquals(1.0, samples[SAMPLES / 2] / (double) millis(20), 0.05);
+        assertEquals(1.0, samples[SAMPLES * 99 / 100] / (double) millis(500), 0.05);
+    }
+
+    @Test
+    void logNormal_ShouldNotExceedMax() {
+        final var samples = sample(latency(LatencyDistribution.LOG_NORMAL, 0, 20, 500, 100));
+
+        assertEquals(millis(100), samples[SAMPLES - 1]);
+        assertEquals(1.0, samples[SAMPLES / 2] / (double) millis(20), 0.05);
+    }
+
+    @Test
+    void logNormal_ShouldBeFixedWithoutLongerP99() {
+        final var samples = sample(latency(LatencyDistribution.LOG_NORMAL, 0, 20, 0, 0));
+
+        assertEquals(millis(20), samples[0]);
+        assertEquals(millis(20), samples[SAMPLES - 1]);
+    }
+
+    @Test
+    void uniform_ShouldSpreadBetweenMinAndMax() {
+        final var samples = sample(latency(LatencyDistribution.UNIFORM, 10, 0, 0, 30));
+
+        final var lowest = samples[0];
+        final var highest = samples[SAMPLES - 1];
+        assertTrue(lowest >= millis(10) && lowest < millis(11), "lowest " + lowest);
+        assertTrue(highest < millis(30) && highest >= millis(29), "highest " + highest);
+        assertEquals(1.0, samples[SAMPLES / 2] / (double) millis(20), 0.05);
+    }
+
+    @Test
+    void fixedAndNone_ShouldAlwaysDelayTheSame() {
+        assertEquals(millis(20), sample(latency(LatencyDistribution.FIXED, 0, 20, 500, 0))[0]);
+        assertEquals(0, sample(latency(LatencyDistribution.NONE, 10, 20, 500, 30))[SAMPLES - 1]);
+    }
+
+    /**
+     * @return {@value #SAMPLES} samples, sorted
+     */
+    private static long[] sample(FaultInjectionConfig.Latency latency) {
+        final var random = new SplittableRandom(42);
+        final var samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = latency.getDistribution().sample(latency, random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static FaultInjectionConfig.Latency latency(
+            LatencyDistribution distribution, long min, long median, long p99, long max) {
+        final var latency = new FaultInjectionConfig.Latency();
+        latency.setDistribution(distribution);
+        latency.setMin(Duration.ofMillis(min));
+        latency.setMedian(Duration.ofMillis(median));
+        latency.setP99(Duration.ofMillis(p99));
+        latency.setMax(Duration.ofMillis(max));
+        return latency;
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.reliaquest.server.config.RateLimitConfig;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class TokenBucketRequestLimitInterceptorTest {
+
+    private static final String BY_ID = "/api/v1/employee/{id}";
+    private static final String ALL = "/api/v1/employee";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RateLimitConfig config;
+    private TokenBucketRequestLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        config.getDefaults().setRequests(2);
+        config.getDefaults().setPeriod(Duration.ofSeconds(10));
+        final var byId = new RateLimitConfig.RouteLimit();
+        byId.setMethod("GET");
+        byId.setPath(BY_ID);
+        byId.setRequests(3);
+        byId.setPeriod(Duration.ofSeconds(30));
+        config.getRoutes().add(byId);
+        final var batch = new RateLimitConfig.Limit();
+        batch.setRequests(1);
+        batch.setPeriod(Duration.ofMinutes(1));
+        config.getClients().put("batch-job", batch);
+        interceptor = new TokenBucketRequestLimitInterceptor(config, nanos::get);
+    }
+
+    @Test
+    void preHandle_ShouldTellAllowedRequestsWhereTheyStand() {
+        final var response = perform("GET", ALL, "alice");
+
+        assertEquals(200, response.getStatus());
+        assertEquals("2", response.getHeader("RateLimit-Limit"));
+        assertEquals("1", response.getHeader("RateLimit-Remaining"));
+        assertEquals("5", response.getHeader("RateLimit-Reset"));
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void preHandle_ShouldRejectRequestsOverLimitWithRetryAfter() {
+        perform("GET", ALL, "alice");
+        perform("GET", ALL, "alice");
+        nanos.set(TimeUnit.MILLISECONDS.toNanos(1_500));
+
+        final var response = perform("GET", ALL, "alice");
+
+        assertEquals(429, response.getStatus());
+        assertEquals("0", response.getHeader("RateLimit-Remaining"));
+        assertEquals("9", response.getHeader("RateLimit-Reset"));
+        // 3.5 seconds, rounded up so that coming back on time is never too early.
+        assertEquals("4", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void preHandle_ShouldKeepBucketPerClient() {
+        perform("GET", ALL, "alice");
+        perform("GET", ALL, "alice");
+
+        assertEquals(429, perform("GET", ALL, "alice").getStatus());
+        assertEquals(200, perform("GET", ALL, "bob").getStatus());
+        assertEquals(200, perform("GET", ALL, null).getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldLimitClientsWithoutKeyByRemoteAddress() {
+        perform("GET", ALL, null);
+        perform("GET", ALL, null);
+
+        assertEquals(429, perform("GET", ALL, null).getStatus());
+        final var otherAddress = request("GET", ALL, null);
+        otherAddress.setRemoteAddr("10.0.0.2");
+        assertEquals(200, perform(otherAddress).getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldCountConfiguredRoutesApart() {
+        perform("GET", ALL, "alice");
+        perform("GET", ALL, "alice");
+
+        final var byId = perform("GET", BY_ID, "alice");
+
+        assertEquals(200, byId.getStatus());
+        assertEquals("3", byId.getHeader("RateLimit-Limit"));
+        assertEquals("2", byId.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    void preHandle_ShouldOnlyMatchRoutesOfConfiguredMethod() {
+        final var response = perform("DELETE", BY_ID, "alice");
+
+        assertEquals("2", response.getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    void preHandle_ShouldPreferClientLimitOverRouteLimit() {
+        final var response = perform("GET", BY_ID, "batch-job");
+
+        assertEquals("1", response.getHeader("RateLimit-Limit"));
+        assertEquals(429, perform("GET", BY_ID, "batch-job").getStatus());
+    }
+
+    @Test
+    void preHandle_ShouldDropBucketsOnceFullAgain() {
+        perform("GET", ALL, "alice");
+        perform("GET", BY_ID, "bob");
+        assertEquals(2, interceptor.bucketCount());
+
+        // The longest configured period is the batch-job client's minute.
+        nanos.set(TimeUnit.MINUTES.toNanos(1) + 1);
+
+        assertEquals(0, interceptor.bucketCount());
+    }
+
+    @Test
+    void preHandle_ShouldKeepBoundedNumberOfBuckets() {
+        for (int i = 0; i < TokenBucketRequestLimitInterceptor.MAX_BUCKETS * 2; i++) {
+            perform("GET", ALL, "client-" + i);
+        }
+
+        assertEquals(TokenBucketRequestLimitInterceptor.MAX_BUCKETS, interceptor.bucketCount());
+    }
+
+    private MockHttpServletResponse perform(String method, String pattern, String clientKey) {
+        return perform(request(method, pattern, clientKey));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) {
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String pattern, String clientKey) {
+        final var request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        if (clientKey != null) {
+            request.addHeader(config.getClientKeyHeader(), clientKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstOfCapacity() {
+        final var bucket = new TokenBucket(5, Duration.ofSeconds(1), 0);
+
+        for (long remaining = 4; remaining >= 0; remaining--) {
+            final var decision = bucket.tryAcquire(0);
+            assertTrue(decision.allowed());
+            assertEquals(5, decision.limit());
+            assertEquals(remaining, decision.remaining());
+        }
+        assertFalse(bucket.tryAcquire(0).allowed());
+    }
+
+    @Test
+    void tryAcquire_ShouldTellRejectedRequestWhenTokenAndFullBucketAreBack() {
+        final var bucket = new TokenBucket(5, Duration.ofSeconds(1), 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        final var decision = bucket.tryAcquire(SECOND / 20);
+
+        assertFalse(decision.allowed());
+        assertEquals(0, decision.remaining());
+        assertEquals(Duration.ofMillis(150), decision.retryAfter());
+        assertEquals(Duration.ofMillis(950), decision.reset());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillOneTokenPerInterval() {
+        final var bucket = new TokenBucket(5, Duration.ofSeconds(1), 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        assertFalse(bucket.tryAcquire(SECOND / 5 - 1).allowed());
+        final var decision = bucket.tryAcquire(SECOND / 5);
+        assertTrue(decision.allowed());
+        assertEquals(0, decision.remaining());
+        assertEquals(Duration.ofSeconds(1), decision.reset());
+    }
+
+    @Test
+    void tryAcquire_ShouldNotRefillBeyondCapacity() {
+        final var bucket = new TokenBucket(5, Duration.ofSeconds(1), 0);
+        bucket.tryAcquire(0);
+
+        final var decision = bucket.tryAcquire(60 * SECOND);
+
+        assertEquals(4, decision.remaining());
+        assertEquals(Duration.ofMillis(200), decision.reset());
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverAdmitMoreThanCapacityUnderContention() throws Exception {
+        final var bucket = new TokenBucket(1_000, Duration.ofSeconds(1), 0);
+        final var threads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        try {
+            final var admitted = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < threads; t++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    var count = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (bucket.tryAcquire(0).allowed()) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+
+            var total = 0;
+            for (final var future : admitted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1_000, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void new_ShouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, Duration.ofSeconds(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(5, Duration.ZERO, 0));
+    }
+}